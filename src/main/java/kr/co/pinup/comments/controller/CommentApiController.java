@@ -1,11 +1,16 @@
 package kr.co.pinup.comments.controller;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import kr.co.pinup.comments.model.dto.CommentItemResponse;
 import kr.co.pinup.comments.model.dto.CommentResponse;
 import kr.co.pinup.comments.model.dto.CreateCommentRequest;
 import kr.co.pinup.comments.service.CommentService;
 import kr.co.pinup.custom.loginMember.LoginMember;
+import kr.co.pinup.custom.pagination.CursorPageResponse;
 import kr.co.pinup.members.model.dto.MemberInfo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,6 +29,14 @@ public class CommentApiController {
 
     private final CommentService commentService;
 
+    @GetMapping("/{postId}")
+    public CursorPageResponse<CommentItemResponse> getComments(@PathVariable @Positive Long postId,
+                                                               @RequestParam(required = false) @PositiveOrZero Long after,
+                                                               @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        log.debug("댓글 페이지 API 호출: postId={}, after={}, size={}", postId, after, size);
+        return commentService.getComments(postId, after, size);
+    }
+
     @PreAuthorize("isAuthenticated() and (hasRole('ROLE_USER') or hasRole('ROLE_ADMIN'))")
     @DeleteMapping("/{commentId}")
     public ResponseEntity<Void> deleteComment(@PathVariable @Positive Long commentId) {
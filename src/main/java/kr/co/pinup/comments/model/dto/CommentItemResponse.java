@@ -0,0 +1,15 @@
+package kr.co.pinup.comments.model.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 목록 한 항목. 작성자는 닉네임만 담아 회원 엔티티를 읽거나 직렬화하지 않는다.
+ */
+public record CommentItemResponse(
+        Long id,
+        Long postId,
+        String nickname,
+        String content,
+        LocalDateTime createdAt
+) {
+}
@@ -1,18 +1,38 @@
 package kr.co.pinup.comments.repository;
 
 import kr.co.pinup.comments.Comment;
-import kr.co.pinup.comments.model.dto.CommentResponse;
+import kr.co.pinup.comments.model.dto.CommentItemResponse;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-    List<CommentResponse> findByPostId(Long postId);
+    // 작성자 닉네임만 한 번의 조인으로 읽고, 댓글 ID 키셋으로 다음 페이지를 이어 읽는다.
+    @Query("""
+            SELECT new kr.co.pinup.comments.model.dto.CommentItemResponse(c.id, c.post.id, m.nickname, c.content, c.createdAt)
+            FROM Comment c
+            JOIN c.member m
+            WHERE c.post.id = :postId
+              AND c.id > :afterId
+            ORDER BY c.id
+            """)
+    List<CommentItemResponse> findItemsByPostId(
+            @Param("postId") Long postId,
+            @Param("afterId") long afterId,
+            Pageable pageable
+    );
 
     void deleteById(Long id);
 
     int countByPostId(Long id);
+
+    @Query("SELECT c.post.id FROM Comment c WHERE c.id = :id")
+    Optional<Long> findPostIdById(@Param("id") Long id);
 }
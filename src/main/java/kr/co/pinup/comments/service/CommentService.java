@@ -3,24 +3,33 @@ package kr.co.pinup.comments.service;
 import jakarta.transaction.Transactional;
 import kr.co.pinup.comments.Comment;
 import kr.co.pinup.comments.exception.comment.CommentNotFoundException;
+import kr.co.pinup.comments.model.dto.CommentItemResponse;
 import kr.co.pinup.comments.model.dto.CommentResponse;
 import kr.co.pinup.comments.model.dto.CreateCommentRequest;
 import kr.co.pinup.comments.repository.CommentRepository;
 import kr.co.pinup.custom.logging.AppLogger;
 import kr.co.pinup.custom.logging.model.dto.InfoLog;
 import kr.co.pinup.custom.logging.model.dto.WarnLog;
+import kr.co.pinup.custom.pagination.CursorPageResponse;
+import kr.co.pinup.custom.version.AggregateVersionRegistry;
 import kr.co.pinup.members.Member;
 import kr.co.pinup.members.exception.MemberNotFoundException;
 import kr.co.pinup.members.model.dto.MemberInfo;
 import kr.co.pinup.members.repository.MemberRepository;
 import kr.co.pinup.posts.Post;
+import kr.co.pinup.posts.event.PostEngagedEvent;
 import kr.co.pinup.posts.exception.post.PostNotFoundException;
 import kr.co.pinup.posts.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.function.Function;
+
+import static kr.co.pinup.custom.version.AggregateType.POST;
 
 @Slf4j
 @Service
@@ -32,11 +41,19 @@ public class CommentService  {
     private final PostRepository postRepository;
     private final MemberRepository memberRepository;
     private final AppLogger appLogger;
+    private final AggregateVersionRegistry versionRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
 
+    /**
+     * after 보다 ID 가 큰 댓글을 오래된 순으로 size 개 읽는다. after 가 없으면 처음부터 읽는다.
+     */
+    public CursorPageResponse<CommentItemResponse> getComments(Long postId, Long after, int size) {
+        List<CommentItemResponse> comments = commentRepository.findItemsByPostId(
+                postId, after != null ? after : 0L, PageRequest.ofSize(size + 1));
+        log.debug("댓글 페이지 조회: postId={}, after={}, fetched={}", postId, after, comments.size());
 
-    public List<CommentResponse> findByPostId(Long postId) {
-        log.debug("댓글 조회 호출: postId={}", postId);
-        return commentRepository.findByPostId(postId);
+        return CursorPageResponse.of(comments, size, Function.identity(), comment -> comment.id().toString());
     }
 
 
@@ -50,6 +67,14 @@ public class CommentService  {
             throw new CommentNotFoundException("댓글을 찾을 수 없습니다.");
         }
 
+        commentRepository.findPostIdById(commentId)
+                .ifPresent(postId -> {
+                    postRepository.decreaseCommentCount(postId);
+                    versionRegistry.bump(POST, postId);
+                    postRepository.findStoreIdById(postId)
+                            .ifPresent(storeId -> eventPublisher.publishEvent(
+                                    PostEngagedEvent.commented(postId, storeId, -1)));
+                });
         commentRepository.deleteById(commentId);
 
         appLogger.info(new InfoLog("댓글 삭제 성공")
@@ -72,6 +97,10 @@ public class CommentService  {
                 .build();
 
         Comment savedComment = commentRepository.save(comment);
+        // 엔티티 값을 고치지 않고 DB 에서 바로 더해 동시에 달린 댓글 수가 유실되지 않게 한다.
+        postRepository.increaseCommentCount(postId);
+        versionRegistry.bump(POST, postId);
+        eventPublisher.publishEvent(PostEngagedEvent.commented(postId, post.getStore().getId(), 1));
         appLogger.info(new InfoLog("댓글 생성 성공")
                 .setStatus("201")
                 .setTargetId(savedComment.getId().toString())
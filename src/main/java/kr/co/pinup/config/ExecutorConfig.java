@@ -0,0 +1,42 @@
+package kr.co.pinup.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 작업별 스레드 풀. 이름으로만 주입받도록 기본 후보에서 빼 두어 스프링 부트의 applicationTaskExecutor 를 대신하지 않는다.
+ * 컨텍스트가 닫힐 때 스프링이 풀을 정리한다.
+ */
+@Configuration
+public class ExecutorConfig {
+
+    public static final String STORE_IMPORT_EXECUTOR = "storeImportExecutor";
+    public static final String S3_UPLOAD_EXECUTOR = "s3UploadExecutor";
+
+    // 스토어 일괄 등록의 주소 좌표 조회와 이미지 업로드
+    @Bean(name = STORE_IMPORT_EXECUTOR, defaultCandidate = false)
+    public ThreadPoolTaskExecutor storeImportExecutor(
+            @Value("${pinup.store.import.concurrency:8}") final int concurrency
+    ) {
+        return fixedPool("store-import-", concurrency);
+    }
+
+    // 한 요청의 이미지를 동시에 올리는 S3 업로드
+    @Bean(name = S3_UPLOAD_EXECUTOR, defaultCandidate = false)
+    public ThreadPoolTaskExecutor s3UploadExecutor(
+            @Value("${pinup.s3.upload.concurrency:4}") final int concurrency
+    ) {
+        return fixedPool("s3-upload-", concurrency);
+    }
+
+    private static ThreadPoolTaskExecutor fixedPool(final String threadNamePrefix, final int size) {
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(size);
+        executor.setMaxPoolSize(size);
+        executor.setDaemon(true);
+        return executor;
+    }
+}
@@ -0,0 +1,32 @@
+package kr.co.pinup.config;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * 테이블은 아직 Hibernate(ddl-auto)가 만들기 때문에, 마이그레이션은 EntityManagerFactory 가 뜬 뒤에 실행한다.
+ * 기본 설정은 db/flyway.properties 에 있으며 application.yml 의 spring.flyway.* 로 덮어쓸 수 있다.
+ */
+@Configuration
+@PropertySource("classpath:db/flyway.properties")
+public class FlywayConfig {
+
+    // 스프링 부트가 JPA 보다 먼저 실행하는 마이그레이션은 건너뛴다.
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy() {
+        return flyway -> {
+        };
+    }
+
+    @Bean
+    @DependsOn("entityManagerFactory")
+    public InitializingBean flywayMigrationAfterJpa(final ObjectProvider<Flyway> flyway) {
+        return () -> flyway.ifAvailable(Flyway::migrate);
+    }
+}
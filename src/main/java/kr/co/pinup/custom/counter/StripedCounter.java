@@ -0,0 +1,51 @@
+package kr.co.pinup.custom.counter;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 키별 증감량을 LongAdder 로 누적하는 카운터.
+ * 쓰기 스레드끼리 경합하지 않으며, drain() 으로 누적된 값을 꺼내고 0으로 되돌린다.
+ * 꺼내는 도중 들어온 증감은 다음 drain() 에 포함되므로 유실되지 않는다.
+ */
+public class StripedCounter {
+
+    private final ConcurrentHashMap<Long, LongAdder> counters = new ConcurrentHashMap<>();
+
+    public void increment(final Long key) {
+        add(key, 1L);
+    }
+
+    public void add(final Long key, final long delta) {
+        counters.computeIfAbsent(key, ignored -> new LongAdder())
+                .add(delta);
+    }
+
+    public long get(final Long key) {
+        final LongAdder adder = counters.get(key);
+        return adder == null ? 0L : adder.sum();
+    }
+
+    /**
+     * 0 이 아닌 누적값만 꺼낸다.
+     * 키를 지우면 동시에 증가 중인 값이 유실될 수 있으므로 키는 남겨두고 값만 초기화한다.
+     */
+    public Map<Long, Long> drain() {
+        final Map<Long, Long> drained = new HashMap<>();
+        counters.forEach((key, adder) -> {
+            final long delta = adder.sumThenReset();
+            if (delta != 0L) {
+                drained.put(key, delta);
+            }
+        });
+
+        return Collections.unmodifiableMap(drained);
+    }
+
+    public void addAll(final Map<Long, Long> deltas) {
+        deltas.forEach(this::add);
+    }
+}
@@ -0,0 +1,146 @@
+package kr.co.pinup.custom.counter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 행별 증감을 메모리에 모았다가 flush 할 때 한 번의 배치 UPDATE 로 반영한다.
+ * updateSql 은 (증감, ID) 순서의 파라미터 두 개를 받는다. 반영하지 못한 증감은 되돌려 두고 다음 flush 에서 다시 시도한다.
+ * 반영에 성공하면 onFlushed 에 갱신한 ID 를 넘긴다. 각 UPDATE 는 자동 커밋되므로 이미 커밋된 뒤에 호출된다.
+ * 주기 실행과 종료 시 반영은 이 카운터를 쓰는 쪽에서 스케줄링한다.
+ */
+@Slf4j
+public class WriteBehindCounter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String updateSql;
+    private final String name;
+    private final Consumer<Set<Long>> onFlushed;
+
+    private final StripedCounter pending = new StripedCounter();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // 반영되지 않은 증감 중 가장 먼저 쌓인 시각. 없으면 0.
+    private final AtomicLong oldestPendingAt = new AtomicLong();
+
+    private final Counter recordedCounter;
+    private final Counter flushFailureCounter;
+    private final DistributionSummary flushSizeSummary;
+    private final Timer flushTimer;
+
+    /**
+     * @param metricPrefix 지표 이름 앞부분. recorded, flush.failures, flush.size, flush.duration, flush.lag 를 붙여 등록한다.
+     * @param name         로그에 남길 대상 이름
+     */
+    public WriteBehindCounter(
+            final JdbcTemplate jdbcTemplate,
+            final MeterRegistry meterRegistry,
+            final String metricPrefix,
+            final String updateSql,
+            final String name
+    ) {
+        this(jdbcTemplate, meterRegistry, metricPrefix, updateSql, name, ids -> {
+        });
+    }
+
+    public WriteBehindCounter(
+            final JdbcTemplate jdbcTemplate,
+            final MeterRegistry meterRegistry,
+            final String metricPrefix,
+            final String updateSql,
+            final String name,
+            final Consumer<Set<Long>> onFlushed
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.updateSql = updateSql;
+        this.name = name;
+        this.onFlushed = onFlushed;
+
+        recordedCounter = Counter.builder(metricPrefix + ".recorded")
+                .description("기록된 " + name + " 증감 횟수")
+                .register(meterRegistry);
+        flushFailureCounter = Counter.builder(metricPrefix + ".flush.failures")
+                .register(meterRegistry);
+        flushSizeSummary = DistributionSummary.builder(metricPrefix + ".flush.size")
+                .description("한 번의 반영에서 갱신한 행 수")
+                .register(meterRegistry);
+        flushTimer = Timer.builder(metricPrefix + ".flush.duration")
+                .register(meterRegistry);
+        Gauge.builder(metricPrefix + ".flush.lag", this, WriteBehindCounter::flushLagMillis)
+                .description("반영되지 않은 " + name + " 증감 중 가장 오래된 것의 대기 시간")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    public void add(final Long id, final long delta) {
+        pending.add(id, delta);
+        recordedCounter.increment();
+        oldestPendingAt.compareAndSet(0L, System.currentTimeMillis());
+    }
+
+    public long pending(final Long id) {
+        return pending.get(id);
+    }
+
+    public void flush() {
+        flushLock.lock();
+        try {
+            // 먼저 비워 두어야 drain 중에 들어온 증감의 대기 시각이 남는다.
+            final long pendingSince = oldestPendingAt.getAndSet(0L);
+            final Map<Long, Long> deltas = pending.drain();
+            if (deltas.isEmpty()) {
+                return;
+            }
+
+            final long startedAt = System.nanoTime();
+            boolean flushed = false;
+            try {
+                final List<Object[]> batchArgs = deltas.entrySet().stream()
+                        .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                        .toList();
+                jdbcTemplate.batchUpdate(updateSql, batchArgs);
+
+                flushed = true;
+                flushSizeSummary.record(deltas.size());
+                log.debug("{} 반영 rows={}", name, deltas.size());
+            } catch (RuntimeException e) {
+                pending.addAll(deltas);
+                oldestPendingAt.accumulateAndGet(pendingSince, WriteBehindCounter::earlier);
+                flushFailureCounter.increment();
+                log.warn("{} 반영 실패 rows={}", name, deltas.size(), e);
+            } finally {
+                flushTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+
+            if (flushed) {
+                onFlushed.accept(deltas.keySet());
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    long flushLagMillis() {
+        final long since = oldestPendingAt.get();
+        return since == 0L ? 0L : System.currentTimeMillis() - since;
+    }
+
+    private static long earlier(final long current, final long since) {
+        if (current == 0L || since == 0L) {
+            return Math.max(current, since);
+        }
+        return Math.min(current, since);
+    }
+}
@@ -0,0 +1,28 @@
+package kr.co.pinup.custom.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorPageResponse<T>(
+        List<T> items,
+        String nextCursor,
+        boolean hasNext
+) {
+
+    /**
+     * size + 1 개를 조회한 결과로 다음 페이지 존재 여부를 판단한다.
+     * 마지막 항목으로 다음 페이지 커서를 만든다.
+     */
+    public static <E, T> CursorPageResponse<T> of(
+            final List<E> fetched,
+            final int size,
+            final Function<E, T> mapper,
+            final Function<E, String> cursorEncoder
+    ) {
+        final boolean hasNext = fetched.size() > size;
+        final List<E> page = hasNext ? fetched.subList(0, size) : fetched;
+        final String nextCursor = hasNext ? cursorEncoder.apply(page.get(page.size() - 1)) : null;
+
+        return new CursorPageResponse<>(page.stream().map(mapper).toList(), nextCursor, hasNext);
+    }
+}
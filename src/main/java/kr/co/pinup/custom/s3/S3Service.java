@@ -1,71 +1,136 @@
 package kr.co.pinup.custom.s3;
 
+import kr.co.pinup.config.ExecutorConfig;
 import kr.co.pinup.custom.logging.AppLogger;
 import kr.co.pinup.custom.logging.model.dto.ErrorLog;
 import kr.co.pinup.custom.logging.model.dto.InfoLog;
 import kr.co.pinup.custom.s3.exception.ImageDeleteFailedException;
 import kr.co.pinup.custom.s3.exception.ImageUploadException;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 
+/**
+ * 이미지를 S3 에 올리고 지운다.
+ * threshold-bytes 이상인 파일은 멀티파트 업로드로 part-size-bytes 씩 나눠 올린다. 파트 버퍼는 업로드마다 하나를 재사용하고
+ * 동시에 max-buffers 개까지만 잡으므로, 큰 파일이 몰려도 힙에 올라가는 양은 part-size-bytes * max-buffers 를 넘지 않는다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class S3Service {
 
+    // S3 는 마지막 파트를 뺀 모든 파트가 5MiB 이상이어야 한다(EntityTooSmall).
+    static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
     private final S3Client s3Client;
     private final AppLogger appLogger;
+    private final Executor uploadExecutor;
+    private final long multipartThreshold;
+    private final int partSize;
+    private final Semaphore partBuffers;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucketName;
 
+    public S3Service(
+            final S3Client s3Client,
+            final AppLogger appLogger,
+            @Qualifier(ExecutorConfig.S3_UPLOAD_EXECUTOR) final Executor uploadExecutor,
+            @Value("${pinup.s3.multipart.threshold-bytes:10485760}") final long multipartThreshold,
+            @Value("${pinup.s3.multipart.part-size-bytes:5242880}") final int partSize,
+            @Value("${pinup.s3.multipart.max-buffers:4}") final int maxBuffers
+    ) {
+        if (partSize < MIN_PART_SIZE) {
+            throw new IllegalArgumentException(
+                    "pinup.s3.multipart.part-size-bytes 는 " + MIN_PART_SIZE + " 이상이어야 합니다. partSize=" + partSize);
+        }
+        this.s3Client = s3Client;
+        this.appLogger = appLogger;
+        this.uploadExecutor = uploadExecutor;
+        this.multipartThreshold = multipartThreshold;
+        this.partSize = partSize;
+        this.partBuffers = new Semaphore(maxBuffers);
+    }
+
     public String uploadFile(MultipartFile file, String pathPrefix) {
-        String fileName = pathPrefix + "/" + UUID.randomUUID() + "_" + file.getOriginalFilename();
-        try {
-            try (InputStream inputStream = file.getInputStream()) {
-                PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                        .bucket(bucketName)
-                        .key(fileName)
-                        .contentType(file.getContentType())
-                        .build();
+        return putObject(newKey(pathPrefix, file.getOriginalFilename()), file);
+    }
 
-                s3Client.putObject(
-                        putObjectRequest,
-                        RequestBody.fromInputStream(inputStream, file.getSize())
-                );
+    public String uploadFile(InputStream inputStream, long size, String contentType, String originalFilename, String pathPrefix) {
+        return putObject(newKey(pathPrefix, originalFilename), inputStream, size, contentType);
+    }
 
-                String url = s3Client.utilities()
-                        .getUrl(builder -> builder.bucket(bucketName).key(fileName))
-                        .toString();
+    /**
+     * 한 요청의 파일들을 업로드 스레드 풀에서 동시에 올리고, 받은 순서대로 URL 을 반환한다.
+     * 하나라도 실패하면 남은 업로드를 취소하고 이미 올라간 파일은 지운 뒤 예외를 던진다.
+     */
+    public List<String> uploadFiles(List<MultipartFile> files, String pathPrefix) {
+        if (files.size() <= 1) {
+            return files.stream()
+                    .map(file -> uploadFile(file, pathPrefix))
+                    .toList();
+        }
 
-                appLogger.info(new InfoLog("이미지 업로드 성공")
-                        .setTargetId(fileName)
-                        .addDetails("url", url));
+        final UploadBatch batch = new UploadBatch(files.size());
+        final CompletionService<Integer> completionService = new ExecutorCompletionService<>(uploadExecutor);
+        final List<Future<Integer>> futures = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            final int index = i;
+            final MultipartFile file = files.get(i);
+            futures.add(completionService.submit(() -> {
+                final String key = newKey(pathPrefix, file.getOriginalFilename());
+                final String url = putObject(key, file);
+                if (!batch.complete(index, key, url)) {
+                    // 이미 다른 파일이 실패해 정리가 끝났으므로 늦게 올라간 파일은 직접 지운다.
+                    deleteQuietly(key);
+                }
+                return index;
+            }));
+        }
 
-                return url;
+        try {
+            for (int i = 0; i < files.size(); i++) {
+                completionService.take().get();
             }
-        } catch (IOException e) {
-            appLogger.error(new ErrorLog("파일 업로드 실패 (IO)", e)
-                    .setStatus("500")
-                    .addDetails("file", fileName));
-            throw new ImageUploadException("파일 업로드 실패", e);
-        } catch (Exception e) {
-            appLogger.error(new ErrorLog("파일 업로드 실패 (기타)", e)
-                    .setStatus("500")
-                    .addDetails("file", fileName));
-            throw new ImageUploadException("파일 업로드 중 예기치 않은 오류 발생", e);
+            return batch.urls();
+        } catch (ExecutionException e) {
+            abort(batch, futures);
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ImageUploadException("파일 업로드 중 예기치 않은 오류 발생", e.getCause());
+        } catch (InterruptedException e) {
+            abort(batch, futures);
+            Thread.currentThread().interrupt();
+            throw new ImageUploadException("파일 업로드가 중단되었습니다.", e);
         }
     }
 
@@ -95,5 +160,181 @@ public class S3Service {
         return urlParts[urlParts.length - 1];
     }
 
-}
+    private String newKey(String pathPrefix, String originalFilename) {
+        return pathPrefix + "/" + UUID.randomUUID() + "_" + originalFilename;
+    }
+
+    private String putObject(String fileName, MultipartFile file) {
+        try (InputStream inputStream = file.getInputStream()) {
+            return putObject(fileName, inputStream, file.getSize(), file.getContentType());
+        } catch (IOException e) {
+            appLogger.error(new ErrorLog("파일 업로드 실패 (IO)", e)
+                    .setStatus("500")
+                    .addDetails("file", file.getOriginalFilename()));
+            throw new ImageUploadException("파일 업로드 실패", e);
+        }
+    }
+
+    private String putObject(String fileName, InputStream inputStream, long size, String contentType) {
+        try {
+            if (size >= multipartThreshold) {
+                putObjectInParts(fileName, inputStream, contentType);
+            } else {
+                PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(fileName)
+                        .contentType(contentType)
+                        .build();
+
+                s3Client.putObject(
+                        putObjectRequest,
+                        RequestBody.fromInputStream(inputStream, size)
+                );
+            }
 
+            String url = s3Client.utilities()
+                    .getUrl(builder -> builder.bucket(bucketName).key(fileName))
+                    .toString();
+
+            appLogger.info(new InfoLog("이미지 업로드 성공")
+                    .setTargetId(fileName)
+                    .addDetails("url", url));
+
+            return url;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ImageUploadException("파일 업로드가 중단되었습니다.", e);
+        } catch (Exception e) {
+            appLogger.error(new ErrorLog("파일 업로드 실패 (기타)", e)
+                    .setStatus("500")
+                    .addDetails("file", fileName));
+            throw new ImageUploadException("파일 업로드 중 예기치 않은 오류 발생", e);
+        }
+    }
+
+    /**
+     * 스트림을 파트 크기만큼씩 한 버퍼에 읽어 차례로 올린다. 파일 전체를 메모리나 임시 파일로 다시 옮기지 않는다.
+     * 실패하면 멀티파트 업로드를 취소해 올라간 파트가 남지 않게 한다.
+     */
+    private void putObjectInParts(String fileName, InputStream inputStream, String contentType)
+            throws IOException, InterruptedException {
+        partBuffers.acquire();
+        String uploadId = null;
+        try {
+            uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                            .bucket(bucketName)
+                            .key(fileName)
+                            .contentType(contentType)
+                            .build())
+                    .uploadId();
+
+            final byte[] buffer = new byte[partSize];
+            final List<CompletedPart> parts = new ArrayList<>();
+            int read;
+            while ((read = inputStream.readNBytes(buffer, 0, partSize)) > 0) {
+                final int partNumber = parts.size() + 1;
+                final int length = read;
+                // 재시도할 때마다 같은 버퍼를 처음부터 다시 읽게 하고, SDK 가 버퍼를 복사하지 않도록 스트림으로 넘긴다.
+                final String eTag = s3Client.uploadPart(UploadPartRequest.builder()
+                                        .bucket(bucketName)
+                                        .key(fileName)
+                                        .uploadId(uploadId)
+                                        .partNumber(partNumber)
+                                        .contentLength((long) length)
+                                        .build(),
+                                RequestBody.fromContentProvider(
+                                        () -> new ByteArrayInputStream(buffer, 0, length), length, contentType))
+                        .eTag();
+                parts.add(CompletedPart.builder()
+                        .partNumber(partNumber)
+                        .eTag(eTag)
+                        .build());
+            }
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(fileName)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+            log.debug("멀티파트 업로드 완료 key={}, parts={}", fileName, parts.size());
+        } catch (IOException | RuntimeException e) {
+            if (uploadId != null) {
+                abortMultipartUploadQuietly(fileName, uploadId);
+            }
+            throw e;
+        } finally {
+            partBuffers.release();
+        }
+    }
+
+    // 함께 올리던 파일이 실패해 인터럽트된 경우에도 취소 요청은 보내야 하므로 인터럽트 상태를 잠시 내려둔다.
+    private void abortMultipartUploadQuietly(String fileName, String uploadId) {
+        final boolean interrupted = Thread.interrupted();
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(fileName)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (RuntimeException e) {
+            log.warn("멀티파트 업로드 취소 실패 key={}, uploadId={}", fileName, uploadId, e);
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void abort(UploadBatch batch, List<Future<Integer>> futures) {
+        final List<String> uploadedKeys = batch.abort();
+        futures.forEach(future -> future.cancel(true));
+        uploadedKeys.forEach(this::deleteQuietly);
+        log.warn("업로드 실패로 함께 올린 파일 정리 cancelled={}, deleted={}", futures.size(), uploadedKeys.size());
+    }
+
+    // 정리 중 삭제 실패는 deleteFromS3 에서 남긴 로그로 충분하므로 원래 업로드 예외를 가리지 않게 삼킨다.
+    private void deleteQuietly(String fileName) {
+        try {
+            deleteFromS3(fileName);
+        } catch (ImageDeleteFailedException e) {
+            log.warn("업로드 정리 중 파일 삭제 실패 key={}", fileName);
+        }
+    }
+
+    /**
+     * 한 요청에서 올린 파일의 키와 URL 을 받은 순서 자리에 모은다.
+     * 중단된 뒤에 끝난 업로드는 받지 않으므로, 올라간 파일은 abort 가 돌려준 키이거나 업로드한 쪽이 직접 지운다.
+     */
+    private static final class UploadBatch {
+
+        private final String[] keys;
+        private final String[] urls;
+        private boolean aborted;
+
+        UploadBatch(final int size) {
+            keys = new String[size];
+            urls = new String[size];
+        }
+
+        synchronized boolean complete(final int index, final String key, final String url) {
+            if (aborted) {
+                return false;
+            }
+            keys[index] = key;
+            urls[index] = url;
+            return true;
+        }
+
+        synchronized List<String> abort() {
+            aborted = true;
+            return Arrays.stream(keys)
+                    .filter(Objects::nonNull)
+                    .toList();
+        }
+
+        synchronized List<String> urls() {
+            return List.of(urls);
+        }
+    }
+}
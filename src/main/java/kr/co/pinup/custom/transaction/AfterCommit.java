@@ -0,0 +1,28 @@
+package kr.co.pinup.custom.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 메모리에 둔 캐시, 카운터, 버전을 DB 변경과 맞춰 고칠 때 쓴다.
+ * 트랜잭션 안이면 커밋된 뒤에 실행하고 롤백되면 버리므로, 커밋되지 않은 변경이 메모리에 섞이지 않는다.
+ * 트랜잭션 밖이면 바로 실행한다.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(final Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+}
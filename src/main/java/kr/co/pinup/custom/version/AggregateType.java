@@ -0,0 +1,7 @@
+package kr.co.pinup.custom.version;
+
+public enum AggregateType {
+
+    STORE,
+    POST
+}
@@ -0,0 +1,91 @@
+package kr.co.pinup.custom.version;
+
+import kr.co.pinup.custom.transaction.AfterCommit;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 애그리거트(스토어, 게시글) 별 버전과 마지막으로 발급한 ETag 를 보관한다.
+ * 쓰기가 커밋되면 버전을 올리고 기억해 둔 ETag 를 버리므로,
+ * If-None-Match 재검증은 DB 조회나 직렬화 없이 맵 조회 한 번으로 끝난다.
+ * 버전은 메모리에만 있으므로 기동 시각(epoch)을 ETag 에 넣어 재시작 전 ETag 와 겹치지 않게 한다.
+ */
+@Component
+public class AggregateVersionRegistry {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Map<Key, Version> versions = new ConcurrentHashMap<>();
+    private final Map<AggregateType, AtomicLong> collectionVersions = new ConcurrentHashMap<>();
+
+    public long version(final AggregateType type, final Long id) {
+        final Version version = versions.get(new Key(type, id));
+        return version == null ? 0L : version.value();
+    }
+
+    /**
+     * 현재 버전으로 발급한 ETag 가 있으면 반환하고, 아직 발급하지 않았거나 버전이 바뀌었으면 null 을 반환한다.
+     */
+    public String eTag(final AggregateType type, final Long id) {
+        final Version version = versions.get(new Key(type, id));
+        return version == null ? null : version.eTag();
+    }
+
+    /**
+     * 조회 직전에 읽어 둔 버전과 updatedAt 으로 ETag 를 만들고, 그 사이 버전이 바뀌지 않았을 때만 기억한다.
+     */
+    public String eTag(final AggregateType type, final Long id, final long version, final LocalDateTime updatedAt) {
+        final long updatedAtMillis = updatedAt == null ? 0L : updatedAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+        final String eTag = "\"" + type.name().toLowerCase() + "-" + id + "-" + epoch + "-" + version + "-"
+                + Long.toString(updatedAtMillis, 36) + "\"";
+
+        versions.compute(new Key(type, id), (key, current) -> {
+            final long currentVersion = current == null ? 0L : current.value();
+            return currentVersion == version ? new Version(version, eTag) : current;
+        });
+
+        return eTag;
+    }
+
+    public String collectionETag(final AggregateType type) {
+        return "\"" + type.name().toLowerCase() + "s-" + epoch + "-" + collectionVersion(type).get() + "\"";
+    }
+
+    public void bump(final AggregateType type, final Long id) {
+        bump(type, List.of(id));
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 이후에 버전을 올린다.
+     * 커밋 전에 올리면 그 사이 조회가 옛 데이터로 새 버전의 ETag 를 기억할 수 있기 때문이다.
+     */
+    public void bump(final AggregateType type, final Collection<Long> ids) {
+        AfterCommit.run(() -> bumpNow(type, ids));
+    }
+
+    /**
+     * 이미 커밋된 뒤(AFTER_COMMIT 이벤트 리스너 등)에서 바로 버전을 올린다.
+     * 커밋 이후 단계에서 등록한 동기화는 실행되지 않으므로 이 경우에는 bump 대신 이 메서드를 쓴다.
+     */
+    public void bumpNow(final AggregateType type, final Collection<Long> ids) {
+        ids.forEach(id -> versions.compute(new Key(type, id),
+                (key, current) -> new Version(current == null ? 1L : current.value() + 1, null)));
+        collectionVersion(type).incrementAndGet();
+    }
+
+    private AtomicLong collectionVersion(final AggregateType type) {
+        return collectionVersions.computeIfAbsent(type, ignored -> new AtomicLong());
+    }
+
+    private record Key(AggregateType type, Long id) {
+    }
+
+    private record Version(long value, String eTag) {
+    }
+}
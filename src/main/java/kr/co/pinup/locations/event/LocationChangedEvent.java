@@ -0,0 +1,4 @@
+package kr.co.pinup.locations.event;
+
+public record LocationChangedEvent(Long locationId) {
+}
@@ -3,6 +3,7 @@ package kr.co.pinup.locations.service;
 import kr.co.pinup.api.kakao.KakaoApiService;
 import kr.co.pinup.api.kakao.model.dto.KakaoAddressDocument;
 import kr.co.pinup.locations.Location;
+import kr.co.pinup.locations.event.LocationChangedEvent;
 import kr.co.pinup.locations.exception.LocationNotFoundException;
 import kr.co.pinup.locations.model.dto.CreateLocationRequest;
 import kr.co.pinup.locations.model.dto.LocationResponse;
@@ -10,6 +11,7 @@ import kr.co.pinup.locations.model.dto.UpdateLocationRequest;
 import kr.co.pinup.locations.reposiotry.LocationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +22,7 @@ public class LocationService  {
 
     private final KakaoApiService kakaoApiService;
     private final LocationRepository locationRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public LocationResponse createLocation(CreateLocationRequest request) {
@@ -29,6 +32,8 @@ public class LocationService  {
         Location location = locationBuilder(request, addressDocument);
         Location savedLocation = locationRepository.save(location);
 
+        eventPublisher.publishEvent(new LocationChangedEvent(savedLocation.getId()));
+
         return LocationResponse.from(savedLocation);
     }
 
@@ -53,6 +58,8 @@ public class LocationService  {
 
         location.update(request, addressDocument);
 
+        eventPublisher.publishEvent(new LocationChangedEvent(locationId));
+
         return LocationResponse.from(location);
     }
 
@@ -140,9 +140,7 @@ public class PostImageService  {
     }
 
     public List<String> uploadFiles(List<MultipartFile> files, String pathPrefix) {
-        return files.stream()
-                .map(file -> s3Service.uploadFile(file, pathPrefix))
-                .collect(Collectors.toList());
+        return s3Service.uploadFiles(files, pathPrefix);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,168 @@
+package kr.co.pinup.postLikes.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import kr.co.pinup.custom.transaction.AfterCommit;
+import kr.co.pinup.postLikes.repository.PostLikeRepository;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 회원이 좋아요한 게시글 ID 를 압축 비트맵으로 보관하는 LRU 캐시.
+ * 처음 조회할 때 post_like 에서 한 번 읽어 오고, 이후에는 좋아요 등록/취소가 커밋될 때 비트맵을 직접 고친다.
+ * 보관하는 회원 수가 상한을 넘으면 가장 오래 쓰이지 않은 회원부터 버린다.
+ */
+@Component
+public class LikedPostCache implements MeterBinder {
+
+    private static final String METRIC_PREFIX = "pinup.post.liked.cache";
+
+    private final PostLikeRepository postLikeRepository;
+    private final int maxMembers;
+
+    private final LinkedHashMap<Long, Roaring64Bitmap> entries = new LinkedHashMap<>(64, 0.75f, true);
+    // 비트맵을 읽어 오는 중인 회원별 진행 상태. 읽는 사이 그 회원의 좋아요가 바뀌었는지 확인한다.
+    private final Map<Long, Loading> loading = new HashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public LikedPostCache(
+            final PostLikeRepository postLikeRepository,
+            @Value("${pinup.post.liked-cache.max-members:10000}") final int maxMembers
+    ) {
+        this.postLikeRepository = postLikeRepository;
+        this.maxMembers = maxMembers;
+    }
+
+    public boolean isLiked(final Long memberId, final Long postId) {
+        if (memberId == null) {
+            return false;
+        }
+
+        synchronized (entries) {
+            final Roaring64Bitmap likedPosts = entries.get(memberId);
+            if (likedPosts != null) {
+                hits.incrementAndGet();
+                return likedPosts.contains(postId);
+            }
+        }
+        misses.incrementAndGet();
+
+        return load(memberId, postId);
+    }
+
+    public void update(final Long memberId, final Long postId, final boolean liked) {
+        AfterCommit.run(() -> apply(memberId, postId, liked));
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long usedBytes() {
+        synchronized (entries) {
+            return entries.values().stream()
+                    .mapToLong(Roaring64Bitmap::getLongSizeInBytes)
+                    .sum();
+        }
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder(METRIC_PREFIX + ".requests", hits, AtomicLong::get)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".requests", misses, AtomicLong::get)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".evictions", evictions, AtomicLong::get)
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".size", this, LikedPostCache::size)
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".memory", this, LikedPostCache::usedBytes)
+                .description("보관 중인 비트맵의 직렬화 크기 합계")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    private boolean load(final Long memberId, final Long postId) {
+        final Loading started;
+        final long updatesAtStart;
+        synchronized (entries) {
+            started = loading.computeIfAbsent(memberId, id -> new Loading());
+            started.readers++;
+            updatesAtStart = started.updates;
+        }
+
+        final Roaring64Bitmap likedPosts = new Roaring64Bitmap();
+        try {
+            postLikeRepository.findPostIdsByMemberId(memberId).forEach(likedPosts::addLong);
+        } catch (RuntimeException e) {
+            synchronized (entries) {
+                finishLoading(memberId, started);
+            }
+            throw e;
+        }
+        likedPosts.runOptimize();
+        final boolean liked = likedPosts.contains(postId);
+
+        synchronized (entries) {
+            finishLoading(memberId, started);
+            // 읽는 사이 이 회원의 좋아요가 커밋됐다면 놓쳤을 수 있으므로 이번 결과는 보관하지 않는다.
+            if (started.updates != updatesAtStart) {
+                return liked;
+            }
+            entries.put(memberId, likedPosts);
+
+            final Iterator<Map.Entry<Long, Roaring64Bitmap>> eldest = entries.entrySet().iterator();
+            while (entries.size() > maxMembers && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+                evictions.incrementAndGet();
+            }
+        }
+        return liked;
+    }
+
+    private void finishLoading(final Long memberId, final Loading started) {
+        if (--started.readers == 0) {
+            loading.remove(memberId);
+        }
+    }
+
+    private void apply(final Long memberId, final Long postId, final boolean liked) {
+        synchronized (entries) {
+            final Loading inFlight = loading.get(memberId);
+            if (inFlight != null) {
+                inFlight.updates++;
+            }
+            final Roaring64Bitmap likedPosts = entries.get(memberId);
+            if (likedPosts == null) {
+                return;
+            }
+            if (liked) {
+                likedPosts.addLong(postId);
+            } else {
+                likedPosts.removeLong(postId);
+            }
+        }
+    }
+
+    private static final class Loading {
+        private int readers;
+        private long updates;
+    }
+}
@@ -0,0 +1,66 @@
+package kr.co.pinup.postLikes.counter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import kr.co.pinup.custom.counter.WriteBehindCounter;
+import kr.co.pinup.custom.transaction.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * write-behind 모드에서 게시글 좋아요 수 증감을 메모리에 모았다가 주기적으로 한 번의 배치 UPDATE 로 반영한다.
+ * 좋아요 행(post_like)은 요청 시점에 바로 저장하고, 인기 게시글의 posts 행에 몰리는 UPDATE 만 묶는다.
+ */
+@Slf4j
+@Component
+public class PostLikeCounter {
+
+    private static final String METRIC_PREFIX = "pinup.post.like";
+    private static final String UPDATE_LIKE_COUNT_SQL =
+            "UPDATE posts SET like_count = GREATEST(like_count + ?, 0) WHERE id = ?";
+
+    private final boolean writeBehind;
+    private final WriteBehindCounter pendingLikes;
+
+    public PostLikeCounter(
+            final JdbcTemplate jdbcTemplate,
+            final MeterRegistry meterRegistry,
+            @Value("${pinup.post.like-count.write-behind:false}") final boolean writeBehind
+    ) {
+        this.writeBehind = writeBehind;
+        pendingLikes = new WriteBehindCounter(
+                jdbcTemplate, meterRegistry, METRIC_PREFIX, UPDATE_LIKE_COUNT_SQL, "게시글 좋아요 수");
+    }
+
+    public boolean isWriteBehind() {
+        return writeBehind;
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋된 뒤에 쌓아, 롤백된 좋아요가 수에 섞이지 않게 한다.
+     */
+    public void add(final Long postId, final long delta) {
+        AfterCommit.run(() -> pendingLikes.add(postId, delta));
+    }
+
+    public long pending(final Long postId) {
+        return pendingLikes.pending(postId);
+    }
+
+    @Scheduled(
+            fixedDelayString = "${pinup.post.like-count.flush-interval-ms:1000}",
+            initialDelayString = "${pinup.post.like-count.flush-interval-ms:1000}"
+    )
+    public void flush() {
+        pendingLikes.flush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("종료 전 게시글 좋아요 수 반영");
+        flush();
+    }
+}
@@ -2,8 +2,12 @@ package kr.co.pinup.postLikes.repository;
 
 import kr.co.pinup.postLikes.PostLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,5 +16,11 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
 
     Optional<PostLike> findByPostIdAndMemberId(Long postId, Long id);
 
-    void deleteByPostIdAndMemberId(Long postId, Long id);
+    @Query("SELECT pl.post.id FROM PostLike pl WHERE pl.member.id = :memberId")
+    List<Long> findPostIdsByMemberId(@Param("memberId") Long memberId);
+
+    // 엔티티를 읽지 않고 한 문장으로 지워, 지운 건수로 좋아요 취소 여부를 판단한다.
+    @Modifying
+    @Query("DELETE FROM PostLike pl WHERE pl.post.id = :postId AND pl.member.id = :memberId")
+    int deleteByPostIdAndMemberId(@Param("postId") Long postId, @Param("memberId") Long memberId);
 }
@@ -0,0 +1,64 @@
+package kr.co.pinup.postLikes.repository;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * post_like 의 (post_id, member_id) 유니크 제약에 기대어 좋아요를 한 번만 넣는다.
+ * PostgreSQL 은 ON CONFLICT DO NOTHING 을 쓰고, 테스트용 H2 처럼 지원하지 않는 DB 는 중복 키 예외를 0 건으로 본다.
+ * (H2 는 문장 하나가 실패해도 트랜잭션이 깨지지 않는다.)
+ */
+@Component
+public class PostLikeWriter {
+
+    private static final String INSERT_ON_CONFLICT_SQL = """
+            INSERT INTO post_like (post_id, member_id, created_at)
+            VALUES (?, ?, ?)
+            ON CONFLICT (post_id, member_id) DO NOTHING
+            """;
+    private static final String INSERT_SQL = """
+            INSERT INTO post_like (post_id, member_id, created_at)
+            VALUES (?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean onConflictSupported;
+
+    public PostLikeWriter(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.onConflictSupported = isPostgreSql(jdbcTemplate.getDataSource());
+    }
+
+    /**
+     * 호출하는 쪽의 트랜잭션 안에서 실행해야 한다. 새로 넣었으면 1, 이미 있었으면 0 을 반환한다.
+     */
+    public int insertIfAbsent(final Long postId, final Long memberId, final LocalDateTime now) {
+        final Timestamp createdAt = Timestamp.valueOf(now);
+        if (onConflictSupported) {
+            return jdbcTemplate.update(INSERT_ON_CONFLICT_SQL, postId, memberId, createdAt);
+        }
+
+        try {
+            return jdbcTemplate.update(INSERT_SQL, postId, memberId, createdAt);
+        } catch (DuplicateKeyException e) {
+            return 0;
+        }
+    }
+
+    private static boolean isPostgreSql(final DataSource dataSource) {
+        try {
+            return "PostgreSQL".equals(
+                    JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName));
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("DB 종류를 확인할 수 없습니다.", e);
+        }
+    }
+}
@@ -1,23 +1,29 @@
 package kr.co.pinup.postLikes.service;
 
-import jakarta.persistence.EntityManager;
 import kr.co.pinup.custom.logging.AppLogger;
 import kr.co.pinup.custom.logging.model.dto.InfoLog;
+import kr.co.pinup.custom.version.AggregateVersionRegistry;
 import kr.co.pinup.members.Member;
 import kr.co.pinup.members.exception.MemberNotFoundException;
 import kr.co.pinup.members.model.dto.MemberInfo;
 import kr.co.pinup.members.repository.MemberRepository;
-import kr.co.pinup.postLikes.PostLike;
-import kr.co.pinup.postLikes.PostLikeRetryExecutor;
+import kr.co.pinup.postLikes.cache.LikedPostCache;
+import kr.co.pinup.postLikes.counter.PostLikeCounter;
 import kr.co.pinup.postLikes.model.dto.PostLikeResponse;
 import kr.co.pinup.postLikes.repository.PostLikeRepository;
-import kr.co.pinup.posts.Post;
+import kr.co.pinup.postLikes.repository.PostLikeWriter;
+import kr.co.pinup.posts.event.PostEngagedEvent;
 import kr.co.pinup.posts.exception.post.PostNotFoundException;
 import kr.co.pinup.posts.repository.PostRepository;
-import kr.co.pinup.posts.service.PostService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static kr.co.pinup.custom.version.AggregateType.POST;
 
 @Slf4j
 @Service
@@ -25,61 +31,80 @@ import org.springframework.stereotype.Service;
 public class PostLikeService {
     private final PostRepository postRepository;
     private final PostLikeRepository postLikeRepository;
+    private final PostLikeWriter postLikeWriter;
+    private final PostLikeCounter postLikeCounter;
+    private final LikedPostCache likedPostCache;
     private final MemberRepository memberRepository;
-    private final PostService postService;
-    private final PostLikeRetryExecutor postLikeRetryExecutor;
+    private final AggregateVersionRegistry versionRegistry;
     private final AppLogger appLogger;
-    private final EntityManager entityManager;
-
-    public PostLikeResponse getLikeInfo(Long postId, MemberInfo memberInfo) {
-
-        Post post = postService.findByIdOrThrow(postId);
-        int likeCount = post.getLikeCount();
-
-        boolean liked = false;
-        if (memberInfo != null) {
-            Member member = memberRepository.findByNickname(memberInfo.nickname())
-                    .orElseThrow(() -> new MemberNotFoundException(memberInfo.nickname() + "님을 찾을 수 없습니다."));
-
-            liked = postLikeRepository.existsByPostIdAndMemberId(postId, member.getId());
-        }
-
-        return PostLikeResponse.of(likeCount, liked);
-    }
-
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 지운 좋아요가 있으면 취소, 없으면 등록한다. 좋아요 행은 유니크 제약으로, 좋아요 수는 한 문장의 UPDATE 로 바꾸므로
+     * 같은 게시글에 요청이 몰려도 재시도하지 않는다. 같은 회원의 요청이 겹쳐 이미 들어간 좋아요는 수를 다시 올리지 않는다.
+     * write-behind 모드에서는 좋아요 수 증감을 {@link PostLikeCounter} 에 모아 두고, 응답에는 아직 반영되지 않은 증감을 더해 돌려준다.
+     */
+    @Transactional
     public PostLikeResponse toggleLike(Long postId, MemberInfo memberInfo) {
         Member member = memberRepository.findByNickname(memberInfo.nickname())
                 .orElseThrow(() -> new MemberNotFoundException("회원을 찾을 수 없습니다."));
 
-        return postLikeRetryExecutor.likeWithRetry(() -> {
-            boolean alreadyLiked = postLikeRepository.existsByPostIdAndMemberId(postId, member.getId());
-
-            if (alreadyLiked) {
-                postLikeRepository.deleteByPostIdAndMemberId(postId, member.getId());
-
-                Post post = postRepository.findByIdWithOptimisticLock(postId)
-                        .orElseThrow(PostNotFoundException::new);
-                post.decreaseLikeCount();
+        Long storeId = postRepository.findStoreIdById(postId)
+                .orElseThrow(PostNotFoundException::new);
+
+        boolean liked;
+        int delta = 0;
+        if (postLikeRepository.deleteByPostIdAndMemberId(postId, member.getId()) > 0) {
+            delta = -1;
+            liked = false;
+
+            appLogger.info(new InfoLog("좋아요 취소")
+                    .setTargetId(postId.toString())
+                    .addDetails("memberId", member.getId().toString()));
+        } else {
+            if (postLikeWriter.insertIfAbsent(postId, member.getId(), LocalDateTime.now()) > 0) {
+                delta = 1;
+            }
+            liked = true;
 
-                appLogger.info(new InfoLog("좋아요 취소")
-                        .setTargetId(postId.toString())
-                        .addDetails("memberId", member.getId().toString()));
+            appLogger.info(new InfoLog("좋아요 등록")
+                    .setTargetId(postId.toString())
+                    .addDetails("memberId", member.getId().toString()));
+        }
 
-                return PostLikeResponse.of(post.getLikeCount(), false);
-            } else {
-                Post post = postRepository.findByIdWithOptimisticLock(postId)
-                        .orElseThrow(PostNotFoundException::new);
+        changeLikeCount(postId, delta);
+        likedPostCache.update(member.getId(), postId, liked);
+        if (delta != 0) {
+            eventPublisher.publishEvent(PostEngagedEvent.liked(postId, storeId, delta));
+        }
 
-                postLikeRepository.save(new PostLike(post, member));
-                post.increaseLikeCount();
+        int persisted = postRepository.findLikeCountById(postId)
+                .orElseThrow(PostNotFoundException::new);
+        return PostLikeResponse.of(withPending(postId, persisted, delta), liked);
+    }
 
-                appLogger.info(new InfoLog("좋아요 등록")
-                        .setTargetId(postId.toString())
-                        .addDetails("memberId", member.getId().toString()));
+    // 게시글 상세 응답에 좋아요 수가 들어가므로 수가 바뀌면 게시글 버전도 올린다.
+    private void changeLikeCount(Long postId, int delta) {
+        if (delta == 0) {
+            return;
+        }
+        versionRegistry.bump(POST, postId);
+
+        if (postLikeCounter.isWriteBehind()) {
+            postLikeCounter.add(postId, delta);
+        } else if (delta > 0) {
+            postRepository.increaseLikeCount(postId);
+        } else {
+            postRepository.decreaseLikeCount(postId);
+        }
+    }
 
-                return PostLikeResponse.of(post.getLikeCount(), true);
-            }
-        });
+    // 이번 요청의 증감은 커밋 뒤에 쌓이므로 아직 대기 중인 증감에 포함되지 않는다.
+    private int withPending(Long postId, int persisted, int ownDelta) {
+        if (!postLikeCounter.isWriteBehind()) {
+            return persisted;
+        }
+        return (int) Math.max(persisted + postLikeCounter.pending(postId) + ownDelta, 0);
     }
 
-}
\ No newline at end of file
+}
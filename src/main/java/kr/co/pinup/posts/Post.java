@@ -40,9 +40,13 @@ public class Post extends BaseEntity {
     @Column(name = "is_deleted", nullable = false, columnDefinition = "BOOLEAN DEFAULT false")
     private boolean isDeleted;
 
-    @Column(columnDefinition = "integer default 0", nullable = false)
+    // 좋아요 수와 댓글 수는 PostRepository 의 벌크 UPDATE 로만 바꾼다. 엔티티를 저장할 때 읽어 둔 값으로 덮어쓰지 않게 UPDATE 에서 뺀다.
+    @Column(columnDefinition = "integer default 0", nullable = false, updatable = false)
     private int likeCount;
 
+    @Column(columnDefinition = "integer default 0", nullable = false, updatable = false)
+    private int commentCount;
+
     @Version
     private Long version;
 
@@ -69,11 +73,5 @@ public class Post extends BaseEntity {
     public void disablePost(boolean isDeleted) {
         this.isDeleted = isDeleted;
     }
-
-    public void increaseLikeCount() {
-        this.likeCount ++;
-    }
-
-    public void decreaseLikeCount() {if (this.likeCount > 0) {this.likeCount --;}}
 }
 
@@ -0,0 +1,177 @@
+package kr.co.pinup.posts.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import kr.co.pinup.custom.pagination.CursorPageResponse;
+import kr.co.pinup.custom.transaction.AfterCommit;
+import kr.co.pinup.posts.model.dto.PostResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 전체 게시글 피드의 앞쪽 몇 페이지를 짧은 ttl 동안 보관하는 캐시.
+ * 첫 페이지와, 보관 중인 페이지가 내어 준 다음 커서로 이어지는 페이지까지만 보관한다.
+ * 항목이 만료되면 한 요청만 다시 읽고, 그 사이 들어온 요청에는 만료된 페이지를 그대로 돌려준다.
+ * 좋아요 여부는 조회자마다 다르므로 보관하는 페이지에는 채우지 않는다.
+ */
+@Component
+public class PostFeedCache implements MeterBinder {
+
+    private static final String METRIC_PREFIX = "pinup.post.feed.cache";
+
+    private final long ttlMillis;
+    private final int maxPages;
+
+    private final Map<Key, Entry> entries = new HashMap<>();
+    // 보관 중인 페이지의 다음 커서와 그 페이지의 순번(첫 페이지 = 0)
+    private final Map<Key, Integer> followingPages = new HashMap<>();
+    // 읽어 오는 사이 무효화됐는지 확인하기 위한 세대
+    private long generation;
+
+    private final ConcurrentHashMap<Key, CompletableFuture<CursorPageResponse<PostResponse>>> loading = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong staleHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong bypasses = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public PostFeedCache(
+            @Value("${pinup.post.feed-cache.ttl-ms:5000}") final long ttlMillis,
+            @Value("${pinup.post.feed-cache.max-pages:3}") final int maxPages
+    ) {
+        this.ttlMillis = ttlMillis;
+        this.maxPages = maxPages;
+    }
+
+    public CursorPageResponse<PostResponse> get(
+            final String cursor, final int size, final Supplier<CursorPageResponse<PostResponse>> loader) {
+        final Key key = new Key(cursor == null || cursor.isBlank() ? "" : cursor, size);
+
+        final Entry cached;
+        final Integer pageIndex;
+        final long generationAtStart;
+        synchronized (entries) {
+            cached = entries.get(key);
+            pageIndex = key.cursor().isEmpty() ? Integer.valueOf(0) : followingPages.get(key);
+            generationAtStart = generation;
+        }
+
+        if (cached != null && !isExpired(cached)) {
+            hits.incrementAndGet();
+            return cached.page();
+        }
+        if (pageIndex == null) {
+            bypasses.incrementAndGet();
+            return loader.get();
+        }
+
+        final CompletableFuture<CursorPageResponse<PostResponse>> mine = new CompletableFuture<>();
+        final CompletableFuture<CursorPageResponse<PostResponse>> inFlight = loading.putIfAbsent(key, mine);
+        if (inFlight != null) {
+            if (cached != null) {
+                staleHits.incrementAndGet();
+                return cached.page();
+            }
+            hits.incrementAndGet();
+            return await(inFlight);
+        }
+
+        misses.incrementAndGet();
+        try {
+            final CursorPageResponse<PostResponse> page = loader.get();
+            put(key, page, pageIndex, generationAtStart);
+            mine.complete(page);
+            return page;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, mine);
+        }
+    }
+
+    public void invalidate() {
+        AfterCommit.run(this::clear);
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder(METRIC_PREFIX + ".requests", hits, AtomicLong::get)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".requests", staleHits, AtomicLong::get)
+                .tag("result", "stale")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".requests", misses, AtomicLong::get)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".requests", bypasses, AtomicLong::get)
+                .tag("result", "bypass")
+                .description("보관하지 않는 뒤쪽 페이지 요청")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".invalidations", invalidations, AtomicLong::get)
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".size", this, PostFeedCache::size)
+                .register(registry);
+    }
+
+    private void put(final Key key, final CursorPageResponse<PostResponse> page, final int pageIndex, final long generationAtStart) {
+        synchronized (entries) {
+            // 읽는 사이 게시글이 바뀌었으면 이번 결과는 보관하지 않는다.
+            if (generation != generationAtStart) {
+                return;
+            }
+            entries.put(key, new Entry(page, System.currentTimeMillis()));
+            if (page.hasNext() && pageIndex + 1 < maxPages) {
+                followingPages.put(new Key(page.nextCursor(), key.size()), pageIndex + 1);
+            }
+        }
+    }
+
+    private void clear() {
+        synchronized (entries) {
+            generation++;
+            entries.clear();
+            followingPages.clear();
+        }
+        invalidations.incrementAndGet();
+    }
+
+    private boolean isExpired(final Entry entry) {
+        return System.currentTimeMillis() - entry.cachedAt() > ttlMillis;
+    }
+
+    private static CursorPageResponse<PostResponse> await(final CompletableFuture<CursorPageResponse<PostResponse>> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Key(String cursor, int size) {
+    }
+
+    private record Entry(CursorPageResponse<PostResponse> page, long cachedAt) {
+    }
+}
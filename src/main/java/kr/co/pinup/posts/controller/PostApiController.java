@@ -1,14 +1,14 @@
 package kr.co.pinup.posts.controller;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Positive;
-import kr.co.pinup.comments.model.dto.CommentResponse;
-import kr.co.pinup.comments.service.CommentService;
+import kr.co.pinup.custom.pagination.CursorPageResponse;
+import kr.co.pinup.custom.version.AggregateVersionRegistry;
 import kr.co.pinup.members.model.dto.MemberInfo;
 import kr.co.pinup.postImages.exception.postimage.PostImageUpdateCountException;
 import kr.co.pinup.postImages.model.dto.CreatePostImageRequest;
-import kr.co.pinup.postImages.model.dto.PostImageResponse;
-import kr.co.pinup.postImages.service.PostImageService;
 import kr.co.pinup.posts.model.dto.CreatePostRequest;
 import kr.co.pinup.posts.model.dto.PostDetailResponse;
 import kr.co.pinup.posts.model.dto.PostResponse;
@@ -16,16 +16,20 @@ import kr.co.pinup.posts.model.dto.UpdatePostRequest;
 import kr.co.pinup.posts.service.PostService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 
+import static kr.co.pinup.custom.version.AggregateType.POST;
+
 @Slf4j
 @Validated
 @RestController
@@ -34,8 +38,7 @@ import java.util.List;
 public class PostApiController {
 
     private final PostService postService;
-    private final CommentService commentService;
-    private final PostImageService postImageService;
+    private final AggregateVersionRegistry versionRegistry;
 
     @GetMapping("/list/{storeId}")
     public List<PostResponse> getAllPosts(@PathVariable @Positive Long storeId) {
@@ -43,13 +46,54 @@ public class PostApiController {
         return postService.findByStoreId(storeId,false);
     }
 
+    @GetMapping(value = "/list/{storeId}", params = "size")
+    public CursorPageResponse<PostResponse> getPostPage(@PathVariable @Positive Long storeId,
+                                                        @RequestParam(required = false) String cursor,
+                                                        @RequestParam @Min(1) @Max(100) int size,
+                                                        @AuthenticationPrincipal MemberInfo memberInfo) {
+        log.debug("게시글 페이지 API 호출: storeId={}, cursor={}, size={}", storeId, cursor, size);
+        return postService.getPostPage(storeId, cursor, size, memberInfo);
+    }
+
+    @GetMapping("/feed")
+    public CursorPageResponse<PostResponse> getFeed(@RequestParam(required = false) String cursor,
+                                                    @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+                                                    @AuthenticationPrincipal MemberInfo memberInfo) {
+        log.debug("피드 API 호출: cursor={}, size={}", cursor, size);
+        return postService.getFeedPage(cursor, size, memberInfo);
+    }
+
+    @GetMapping("/hot")
+    public List<PostResponse> getHotPosts(@RequestParam(required = false) @Positive Long storeId,
+                                          @RequestParam(defaultValue = "10") @Min(1) @Max(50) int size,
+                                          @AuthenticationPrincipal MemberInfo memberInfo) {
+        log.debug("인기 게시글 API 호출: storeId={}, size={}", storeId, size);
+        return postService.getHotPosts(storeId, size, memberInfo);
+    }
+
+    // 좋아요 여부가 조회자마다 다르므로 ETag 재검증은 비로그인 조회에만 쓴다.
     @GetMapping("/{postId}")
-    public PostDetailResponse getPostById(@PathVariable @Positive Long postId) {
+    public ResponseEntity<PostDetailResponse> getPostById(@PathVariable @Positive Long postId,
+                                                          @AuthenticationPrincipal MemberInfo memberInfo,
+                                                          WebRequest webRequest) {
         log.debug("게시글 단건 조회 API 호출: postId={}", postId);
-        PostResponse post = postService.getPostById(postId,false);
-        List<CommentResponse> comments = commentService.findByPostId(postId);
-        List<PostImageResponse> images = postImageService.findImagesByPostId(postId);
-        return PostDetailResponse.from(post, comments, images);
+        if (memberInfo != null) {
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noStore())
+                    .body(postService.getPostDetail(postId, memberInfo));
+        }
+
+        String cachedETag = versionRegistry.eTag(POST, postId);
+        if (cachedETag != null && webRequest.checkNotModified(cachedETag)) {
+            return null;
+        }
+
+        long version = versionRegistry.version(POST, postId);
+        PostDetailResponse detail = postService.getPostDetail(postId, null);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(versionRegistry.eTag(POST, postId, version, detail.post().updatedAt()))
+                .body(detail);
     }
 
     @PostMapping("/create")
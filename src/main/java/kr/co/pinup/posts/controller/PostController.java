@@ -1,10 +1,12 @@
 package kr.co.pinup.posts.controller;
 
 import jakarta.validation.constraints.Positive;
-import kr.co.pinup.comments.service.CommentService;
+import kr.co.pinup.custom.pagination.CursorPageResponse;
 import kr.co.pinup.members.model.dto.MemberInfo;
 import kr.co.pinup.postImages.service.PostImageService;
-import kr.co.pinup.postLikes.service.PostLikeService;
+import kr.co.pinup.postLikes.model.dto.PostLikeResponse;
+import kr.co.pinup.posts.model.dto.PostDetailResponse;
+import kr.co.pinup.posts.model.dto.PostResponse;
 import kr.co.pinup.posts.service.PostService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,20 +28,22 @@ import org.springframework.web.bind.annotation.RequestParam;
 public class PostController {
 
     private static final String VIEW_PATH = "views/posts";
+    private static final int PAGE_SIZE = 20;
 
     private final PostService postService;
-    private final CommentService commentService;
     private final PostImageService postImageService;
-    private final PostLikeService postLikeService;
 
     @GetMapping("/list/{storeId}")
     public String getAllPosts(@PathVariable @Positive Long storeId,
+                              @RequestParam(required = false) String cursor,
                               @AuthenticationPrincipal MemberInfo memberInfo,
                               Model model) {
-        log.debug("게시글 목록 뷰 진입: storeId={}, memberId={}", storeId,
+        log.debug("게시글 목록 뷰 진입: storeId={}, cursor={}, memberId={}", storeId, cursor,
                 memberInfo != null ? memberInfo.getUsername() : "비로그인");
 
-        model.addAttribute("posts", postService.findByStoreIdWithCommentsAndLikes(storeId, false, memberInfo));
+        CursorPageResponse<PostResponse> page = postService.getPostPage(storeId, cursor, PAGE_SIZE, memberInfo);
+        model.addAttribute("posts", page.items());
+        model.addAttribute("nextCursor", page.nextCursor());
         model.addAttribute("storeId", storeId);
         return VIEW_PATH + "/list";
     }
@@ -50,10 +54,13 @@ public class PostController {
                               Model model) {
         log.debug("게시글 상세 뷰 진입: postId={}", postId);
 
-        model.addAttribute("post", postService.getPostById(postId, false));
-        model.addAttribute("comments", commentService.findByPostId(postId));
-        model.addAttribute("images", postImageService.findImagesByPostId(postId));
-        model.addAttribute("likeInfo", postLikeService.getLikeInfo(postId, memberInfo));
+        PostDetailResponse detail = postService.getPostDetail(postId, memberInfo);
+        model.addAttribute("post", detail.post());
+        model.addAttribute("comments", detail.comments());
+        model.addAttribute("nextCommentCursor", detail.nextCommentCursor());
+        model.addAttribute("images", detail.postImages());
+        model.addAttribute("likeInfo",
+                PostLikeResponse.of(detail.post().likeCount(), detail.post().likedByCurrentUser()));
         return VIEW_PATH + "/detail";
     }
 
@@ -0,0 +1,19 @@
+package kr.co.pinup.posts.event;
+
+/**
+ * 게시글에 좋아요나 댓글이 더해지거나 빠졌을 때 발행한다. delta 는 좋아요 취소나 댓글 삭제면 -1 이다.
+ */
+public record PostEngagedEvent(Long postId, Long storeId, Type type, int delta) {
+
+    public static PostEngagedEvent liked(final Long postId, final Long storeId, final int delta) {
+        return new PostEngagedEvent(postId, storeId, Type.LIKE, delta);
+    }
+
+    public static PostEngagedEvent commented(final Long postId, final Long storeId, final int delta) {
+        return new PostEngagedEvent(postId, storeId, Type.COMMENT, delta);
+    }
+
+    public enum Type {
+        LIKE, COMMENT
+    }
+}
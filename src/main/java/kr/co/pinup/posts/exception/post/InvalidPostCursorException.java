@@ -0,0 +1,22 @@
+package kr.co.pinup.posts.exception.post;
+
+import kr.co.pinup.exception.GlobalCustomException;
+import org.springframework.http.HttpStatus;
+
+public class InvalidPostCursorException extends GlobalCustomException {
+
+    private static final String DEFAULT_MESSAGE = "잘못된 페이지 커서입니다.";
+
+    public InvalidPostCursorException() {
+        this(DEFAULT_MESSAGE);
+    }
+
+    public InvalidPostCursorException(String message) {
+        super(message);
+    }
+
+    @Override
+    protected int getHttpStatusCode() {
+        return HttpStatus.BAD_REQUEST.value();
+    }
+}
@@ -0,0 +1,45 @@
+package kr.co.pinup.posts.model.dto;
+
+import kr.co.pinup.posts.exception.post.InvalidPostCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 작성일과 아이디로 이루어진 게시글 목록의 키셋 커서.
+ * 클라이언트에는 Base64 문자열로만 노출한다.
+ */
+public record PostCursor(LocalDateTime createdAt, long id) {
+
+    public static final PostCursor FIRST = new PostCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private static final String DELIMITER = ",";
+
+    public static PostCursor from(final PostResponse post) {
+        return new PostCursor(post.createdAt(), post.id());
+    }
+
+    public static PostCursor decode(final String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+
+        try {
+            final String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            final String[] parts = decoded.split(DELIMITER);
+
+            return new PostCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+            throw new InvalidPostCursorException();
+        }
+    }
+
+    public String encode() {
+        final String raw = createdAt + DELIMITER + id;
+
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,16 +1,39 @@
 package kr.co.pinup.posts.model.dto;
 
-import kr.co.pinup.comments.model.dto.CommentResponse;
+import kr.co.pinup.comments.model.dto.CommentItemResponse;
+import kr.co.pinup.custom.pagination.CursorPageResponse;
+import kr.co.pinup.members.model.dto.MemberResponse;
 import kr.co.pinup.postImages.model.dto.PostImageResponse;
 import lombok.Builder;
 
 import java.util.List;
 
+/**
+ * comments 는 첫 페이지 댓글이며, 더 있으면 nextCommentCursor 를 after 로 넘겨 이어 읽는다.
+ */
 @Builder
-public record PostDetailResponse(PostResponse post, List<CommentResponse> comments,
+public record PostDetailResponse(PostResponse post, List<CommentItemResponse> comments, String nextCommentCursor,
                                  List<PostImageResponse> postImages) {
 
-    public static PostDetailResponse from(PostResponse post, List<CommentResponse> comments, List<PostImageResponse> images) {
-        return new PostDetailResponse(post, comments, images);
+    public static PostDetailResponse from(PostResponse post, List<CommentItemResponse> comments, List<PostImageResponse> images) {
+        return new PostDetailResponse(post, comments, null, images);
+    }
+
+    /**
+     * rows 는 비어 있지 않아야 하며, pendingLikes 는 아직 반영되지 않은 좋아요 수 증감이다.
+     */
+    public static PostDetailResponse of(List<PostDetailRow> rows, CursorPageResponse<CommentItemResponse> comments,
+                                        long pendingLikes) {
+        PostDetailRow first = rows.get(0);
+        PostResponse post = new PostResponse(first.id(), first.storeId(), new MemberResponse(first.member()),
+                first.title(), first.content(), first.thumbnail(), first.createdAt(), first.updatedAt(),
+                first.commentCount(), (int) Math.max(first.likeCount() + pendingLikes, 0),
+                Boolean.TRUE.equals(first.likedByCurrentUser()));
+
+        List<PostImageResponse> images = rows.stream()
+                .filter(row -> row.imageId() != null)
+                .map(row -> new PostImageResponse(row.imageId(), row.id(), row.imageUrl()))
+                .toList();
+        return new PostDetailResponse(post, comments.items(), comments.nextCursor(), images);
     }
 }
@@ -0,0 +1,25 @@
+package kr.co.pinup.posts.model.dto;
+
+import kr.co.pinup.members.Member;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 상세 조회 한 행. 게시글 컬럼은 이미지 수만큼 반복되고, 이미지가 없으면 imageId 가 null 인 한 행만 나온다.
+ */
+public record PostDetailRow(
+        Long id,
+        Long storeId,
+        Member member,
+        String title,
+        String content,
+        String thumbnail,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Integer commentCount,
+        Integer likeCount,
+        Boolean likedByCurrentUser,
+        Long imageId,
+        String imageUrl
+) {
+}
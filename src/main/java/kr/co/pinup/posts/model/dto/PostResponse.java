@@ -17,6 +17,16 @@ public record PostResponse(Long id, Long storeId, MemberResponse member, String
                 post.getCreatedAt(), post.getUpdatedAt(), 0, 0, false);
     }
 
+    public PostResponse(Long id,
+                        String memberNickname,
+                        String title,
+                        String thumbnail,
+                        LocalDateTime createdAt,
+                        Long commentCount,
+                        Integer likeCount) {
+        this(id, memberNickname, title, thumbnail, createdAt, commentCount, likeCount, false);
+    }
+
     public PostResponse(Long id,
                         String memberNickname,
                         String title,
@@ -40,5 +50,8 @@ public record PostResponse(Long id, Long storeId, MemberResponse member, String
         );
     }
 
+    public PostResponse withLikedByCurrentUser(boolean liked) {
+        return new PostResponse(id, storeId, member, title, content, thumbnail, createdAt, updatedAt,
+                commentCount, likeCount, liked);
+    }
 }
-
@@ -0,0 +1,111 @@
+package kr.co.pinup.posts.ranking;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 인기 게시글 점수를 주기적으로 post_hot_scores 에 통째로 저장하고, 애플리케이션이 뜰 때 다시 읽어 순위를 복원한다.
+ * 마지막 저장 이후의 좋아요/댓글은 재시작하면 빠진다.
+ */
+@Slf4j
+@Component
+class HotPostCheckpoint {
+
+    private static final String METRIC_PREFIX = "pinup.post.hot.checkpoint";
+    private static final String DELETE_SQL = "DELETE FROM post_hot_scores";
+    private static final String INSERT_SQL =
+            "INSERT INTO post_hot_scores (post_id, store_id, score, checkpointed_at) VALUES (?, ?, ?, ?)";
+    private static final String SELECT_SQL = "SELECT post_id, store_id, score, checkpointed_at FROM post_hot_scores";
+
+    private final HotPostRanking ranking;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate writeTransaction;
+    private final ReentrantLock checkpointLock = new ReentrantLock();
+
+    private final Counter failureCounter;
+    private final Timer checkpointTimer;
+
+    HotPostCheckpoint(
+            final HotPostRanking ranking,
+            final JdbcTemplate jdbcTemplate,
+            final PlatformTransactionManager transactionManager,
+            final MeterRegistry meterRegistry
+    ) {
+        this.ranking = ranking;
+        this.jdbcTemplate = jdbcTemplate;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+
+        failureCounter = Counter.builder(METRIC_PREFIX + ".failures")
+                .register(meterRegistry);
+        checkpointTimer = Timer.builder(METRIC_PREFIX + ".duration")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        try {
+            final List<Row> rows = jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> new Row(
+                    rs.getLong("post_id"), rs.getLong("store_id"), rs.getDouble("score"), rs.getTimestamp("checkpointed_at")));
+            rows.forEach(row -> ranking.add(row.postId(), row.storeId(), row.score(), row.checkpointedAt().getTime()));
+            log.info("인기 게시글 순위 복원 posts={}", rows.size());
+        } catch (RuntimeException e) {
+            log.warn("인기 게시글 순위 복원 실패, 빈 순위로 시작합니다.", e);
+        }
+    }
+
+    @Scheduled(
+            fixedDelayString = "${pinup.post.hot.checkpoint-interval-ms:60000}",
+            initialDelayString = "${pinup.post.hot.checkpoint-interval-ms:60000}"
+    )
+    public void checkpoint() {
+        checkpointLock.lock();
+        try {
+            final long startedAt = System.nanoTime();
+            final long now = System.currentTimeMillis();
+            final List<HotPostScore> scores = ranking.snapshot(now);
+            final Timestamp checkpointedAt = new Timestamp(now);
+
+            try {
+                writeTransaction.executeWithoutResult(status -> {
+                    jdbcTemplate.update(DELETE_SQL);
+                    jdbcTemplate.batchUpdate(INSERT_SQL, scores.stream()
+                            .map(score -> new Object[]{score.postId(), score.storeId(), score.score(), checkpointedAt})
+                            .toList());
+                });
+                log.debug("인기 게시글 순위 저장 posts={}", scores.size());
+            } catch (RuntimeException e) {
+                // 저장하지 못해도 메모리의 순위는 그대로이므로 다음 주기에 다시 저장한다.
+                failureCounter.increment();
+                log.warn("인기 게시글 순위 저장 실패 posts={}", scores.size(), e);
+            } finally {
+                checkpointTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        } finally {
+            checkpointLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void checkpointOnShutdown() {
+        log.info("종료 전 인기 게시글 순위 저장");
+        checkpoint();
+    }
+
+    private record Row(long postId, long storeId, double score, Timestamp checkpointedAt) {
+    }
+}
@@ -0,0 +1,183 @@
+package kr.co.pinup.posts.ranking;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.co.pinup.posts.event.PostEngagedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 좋아요와 댓글에 가중치를 주고 반감기로 감쇠한 점수로 인기 게시글을 전체, 스토어별로 보관한다.
+ * 점수는 기준 시각부터 시간이 지날수록 커지는 가중치를 곱해 쌓으므로(forward decay) 한 번 쌓은 점수는 다시 계산하지 않고,
+ * 순서도 조회 시각과 무관하다. 조회할 때만 기준 시각에서 지난 만큼 나눠 현재 점수로 돌려준다.
+ * 전체는 capacity 개, 스토어별로는 store-capacity 개까지만 보관하므로 밀려난 게시글은 다시 0 부터 쌓는다.
+ */
+@Component
+public class HotPostRanking {
+
+    private static final String METRIC_PREFIX = "pinup.post.hot";
+
+    // 기준 시각에서 반감기가 이만큼 지나면 점수가 double 범위를 넘지 않게 기준 시각을 옮긴다.
+    private static final double MAX_LANDMARK_HALF_LIVES = 64;
+
+    private final double halfLifeMillis;
+    private final double likeWeight;
+    private final double commentWeight;
+    private final int storeCapacity;
+
+    private final TopK global;
+    private final Map<Long, TopK> byStore = new HashMap<>();
+    private final Map<Long, Long> storeOfPost = new HashMap<>();
+    private long landmarkMillis = System.currentTimeMillis();
+
+    private final Counter recordedCounter;
+
+    public HotPostRanking(
+            final MeterRegistry meterRegistry,
+            @Value("${pinup.post.hot.half-life-hours:12}") final double halfLifeHours,
+            @Value("${pinup.post.hot.like-weight:1}") final double likeWeight,
+            @Value("${pinup.post.hot.comment-weight:2}") final double commentWeight,
+            @Value("${pinup.post.hot.capacity:1000}") final int capacity,
+            @Value("${pinup.post.hot.store-capacity:100}") final int storeCapacity
+    ) {
+        this.halfLifeMillis = halfLifeHours * 60 * 60 * 1000;
+        this.likeWeight = likeWeight;
+        this.commentWeight = commentWeight;
+        this.storeCapacity = storeCapacity;
+        this.global = new TopK(capacity);
+
+        recordedCounter = Counter.builder(METRIC_PREFIX + ".recorded")
+                .description("순위에 반영한 좋아요/댓글 수")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".size", this, HotPostRanking::size)
+                .description("순위에 보관 중인 게시글 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 커밋된 좋아요/댓글만 반영한다. 좋아요 취소와 댓글 삭제는 원래 언제 더해졌는지 모르므로 지금 시각의 가중치만큼 뺀다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostEngaged(final PostEngagedEvent event) {
+        final double weight = event.type() == PostEngagedEvent.Type.LIKE ? likeWeight : commentWeight;
+        add(event.postId(), event.storeId(), weight * event.delta(), System.currentTimeMillis());
+        recordedCounter.increment();
+    }
+
+    /**
+     * atMillis 시각 기준의 점수 weight 를 더한다. 체크포인트를 복원할 때도 쓴다.
+     */
+    public void add(final Long postId, final Long storeId, final double weight, final long atMillis) {
+        synchronized (global) {
+            rebaseIfNeeded(atMillis);
+
+            final TopK storeTop = byStore.computeIfAbsent(storeId, id -> new TopK(storeCapacity));
+            // 한쪽에서만 밀려났을 수 있으므로 남아 있는 쪽의 점수를 이어 쓴다.
+            final double current = Math.max(global.score(postId), storeTop.score(postId));
+            final double updated = current + weight * growth(atMillis);
+
+            if (updated <= 0) {
+                global.remove(postId);
+                storeTop.remove(postId);
+                forgetIfUnranked(postId);
+            } else {
+                storeOfPost.put(postId, storeId);
+                final Long evictedFromGlobal = global.put(postId, updated);
+                final Long evictedFromStore = storeTop.put(postId, updated);
+                forgetIfUnranked(evictedFromGlobal);
+                forgetIfUnranked(evictedFromStore);
+            }
+            if (storeTop.isEmpty()) {
+                byStore.remove(storeId);
+            }
+        }
+    }
+
+    /**
+     * storeId 가 없으면 전체 순위를, 있으면 해당 스토어의 순위를 size 개까지 반환한다.
+     */
+    public List<HotPostScore> top(final Long storeId, final int size) {
+        final long now = System.currentTimeMillis();
+        synchronized (global) {
+            final TopK scope = storeId == null ? global : byStore.get(storeId);
+            if (scope == null) {
+                return List.of();
+            }
+
+            final double decay = 1 / growth(now);
+            return scope.top(size).stream()
+                    .map(ranked -> new HotPostScore(ranked.postId(), storeOfPost.get(ranked.postId()), ranked.score() * decay))
+                    .toList();
+        }
+    }
+
+    public void remove(final Long postId) {
+        synchronized (global) {
+            final Long storeId = storeOfPost.remove(postId);
+            global.remove(postId);
+            if (storeId == null) {
+                return;
+            }
+
+            final TopK storeTop = byStore.get(storeId);
+            if (storeTop != null && storeTop.remove(postId) && storeTop.isEmpty()) {
+                byStore.remove(storeId);
+            }
+        }
+    }
+
+    /**
+     * 보관 중인 모든 게시글의 atMillis 시각 기준 점수. 전체와 스토어별 순위의 합집합이다.
+     */
+    public List<HotPostScore> snapshot(final long atMillis) {
+        synchronized (global) {
+            final double decay = 1 / growth(atMillis);
+            final List<HotPostScore> scores = new ArrayList<>(storeOfPost.size());
+            storeOfPost.forEach((postId, storeId) -> {
+                final TopK storeTop = byStore.get(storeId);
+                final double score = Math.max(global.score(postId), storeTop == null ? 0.0 : storeTop.score(postId));
+                scores.add(new HotPostScore(postId, storeId, score * decay));
+            });
+            return scores;
+        }
+    }
+
+    public int size() {
+        synchronized (global) {
+            return storeOfPost.size();
+        }
+    }
+
+    private double growth(final long atMillis) {
+        return Math.pow(2, (atMillis - landmarkMillis) / halfLifeMillis);
+    }
+
+    private void rebaseIfNeeded(final long atMillis) {
+        if ((atMillis - landmarkMillis) / halfLifeMillis < MAX_LANDMARK_HALF_LIVES) {
+            return;
+        }
+
+        final double factor = 1 / growth(atMillis);
+        global.scale(factor);
+        byStore.values().forEach(storeTop -> storeTop.scale(factor));
+        landmarkMillis = atMillis;
+    }
+
+    private void forgetIfUnranked(final Long postId) {
+        if (postId == null || global.contains(postId)) {
+            return;
+        }
+        final Long storeId = storeOfPost.get(postId);
+        final TopK storeTop = storeId == null ? null : byStore.get(storeId);
+        if (storeTop == null || !storeTop.contains(postId)) {
+            storeOfPost.remove(postId);
+        }
+    }
+}
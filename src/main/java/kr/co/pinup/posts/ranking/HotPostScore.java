@@ -0,0 +1,7 @@
+package kr.co.pinup.posts.ranking;
+
+/**
+ * 조회 시각 기준으로 감쇠한 게시글 점수.
+ */
+public record HotPostScore(Long postId, Long storeId, double score) {
+}
@@ -0,0 +1,95 @@
+package kr.co.pinup.posts.ranking;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 점수가 높은 게시글을 capacity 개까지 정렬된 채로 보관한다. 동기화는 호출하는 쪽에서 한다.
+ * 꽉 찬 상태에서 더 높은 점수가 들어오면 가장 낮은 게시글을 버린다.
+ */
+final class TopK {
+
+    private static final Comparator<Ranked> ORDER = Comparator.comparingDouble(Ranked::score).reversed()
+            .thenComparing(Ranked::postId);
+
+    private final int capacity;
+    private final Map<Long, Ranked> byPost = new HashMap<>();
+    private final TreeSet<Ranked> ordered = new TreeSet<>(ORDER);
+
+    TopK(final int capacity) {
+        this.capacity = capacity;
+    }
+
+    double score(final Long postId) {
+        final Ranked ranked = byPost.get(postId);
+        return ranked == null ? 0.0 : ranked.score();
+    }
+
+    boolean contains(final Long postId) {
+        return byPost.containsKey(postId);
+    }
+
+    /**
+     * 점수를 바꾸고, capacity 를 넘어 버린 게시글 ID 를 반환한다. 버린 게시글이 없으면 null 이다.
+     */
+    Long put(final Long postId, final double score) {
+        remove(postId);
+        final Ranked ranked = new Ranked(postId, score);
+        byPost.put(postId, ranked);
+        ordered.add(ranked);
+
+        if (ordered.size() <= capacity) {
+            return null;
+        }
+        final Ranked lowest = ordered.pollLast();
+        byPost.remove(lowest.postId());
+        return lowest.postId();
+    }
+
+    boolean remove(final Long postId) {
+        final Ranked removed = byPost.remove(postId);
+        if (removed == null) {
+            return false;
+        }
+        ordered.remove(removed);
+        return true;
+    }
+
+    List<Ranked> top(final int size) {
+        final List<Ranked> top = new ArrayList<>(Math.min(size, ordered.size()));
+        final Iterator<Ranked> iterator = ordered.iterator();
+        while (top.size() < size && iterator.hasNext()) {
+            top.add(iterator.next());
+        }
+        return top;
+    }
+
+    // 모든 점수에 같은 값을 곱하므로 순서는 그대로다.
+    void scale(final double factor) {
+        final List<Ranked> scaled = ordered.stream()
+                .map(ranked -> new Ranked(ranked.postId(), ranked.score() * factor))
+                .toList();
+        ordered.clear();
+        byPost.clear();
+        for (Ranked ranked : scaled) {
+            ordered.add(ranked);
+            byPost.put(ranked.postId(), ranked);
+        }
+    }
+
+    int size() {
+        return ordered.size();
+    }
+
+    boolean isEmpty() {
+        return ordered.isEmpty();
+    }
+
+    record Ranked(Long postId, double score) {
+    }
+}
@@ -1,53 +1,126 @@
 package kr.co.pinup.posts.repository;
 
-import jakarta.persistence.LockModeType;
 import kr.co.pinup.posts.Post;
+import kr.co.pinup.posts.model.dto.PostDetailRow;
 import kr.co.pinup.posts.model.dto.PostResponse;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
 
+    String LIST_ITEM_PROJECTION = """
+            SELECT new kr.co.pinup.posts.model.dto.PostResponse(
+                p.id,
+                p.member.nickname,
+                p.title,
+                p.thumbnail,
+                p.createdAt,
+                CAST(p.commentCount AS Long),
+                p.likeCount
+            )
+            FROM Post p
+            """;
+
     List<Post> findByStoreIdAndIsDeleted(Long storeId, boolean isDeleted);
 
     Optional<Post> findByIdAndIsDeleted(Long postId, boolean isDeleted);
 
-    @Lock(LockModeType.OPTIMISTIC)
-    @Query("SELECT p FROM Post p WHERE p.id = :id")
-    Optional<Post> findByIdWithOptimisticLock(@Param("id") Long id);
+    // (store_id, created_at, id) 인덱스를 커서 위치부터 역순으로 읽는다.
+    @Query(LIST_ITEM_PROJECTION + """
+            WHERE p.store.id = :storeId
+              AND p.isDeleted = false
+              AND (p.createdAt < :cursorCreatedAt OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorId))
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<PostResponse> findPostListPage(
+            @Param("storeId") Long storeId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") long cursorId,
+            Pageable pageable
+    );
+
+    // 인기 게시글처럼 순서를 이미 정해 둔 목록을 PK 로 읽는다. 정렬은 호출하는 쪽에서 한다.
+    @Query(LIST_ITEM_PROJECTION + """
+            WHERE p.id IN :ids
+              AND p.isDeleted = false
+            """)
+    List<PostResponse> findPostListItemsByIds(@Param("ids") Collection<Long> ids);
+
+    // 스토어 구분 없이 (created_at, id) 인덱스를 커서 위치부터 역순으로 읽는다.
+    @Query(LIST_ITEM_PROJECTION + """
+            WHERE p.isDeleted = false
+              AND (p.createdAt < :cursorCreatedAt OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorId))
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<PostResponse> findFeedPage(
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") long cursorId,
+            Pageable pageable
+    );
 
+    // 게시글, 작성자, 이미지와 조회자의 좋아요 여부를 한 문장으로 읽는다. 작성자는 회원 ID 대신 닉네임으로 찾는다.
     @Query("""
-            SELECT new kr.co.pinup.posts.model.dto.PostResponse(
+            SELECT new kr.co.pinup.posts.model.dto.PostDetailRow(
                 p.id,
-                p.member.nickname,
+                p.store.id,
+                m,
                 p.title,
+                p.content,
                 p.thumbnail,
                 p.createdAt,
-                COUNT(c.id),
+                p.updatedAt,
+                p.commentCount,
                 p.likeCount,
                 CASE
-                  WHEN :memberId IS NOT NULL AND
+                  WHEN :nickname IS NOT NULL AND
                        EXISTS (
                          SELECT 1 FROM PostLike pl
-                         WHERE pl.post.id = p.id AND pl.member.id = :memberId
+                         WHERE pl.post.id = p.id AND pl.member.nickname = :nickname
                        )
                   THEN TRUE ELSE FALSE
-                END
+                END,
+                i.id,
+                i.s3Url
             )
             FROM Post p
-            LEFT JOIN Comment c ON c.post.id = p.id
-            WHERE p.store.id = :storeId
-              AND p.isDeleted = :isDeleted
-            GROUP BY
-              p.id, p.member.nickname, p.title, p.thumbnail, p.createdAt, p.likeCount
-            ORDER BY p.createdAt DESC
+            JOIN p.member m
+            LEFT JOIN p.postImages i
+            WHERE p.id = :id
+              AND p.isDeleted = false
+            ORDER BY i.id
             """)
-    List<PostResponse> findPostListItems(@Param("storeId") Long storeId, @Param("isDeleted") boolean isDeleted, @Param("memberId") Long memberId);
+    List<PostDetailRow> findDetailRows(@Param("id") Long id, @Param("nickname") String nickname);
+
+    @Query("SELECT p.store.id FROM Post p WHERE p.id = :id")
+    Optional<Long> findStoreIdById(@Param("id") Long id);
+
+    @Query("SELECT p.likeCount FROM Post p WHERE p.id = :id")
+    Optional<Integer> findLikeCountById(@Param("id") Long id);
+
+    // 버전을 올리지 않는 벌크 UPDATE 라 좋아요가 몰려도 낙관적 락 충돌이 나지 않는다.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount + 1 WHERE p.id = :id")
+    int increaseLikeCount(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount - 1 WHERE p.id = :id AND p.likeCount > 0")
+    int decreaseLikeCount(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + 1 WHERE p.id = :id")
+    int increaseCommentCount(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount - 1 WHERE p.id = :id AND p.commentCount > 0")
+    int decreaseCommentCount(@Param("id") Long id);
 }
@@ -1,11 +1,14 @@
 package kr.co.pinup.posts.service;
 
 import jakarta.transaction.Transactional;
+import kr.co.pinup.comments.model.dto.CommentItemResponse;
 import kr.co.pinup.comments.repository.CommentRepository;
 import kr.co.pinup.custom.logging.AppLogger;
 import kr.co.pinup.custom.logging.model.dto.ErrorLog;
 import kr.co.pinup.custom.logging.model.dto.InfoLog;
 import kr.co.pinup.custom.logging.model.dto.WarnLog;
+import kr.co.pinup.custom.pagination.CursorPageResponse;
+import kr.co.pinup.custom.version.AggregateVersionRegistry;
 import kr.co.pinup.members.Member;
 import kr.co.pinup.members.exception.MemberNotFoundException;
 import kr.co.pinup.members.model.dto.MemberInfo;
@@ -17,39 +20,60 @@ import kr.co.pinup.postImages.model.dto.CreatePostImageRequest;
 import kr.co.pinup.postImages.model.dto.PostImageResponse;
 import kr.co.pinup.postImages.model.dto.UpdatePostImageRequest;
 import kr.co.pinup.postImages.service.PostImageService;
+import kr.co.pinup.postLikes.cache.LikedPostCache;
+import kr.co.pinup.postLikes.counter.PostLikeCounter;
 import kr.co.pinup.postLikes.repository.PostLikeRepository;
 import kr.co.pinup.posts.Post;
+import kr.co.pinup.posts.cache.PostFeedCache;
 import kr.co.pinup.posts.exception.post.PostDeleteFailedException;
 import kr.co.pinup.posts.exception.post.PostNotFoundException;
 import kr.co.pinup.posts.model.dto.CreatePostRequest;
+import kr.co.pinup.posts.model.dto.PostCursor;
+import kr.co.pinup.posts.model.dto.PostDetailResponse;
+import kr.co.pinup.posts.model.dto.PostDetailRow;
 import kr.co.pinup.posts.model.dto.PostResponse;
 import kr.co.pinup.posts.model.dto.UpdatePostRequest;
+import kr.co.pinup.posts.ranking.HotPostRanking;
+import kr.co.pinup.posts.ranking.HotPostScore;
 import kr.co.pinup.posts.repository.PostRepository;
 import kr.co.pinup.stores.Store;
 import kr.co.pinup.stores.exception.StoreNotFoundException;
 import kr.co.pinup.stores.repository.StoreRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static kr.co.pinup.custom.version.AggregateType.POST;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PostService {
 
+    private static final int DETAIL_COMMENT_PAGE_SIZE = 50;
+
     private final PostRepository postRepository;
     private final PostImageService postImageService;
     private final MemberRepository memberRepository;
     private final StoreRepository  storeRepository;
     private final CommentRepository commentRepository;
     private final PostLikeRepository postLikeRepository;
+    private final LikedPostCache likedPostCache;
+    private final PostLikeCounter postLikeCounter;
+    private final PostFeedCache postFeedCache;
+    private final HotPostRanking hotPostRanking;
     private final AppLogger appLogger ;
+    private final AggregateVersionRegistry versionRegistry;
 
     @Transactional
     public PostResponse createPost(MemberInfo memberInfo, CreatePostRequest createPostRequest, CreatePostImageRequest createPostImageRequest) {
@@ -66,6 +90,7 @@ public class PostService {
         if (!postImages.isEmpty()) {
             post.updateThumbnail(postImages.get(0).getS3Url());
         }
+        postFeedCache.invalidate();
 
         return PostResponse.from(post);
     }
@@ -94,15 +119,91 @@ public class PostService {
                 .collect(Collectors.toList());
     }
 
-    public List<PostResponse> findByStoreIdWithCommentsAndLikes(Long storeId, boolean isDeleted, MemberInfo memberInfo) {
-        log.debug("댓글 포함 게시글 요청: storeId={}, isDeleted={}", storeId, isDeleted);
+    public CursorPageResponse<PostResponse> getPostPage(Long storeId, String cursor, int size, MemberInfo memberInfo) {
+        PostCursor postCursor = PostCursor.decode(cursor);
+        Long memberId = findMemberId(memberInfo);
+
+        List<PostResponse> posts = markLiked(postRepository.findPostListPage(
+                storeId, postCursor.createdAt(), postCursor.id(), PageRequest.ofSize(size + 1)), memberId);
+        log.debug("게시글 페이지 요청: storeId={}, cursor={}, fetched={}", storeId, postCursor, posts.size());
+
+        return CursorPageResponse.of(posts, size, Function.identity(), post -> PostCursor.from(post).encode());
+    }
+
+    /**
+     * 스토어 구분 없이 최신 게시글을 읽는다. 앞쪽 페이지는 캐시에서 꺼내고, 좋아요 여부만 조회자마다 채운다.
+     */
+    public CursorPageResponse<PostResponse> getFeedPage(String cursor, int size, MemberInfo memberInfo) {
+        PostCursor postCursor = PostCursor.decode(cursor);
+
+        CursorPageResponse<PostResponse> page = postFeedCache.get(cursor, size, () -> {
+            List<PostResponse> posts = postRepository.findFeedPage(
+                    postCursor.createdAt(), postCursor.id(), PageRequest.ofSize(size + 1));
+            log.debug("피드 페이지 조회: cursor={}, fetched={}", postCursor, posts.size());
+            return CursorPageResponse.of(posts, size, Function.identity(), post -> PostCursor.from(post).encode());
+        });
+
+        Long memberId = findMemberId(memberInfo);
+        if (memberId == null) {
+            return page;
+        }
+        return new CursorPageResponse<>(markLiked(page.items(), memberId), page.nextCursor(), page.hasNext());
+    }
+
+    /**
+     * 감쇠 점수 순위에서 size 개의 게시글 ID 를 꺼내 PK 로만 읽는다. 삭제되어 읽히지 않은 게시글은 건너뛴다.
+     */
+    public List<PostResponse> getHotPosts(Long storeId, int size, MemberInfo memberInfo) {
+        List<HotPostScore> ranked = hotPostRanking.top(storeId, size);
+        if (ranked.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, PostResponse> posts = postRepository.findPostListItemsByIds(
+                        ranked.stream().map(HotPostScore::postId).toList()).stream()
+                .collect(Collectors.toMap(PostResponse::id, Function.identity()));
+        log.debug("인기 게시글 요청: storeId={}, ranked={}, found={}", storeId, ranked.size(), posts.size());
+
+        List<PostResponse> hotPosts = ranked.stream()
+                .map(score -> posts.get(score.postId()))
+                .filter(Objects::nonNull)
+                .toList();
+        return markLiked(hotPosts, findMemberId(memberInfo));
+    }
+
+    // 좋아요 여부는 목록 쿼리에서 post_like 를 다시 찾지 않고 회원별 비트맵으로 채운다.
+    private List<PostResponse> markLiked(List<PostResponse> posts, Long memberId) {
+        if (memberId == null) {
+            return posts;
+        }
+        return posts.stream()
+                .map(post -> post.withLikedByCurrentUser(likedPostCache.isLiked(memberId, post.id())))
+                .toList();
+    }
 
-        Long memberId = (memberInfo != null) ? memberRepository.findByNickname(memberInfo.nickname())
+    private Long findMemberId(MemberInfo memberInfo) {
+        return (memberInfo != null) ? memberRepository.findByNickname(memberInfo.nickname())
                 .orElseThrow(() -> new MemberNotFoundException(memberInfo.nickname() + "님을 찾을 수 없습니다."))
                 .getId() : null;
+    }
 
-        return postRepository.findPostListItems(storeId, isDeleted, memberId);
+    /**
+     * 게시글, 이미지, 좋아요 수와 조회자의 좋아요 여부를 한 문장으로, 첫 페이지 댓글과 작성자를 한 문장으로 읽는다.
+     */
+    public PostDetailResponse getPostDetail(Long postId, MemberInfo memberInfo) {
+        log.debug("게시글 상세 요청: postId={}", postId);
+
+        String nickname = memberInfo != null ? memberInfo.nickname() : null;
+        List<PostDetailRow> rows = postRepository.findDetailRows(postId, nickname);
+        if (rows.isEmpty()) {
+            throw new PostNotFoundException();
+        }
 
+        CursorPageResponse<CommentItemResponse> comments = CursorPageResponse.of(
+                commentRepository.findItemsByPostId(postId, 0L, PageRequest.ofSize(DETAIL_COMMENT_PAGE_SIZE + 1)),
+                DETAIL_COMMENT_PAGE_SIZE, Function.identity(), comment -> comment.id().toString());
+        long pendingLikes = postLikeCounter.isWriteBehind() ? postLikeCounter.pending(postId) : 0L;
+        return PostDetailResponse.of(rows, comments, pendingLikes);
     }
 
     public PostResponse getPostById(Long id, boolean isDeleted) {
@@ -126,6 +227,9 @@ public class PostService {
         }
         try {
             postRepository.delete(post);
+            versionRegistry.bump(POST, postId);
+            postFeedCache.invalidate();
+            hotPostRanking.remove(postId);
             appLogger.info(new InfoLog("게시글 삭제 성공").setStatus("200").setTargetId(postId.toString()));
         } catch (Exception e) {
             appLogger.error(new ErrorLog("게시글 삭제 실패", e)
@@ -149,6 +253,8 @@ public class PostService {
             updateThumbnailFromCurrentImages(existingPost, id);
         }
         appLogger.info(new InfoLog("게시글 수정 완료").setStatus("200").setTargetId(id.toString()));
+        versionRegistry.bump(POST, id);
+        postFeedCache.invalidate();
         return PostResponse.from(postRepository.save(existingPost));
     }
 
@@ -220,6 +326,9 @@ public class PostService {
         post.disablePost(true);
         appLogger.info(new InfoLog("게시글 비활성화 처리").setStatus("200").setTargetId(postId.toString()));
         postRepository.save(post);
+        versionRegistry.bump(POST, postId);
+        postFeedCache.invalidate();
+        hotPostRanking.remove(postId);
     }
 
     public Post findByIdOrThrow(Long id) {
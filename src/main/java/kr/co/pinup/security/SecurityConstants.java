@@ -7,8 +7,8 @@ public class SecurityConstants {
             "/", "/static/**", "/templates/**", "/css/**", "/js/**", "/images/**", "/docs/**", "/terms-privacy/**", "/fonts/**", "/error", "/favicon.ico", "/.well-known/appspecific/com.chrome.devtools.json",
             "/members/login", "/members/register", "/members/verify", "/members/password", "/api/members/oauth/**", "/api/members/login", "/api/members/validate", "/api/members/register", "/api/members/nickname", "/api/members/reset",
             "/api/verification/**",
-            "/stores", "/stores/{storeId:[0-9]+}", "/api/stores", "/api/stores/summary", "/api/stores/{storeId:[0-9]+}",
-            "/post", "/post/{postId:[0-9]+}", "/post/list/{postId:[0-9]+}", "/api/post/list/{storeId}", "/api/post/{postId}",
+            "/stores", "/stores/{storeId:[0-9]+}", "/api/stores", "/api/stores/summary", "/api/stores/nearby", "/api/stores/clusters", "/api/stores/search", "/api/stores/autocomplete", "/api/stores/facets", "/api/stores/{storeId:[0-9]+}",
+            "/post", "/post/{postId:[0-9]+}", "/post/list/{postId:[0-9]+}", "/api/post/list/{storeId}", "/api/post/feed", "/api/post/hot", "/api/post/{postId}", "/api/comment/{postId}",
             "/notices", "/notices/{noticeId}", "/api/notices", "/api/notices/{noticeId}",
             "/faqs", "/api/faqs", "/api/faqs/{faqsId}"
     };
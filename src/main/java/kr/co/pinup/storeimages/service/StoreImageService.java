@@ -8,6 +8,7 @@ import kr.co.pinup.storeimages.exception.StoreThumbnaiImagelNotFoundException;
 import kr.co.pinup.storeimages.model.dto.StoreImageResponse;
 import kr.co.pinup.storeimages.repository.StoreImageRepository;
 import kr.co.pinup.stores.Store;
+import kr.co.pinup.stores.cache.StoreDetailCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -27,6 +28,7 @@ public class StoreImageService {
 
     private final S3Service s3Service;
     private final StoreImageRepository storeImageRepository;
+    private final StoreDetailCache storeDetailCache;
 
     public List<StoreImageResponse> getStoreImages(Long storeId) {
         List<StoreImage> images = findByStoreId(storeId);
@@ -56,6 +58,7 @@ public class StoreImageService {
                 .toList();
 
         storeImageRepository.saveAll(storeImages);
+        storeDetailCache.evict(store.getId());
 
         return storeImages;
     }
@@ -71,6 +74,7 @@ public class StoreImageService {
                 storeImage.changeThumbnail(false);
             }
         }
+        storeDetailCache.evict(id);
 
         return storeImages;
     }
@@ -106,6 +110,7 @@ public class StoreImageService {
         }
 
         storeImageRepository.saveAll(storeImages);
+        storeDetailCache.evict(store.getId());
 
         return storeImages;
     }
@@ -120,6 +125,7 @@ public class StoreImageService {
         });
 
         storeImageRepository.deleteAll(images);
+        storeDetailCache.evict(storeId);
     }
 
     public void removeStoreImage(final Long id, final List<Long> deletedImageIds) {
@@ -129,6 +135,7 @@ public class StoreImageService {
                 .filter(storeImage -> deletedId.compareTo(storeImage.getId()) == 0)
                 .forEach(storeImage -> storeImage.changeDeleted(true))
         );
+        storeDetailCache.evict(id);
     }
 
     private List<StoreImage> findByStoreId(final Long storeId) {
@@ -140,8 +147,6 @@ public class StoreImageService {
     }
 
     private List<String> s3UploadFiles(List<MultipartFile> files) {
-        return files.stream()
-                .map(file -> s3Service.uploadFile(file, PATH_PREFIX))
-                .collect(Collectors.toList());
+        return s3Service.uploadFiles(files, PATH_PREFIX);
     }
 }
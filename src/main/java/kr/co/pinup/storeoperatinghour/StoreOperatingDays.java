@@ -0,0 +1,89 @@
+package kr.co.pinup.storeoperatinghour;
+
+import java.time.DayOfWeek;
+
+/**
+ * 자유 형식의 운영 요일("월~금", "월, 수, 금", "토일", "매일", "평일", "주말")을 요일 비트마스크로 바꾼다.
+ * 월요일이 0번 비트, 일요일이 6번 비트이며, 해석할 수 없으면 0 을 반환한다.
+ */
+public final class StoreOperatingDays {
+
+    public static final int EVERY_DAY = 0b111_1111;
+    public static final int WEEKDAYS = 0b001_1111;
+    public static final int WEEKEND = 0b110_0000;
+
+    private static final String DAY_NAMES = "월화수목금토일";
+
+    private StoreOperatingDays() {
+    }
+
+    public static int parse(final String days) {
+        if (days == null) {
+            return 0;
+        }
+
+        final String normalized = days.replace("요일", "").replaceAll("\\s+", "");
+        int mask = 0;
+        for (String token : normalized.split("[,/·]")) {
+            mask |= parseToken(token);
+        }
+        return mask;
+    }
+
+    public static boolean contains(final int mask, final DayOfWeek dayOfWeek) {
+        return (mask & bit(dayOfWeek.getValue() - 1)) != 0;
+    }
+
+    private static int parseToken(final String token) {
+        switch (token) {
+            case "매일" -> {
+                return EVERY_DAY;
+            }
+            case "평일" -> {
+                return WEEKDAYS;
+            }
+            case "주말" -> {
+                return WEEKEND;
+            }
+        }
+
+        final String[] range = token.split("[~\\-]", 2);
+        if (range.length == 2) {
+            return parseRange(range[0], range[1]);
+        }
+
+        int mask = 0;
+        for (char day : token.toCharArray()) {
+            final int index = DAY_NAMES.indexOf(day);
+            if (index >= 0) {
+                mask |= bit(index);
+            }
+        }
+        return mask;
+    }
+
+    // "금~월" 처럼 주를 넘어가는 구간도 허용한다.
+    private static int parseRange(final String from, final String to) {
+        if (from.isEmpty() || to.isEmpty()) {
+            return 0;
+        }
+
+        final int start = DAY_NAMES.indexOf(from.charAt(0));
+        final int end = DAY_NAMES.indexOf(to.charAt(0));
+        if (start < 0 || end < 0) {
+            return 0;
+        }
+
+        int mask = 0;
+        for (int index = start; ; index = (index + 1) % DAY_NAMES.length()) {
+            mask |= bit(index);
+            if (index == end) {
+                return mask;
+            }
+        }
+    }
+
+    private static int bit(final int index) {
+        return 1 << index;
+    }
+}
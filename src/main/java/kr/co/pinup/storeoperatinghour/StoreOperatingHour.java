@@ -21,6 +21,10 @@ public class StoreOperatingHour extends BaseEntity {
     @Column(nullable = false)
     private LocalTime endTime;
 
+    // days 를 해석한 요일 비트마스크(월요일 = 0번 비트), 운영 중 여부 조회용
+    @Column(name = "day_mask", nullable = false, columnDefinition = "integer default 0")
+    private int dayMask;
+
     @Setter
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "store_id", nullable = false)
@@ -31,11 +35,13 @@ public class StoreOperatingHour extends BaseEntity {
             final String days,
             final LocalTime startTime,
             final LocalTime endTime,
+            final int dayMask,
             final Store store
     ) {
         this.days = days;
         this.startTime = startTime;
         this.endTime = endTime;
+        this.dayMask = dayMask;
         this.store = store;
     }
 
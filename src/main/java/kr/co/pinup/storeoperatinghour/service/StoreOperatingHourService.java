@@ -1,5 +1,6 @@
 package kr.co.pinup.storeoperatinghour.service;
 
+import kr.co.pinup.storeoperatinghour.StoreOperatingDays;
 import kr.co.pinup.storeoperatinghour.StoreOperatingHour;
 import kr.co.pinup.storeoperatinghour.model.dto.StoreOperatingHourRequest;
 import kr.co.pinup.stores.Store;
@@ -21,6 +22,7 @@ public class StoreOperatingHourService {
                         .days(operatingHour.days())
                         .startTime(operatingHour.startTime())
                         .endTime(operatingHour.endTime())
+                        .dayMask(StoreOperatingDays.parse(operatingHour.days()))
                         .store(store)
                         .build())
                 .toList();
@@ -12,6 +12,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -33,6 +34,10 @@ public class Store extends BaseEntity {
     @Column(name = "store_status", nullable = false)
     private StoreStatus storeStatus;
 
+    // 목록 정렬 순서(StoreStatus.order). 상태 우선 키셋 페이지가 (status_rank, id) 인덱스를 타도록 상태와 함께 저장한다.
+    @Column(name = "status_rank", nullable = false, columnDefinition = "integer default 2")
+    private int statusRank;
+
     @Column(name = "start_date", nullable = false)
     private LocalDate startDate;
 
@@ -45,7 +50,8 @@ public class Store extends BaseEntity {
     @Column(name = "sns_url")
     private String snsUrl;
 
-    @Column(name = "view_count", nullable = false)
+    // 조회수는 StoreViewCounter 의 배치 UPDATE 로만 바꾼다. 엔티티를 저장할 때 읽어 둔 값으로 덮어쓰지 않게 UPDATE 에서 뺀다.
+    @Column(name = "view_count", nullable = false, updatable = false)
     private long viewCount;
 
     @Column(name = "is_deleted", nullable = false)
@@ -59,9 +65,11 @@ public class Store extends BaseEntity {
     @JoinColumn(name = "location_id", nullable = false)
     private Location location;
 
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "store", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<StoreOperatingHour> operatingHours = new ArrayList<>();
 
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "store", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<StoreImage> storeImages = new ArrayList<>();
 
@@ -74,6 +82,7 @@ public class Store extends BaseEntity {
         this.name = name;
         this.description = description;
         this.storeStatus = storeStatus;
+        this.statusRank = storeStatus.getOrder();
         this.startDate = startDate;
         this.endDate = endDate;
         this.websiteUrl = websiteUrl;
@@ -86,6 +95,7 @@ public class Store extends BaseEntity {
 
     public void updateStatus(final StoreStatus newStatus) {
         this.storeStatus = newStatus;
+        this.statusRank = newStatus.getOrder();
     }
 
     public void update(final StoreUpdateRequest request, final StoreCategory category, final Location location) {
@@ -0,0 +1,97 @@
+package kr.co.pinup.stores.bulk;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * 일괄 등록에 함께 올린 이미지 zip 파일.
+ * 임시 파일로 옮긴 뒤 중앙 디렉터리만 읽으므로 이미지 내용을 메모리에 올리지 않고 필요한 항목만 스트림으로 연다.
+ */
+@Slf4j
+final class StoreImageArchive implements AutoCloseable {
+
+    private static final StoreImageArchive EMPTY = new StoreImageArchive(null, null);
+
+    private final Path path;
+    private final ZipFile zipFile;
+
+    private StoreImageArchive(final Path path, final ZipFile zipFile) {
+        this.path = path;
+        this.zipFile = zipFile;
+    }
+
+    static StoreImageArchive open(final MultipartFile archive) throws IOException {
+        if (archive == null || archive.isEmpty()) {
+            return EMPTY;
+        }
+
+        final Path path = Files.createTempFile("store-import-", ".zip");
+        try {
+            archive.transferTo(path);
+            return new StoreImageArchive(path, new ZipFile(path.toFile()));
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(path);
+            throw e;
+        }
+    }
+
+    Image find(final String name) {
+        if (zipFile == null || name == null) {
+            return null;
+        }
+
+        final ZipEntry entry = zipFile.getEntry(name);
+        if (entry == null || entry.isDirectory()) {
+            return null;
+        }
+
+        return new Image(entry, URLConnection.guessContentTypeFromName(name));
+    }
+
+    InputStream open(final Image image) throws IOException {
+        return zipFile.getInputStream(image.entry());
+    }
+
+    @Override
+    public void close() {
+        if (zipFile == null) {
+            return;
+        }
+
+        try {
+            zipFile.close();
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("일괄 등록 이미지 임시 파일 정리 실패 path={}", path, e);
+        }
+    }
+
+    record Image(ZipEntry entry, String contentType) {
+
+        String fileName() {
+            final String name = entry.getName();
+            return name.substring(name.lastIndexOf('/') + 1);
+        }
+
+        // ZipFile 은 크기를 중앙 디렉터리에서 읽으므로 데이터 디스크립터로 쓴 항목도 크기를 안다. 그래도 모르면 -1 이다.
+        long size() {
+            return entry.getSize();
+        }
+
+        boolean hasKnownSize() {
+            return entry.getSize() >= 0;
+        }
+
+        boolean isImage() {
+            return contentType != null && contentType.startsWith("image/");
+        }
+    }
+}
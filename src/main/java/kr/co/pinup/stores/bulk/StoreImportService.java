@@ -0,0 +1,260 @@
+package kr.co.pinup.stores.bulk;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import kr.co.pinup.api.kakao.KakaoApiService;
+import kr.co.pinup.api.kakao.model.dto.KakaoAddressDocument;
+import kr.co.pinup.config.ExecutorConfig;
+import kr.co.pinup.custom.s3.S3Service;
+import kr.co.pinup.storecategories.StoreCategory;
+import kr.co.pinup.storecategories.repository.StoreCategoryRepository;
+import kr.co.pinup.stores.bulk.StoreImportWriter.PreparedStore;
+import kr.co.pinup.stores.event.StoreChangedEvent;
+import kr.co.pinup.stores.model.dto.StoreImportResult;
+import kr.co.pinup.stores.model.dto.StoreImportRow;
+import kr.co.pinup.stores.model.enums.StoreStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * 관리자용 스토어 일괄 등록.
+ * JSON Lines 파일을 한 줄씩 읽어 batchSize 개씩 묶고, 묶음마다 주소 좌표 조회와 이미지 업로드를 병렬로 한 뒤
+ * 한 트랜잭션에서 JDBC 배치 INSERT 한다. 한 번에 메모리에 올리는 것은 한 묶음뿐이며 줄마다 결과를 바로 알린다.
+ */
+@Slf4j
+@Service
+public class StoreImportService {
+
+    private static final String PATH_PREFIX = "store";
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final KakaoApiService kakaoApiService;
+    private final S3Service s3Service;
+    private final StoreCategoryRepository storeCategoryRepository;
+    private final StoreImportWriter storeImportWriter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate writeTransaction;
+    private final Executor importExecutor;
+    private final int batchSize;
+
+    public StoreImportService(
+            final ObjectMapper objectMapper,
+            final Validator validator,
+            final KakaoApiService kakaoApiService,
+            final S3Service s3Service,
+            final StoreCategoryRepository storeCategoryRepository,
+            final StoreImportWriter storeImportWriter,
+            final ApplicationEventPublisher eventPublisher,
+            final PlatformTransactionManager transactionManager,
+            @Qualifier(ExecutorConfig.STORE_IMPORT_EXECUTOR) final Executor importExecutor,
+            @Value("${pinup.store.import.batch-size:100}") final int batchSize
+    ) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.kakaoApiService = kakaoApiService;
+        this.s3Service = s3Service;
+        this.storeCategoryRepository = storeCategoryRepository;
+        this.storeImportWriter = storeImportWriter;
+        this.eventPublisher = eventPublisher;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.importExecutor = importExecutor;
+        this.batchSize = batchSize;
+    }
+
+    public void importStores(
+            final InputStream rows, final MultipartFile images, final Consumer<StoreImportResult> listener
+    ) throws IOException {
+        final Set<Long> categoryIds = storeCategoryRepository.findAll().stream()
+                .map(StoreCategory::getId)
+                .collect(Collectors.toSet());
+        final LocalDate today = LocalDate.now();
+        long succeeded = 0;
+        long failed = 0;
+
+        try (StoreImageArchive archive = StoreImageArchive.open(images);
+             BufferedReader reader = new BufferedReader(new InputStreamReader(rows, UTF_8))) {
+            final Map<Long, StoreImportRow> batch = new LinkedHashMap<>();
+            long line = 0;
+            String text;
+            while ((text = reader.readLine()) != null) {
+                line++;
+                if (text.isBlank()) {
+                    continue;
+                }
+
+                final StoreImportResult rejected = parse(line, text, categoryIds, archive, batch);
+                if (rejected != null) {
+                    failed++;
+                    listener.accept(rejected);
+                }
+                if (batch.size() >= batchSize) {
+                    final long imported = importBatch(batch, archive, today, listener);
+                    succeeded += imported;
+                    failed += batch.size() - imported;
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                final long imported = importBatch(batch, archive, today, listener);
+                succeeded += imported;
+                failed += batch.size() - imported;
+            }
+        }
+
+        log.info("스토어 일괄 등록 완료 succeeded={}, failed={}", succeeded, failed);
+    }
+
+    // 형식이나 값이 잘못된 줄은 묶음에 넣지 않고 바로 실패로 돌려준다.
+    private StoreImportResult parse(
+            final long line, final String text, final Set<Long> categoryIds,
+            final StoreImageArchive archive, final Map<Long, StoreImportRow> batch) {
+        final StoreImportRow row;
+        try {
+            row = objectMapper.readValue(text, StoreImportRow.class);
+        } catch (JsonProcessingException e) {
+            return StoreImportResult.failure(line, "JSON 형식이 올바르지 않습니다.");
+        }
+
+        final Set<ConstraintViolation<StoreImportRow>> violations = validator.validate(row);
+        if (!violations.isEmpty()) {
+            return StoreImportResult.failure(line, violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+        if (row.endDate().isBefore(row.startDate())) {
+            return StoreImportResult.failure(line, "종료 날짜가 시작 날짜보다 빠릅니다.");
+        }
+        if (!categoryIds.contains(row.categoryId())) {
+            return StoreImportResult.failure(line, "존재하지 않는 카테고리입니다. categoryId=" + row.categoryId());
+        }
+        if (row.thumbnailIndexOrDefault() >= row.images().size()) {
+            return StoreImportResult.failure(line, "썸네일 순번이 이미지 수를 벗어났습니다.");
+        }
+        for (String name : row.images()) {
+            final StoreImageArchive.Image image = archive.find(name);
+            if (image == null || !image.isImage()) {
+                return StoreImportResult.failure(line, "압축 파일에 이미지가 없습니다. image=" + name);
+            }
+            if (!image.hasKnownSize()) {
+                return StoreImportResult.failure(line, "압축 파일에서 이미지 크기를 알 수 없습니다. image=" + name);
+            }
+        }
+
+        batch.put(line, row);
+        return null;
+    }
+
+    /**
+     * 묶음 하나를 등록하고 성공한 줄 수를 반환한다.
+     * INSERT 가 실패하면 묶음 전체를 롤백하고 이미 올린 이미지를 지운다.
+     */
+    private long importBatch(
+            final Map<Long, StoreImportRow> batch, final StoreImageArchive archive,
+            final LocalDate today, final Consumer<StoreImportResult> listener) {
+        final Map<String, CompletableFuture<KakaoAddressDocument>> addresses = new HashMap<>();
+        batch.values().forEach(row -> addresses.computeIfAbsent(row.address(), address ->
+                CompletableFuture.supplyAsync(() -> kakaoApiService.searchAddress(address), importExecutor)));
+
+        final Map<Long, List<CompletableFuture<String>>> uploads = new LinkedHashMap<>();
+        batch.forEach((line, row) -> uploads.put(line, row.images().stream()
+                .map(name -> CompletableFuture.supplyAsync(() -> upload(archive, name), importExecutor))
+                .toList()));
+
+        final List<PreparedStore> prepared = new ArrayList<>();
+        final List<StoreImportResult> failures = new ArrayList<>();
+        batch.forEach((line, row) -> {
+            final List<String> imageUrls = new ArrayList<>();
+            String failure = null;
+            for (CompletableFuture<String> upload : uploads.get(line)) {
+                try {
+                    imageUrls.add(upload.join());
+                } catch (RuntimeException e) {
+                    failure = "이미지 업로드 실패";
+                }
+            }
+
+            KakaoAddressDocument address = null;
+            try {
+                address = addresses.get(row.address()).join();
+            } catch (RuntimeException e) {
+                log.warn("스토어 일괄 등록 주소 좌표 조회 실패 line={}, address={}", line, row.address(), e);
+                failure = "주소 좌표 조회 실패";
+            }
+
+            if (failure != null) {
+                deleteImages(imageUrls);
+                failures.add(StoreImportResult.failure(line, failure));
+                return;
+            }
+            prepared.add(new PreparedStore(line, row,
+                    StoreStatus.of(row.startDate(), row.endDate(), today), address, imageUrls));
+        });
+        failures.forEach(listener);
+
+        if (prepared.isEmpty()) {
+            return 0;
+        }
+
+        final List<Long> storeIds;
+        try {
+            storeIds = writeTransaction.execute(status -> {
+                final List<Long> ids = storeImportWriter.write(prepared, LocalDateTime.now());
+                eventPublisher.publishEvent(new StoreChangedEvent(ids));
+                return ids;
+            });
+        } catch (RuntimeException e) {
+            log.error("스토어 일괄 등록 INSERT 실패 size={}", prepared.size(), e);
+            prepared.forEach(store -> deleteImages(store.imageUrls()));
+            prepared.forEach(store -> listener.accept(StoreImportResult.failure(store.line(), "저장 실패")));
+            return 0;
+        }
+
+        for (int i = 0; i < prepared.size(); i++) {
+            listener.accept(StoreImportResult.success(prepared.get(i).line(), storeIds.get(i)));
+        }
+        return prepared.size();
+    }
+
+    private String upload(final StoreImageArchive archive, final String name) {
+        final StoreImageArchive.Image image = archive.find(name);
+        try (InputStream inputStream = archive.open(image)) {
+            return s3Service.uploadFile(inputStream, image.size(), image.contentType(), image.fileName(), PATH_PREFIX);
+        } catch (IOException e) {
+            throw new IllegalStateException("압축 파일 읽기 실패 image=" + name, e);
+        }
+    }
+
+    private void deleteImages(final List<String> imageUrls) {
+        for (String imageUrl : imageUrls) {
+            try {
+                s3Service.deleteFromS3(PATH_PREFIX + "/" + s3Service.extractFileName(imageUrl));
+            } catch (RuntimeException e) {
+                log.warn("스토어 일괄 등록 이미지 정리 실패 url={}", imageUrl, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package kr.co.pinup.stores.bulk;
+
+import kr.co.pinup.api.kakao.model.dto.KakaoAddressDocument;
+import kr.co.pinup.storeoperatinghour.StoreOperatingDays;
+import kr.co.pinup.storeoperatinghour.model.dto.StoreOperatingHourRequest;
+import kr.co.pinup.stores.model.dto.StoreImportRow;
+import kr.co.pinup.stores.model.enums.StoreStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일괄 등록한 스토어를 위치 → 스토어 → 운영 시간 → 이미지 순으로 JDBC 배치 INSERT 한다.
+ * JPA 를 거치지 않으므로 생성일은 직접 넣는다.
+ */
+@Component
+@RequiredArgsConstructor
+class StoreImportWriter {
+
+    private static final String INSERT_LOCATION_SQL = """
+            INSERT INTO locations (name, zonecode, sido, sigungu, latitude, longitude, address, address_detail, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String INSERT_STORE_SQL = """
+            INSERT INTO stores (name, description, store_status, status_rank, start_date, end_date, website_url, sns_url,
+                                view_count, is_deleted, category_id, location_id, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0, FALSE, ?, ?, ?)
+            """;
+    private static final String INSERT_OPERATING_HOUR_SQL = """
+            INSERT INTO store_operating_hour (days, start_time, end_time, day_mask, store_id, created_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+    private static final String INSERT_IMAGE_SQL = """
+            INSERT INTO store_images (image_url, is_thumbnail, is_deleted, store_id, created_at)
+            VALUES (?, ?, FALSE, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 호출하는 쪽의 트랜잭션 안에서 실행해야 한다. 반환하는 스토어 ID 는 stores 의 순서와 같다.
+     */
+    List<Long> write(final List<PreparedStore> stores, final LocalDateTime now) {
+        final Timestamp createdAt = Timestamp.valueOf(now);
+
+        final List<Long> locationIds = insertReturningIds(INSERT_LOCATION_SQL, stores, (ps, store, index) -> {
+            final StoreImportRow row = store.row();
+            ps.setString(1, store.address().addressName());
+            ps.setString(2, row.zonecode());
+            ps.setString(3, row.sido());
+            ps.setString(4, row.sigungu());
+            ps.setDouble(5, store.address().latitude());
+            ps.setDouble(6, store.address().longitude());
+            ps.setString(7, row.address());
+            ps.setString(8, row.addressDetail());
+            ps.setTimestamp(9, createdAt);
+        });
+
+        final List<Long> storeIds = insertReturningIds(INSERT_STORE_SQL, stores, (ps, store, index) -> {
+            final StoreImportRow row = store.row();
+            ps.setString(1, row.name());
+            ps.setString(2, row.description());
+            ps.setString(3, store.status().name());
+            ps.setInt(4, store.status().getOrder());
+            ps.setDate(5, Date.valueOf(row.startDate()));
+            ps.setDate(6, Date.valueOf(row.endDate()));
+            ps.setString(7, row.websiteUrl());
+            ps.setString(8, row.snsUrl());
+            ps.setLong(9, row.categoryId());
+            ps.setLong(10, locationIds.get(index));
+            ps.setTimestamp(11, createdAt);
+        });
+
+        final List<Object[]> operatingHours = new ArrayList<>();
+        final List<Object[]> images = new ArrayList<>();
+        for (int i = 0; i < stores.size(); i++) {
+            final PreparedStore store = stores.get(i);
+            final Long storeId = storeIds.get(i);
+            for (StoreOperatingHourRequest hour : store.row().operatingHours()) {
+                operatingHours.add(new Object[]{
+                        hour.days(), Time.valueOf(hour.startTime()), Time.valueOf(hour.endTime()),
+                        StoreOperatingDays.parse(hour.days()), storeId, createdAt});
+            }
+            for (int j = 0; j < store.imageUrls().size(); j++) {
+                images.add(new Object[]{
+                        store.imageUrls().get(j), j == store.row().thumbnailIndexOrDefault(), storeId, createdAt});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_OPERATING_HOUR_SQL, operatingHours);
+        jdbcTemplate.batchUpdate(INSERT_IMAGE_SQL, images);
+
+        return storeIds;
+    }
+
+    private <T> List<Long> insertReturningIds(final String sql, final List<T> items, final RowSetter<T> setter) {
+        final KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(sql, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(final PreparedStatement ps, final int i) throws SQLException {
+                        setter.set(ps, items.get(i), i);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return items.size();
+                    }
+                },
+                keyHolder);
+
+        return keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+                .toList();
+    }
+
+    @FunctionalInterface
+    private interface RowSetter<T> {
+        void set(PreparedStatement ps, T item, int index) throws SQLException;
+    }
+
+    /**
+     * 검증, 좌표 조회, 이미지 업로드를 마치고 INSERT 만 남은 한 줄.
+     */
+    record PreparedStore(
+            long line,
+            StoreImportRow row,
+            StoreStatus status,
+            KakaoAddressDocument address,
+            List<String> imageUrls
+    ) {
+    }
+}
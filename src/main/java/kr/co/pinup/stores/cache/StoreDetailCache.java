@@ -0,0 +1,197 @@
+package kr.co.pinup.stores.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import kr.co.pinup.stores.event.StoreChangedEvent;
+import kr.co.pinup.stores.model.dto.StoreResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 팝업스토어 상세 응답을 직렬화한 UTF-8 JSON 바이트로 보관하는 LRU 캐시.
+ * 스토어 버전이 같을 때만 재사용하고, 보관한 바이트 합계가 상한을 넘으면 가장 오래 쓰이지 않은 항목부터 버린다.
+ * 조회수 반영도 버전을 올리므로, ttl 은 버전을 거치지 않고 바뀐 값이 남아 있을 수 있는 시간의 상한이다.
+ */
+@Slf4j
+@Component
+public class StoreDetailCache implements MeterBinder {
+
+    private static final String METRIC_PREFIX = "pinup.store.detail.cache";
+
+    // 키, 항목 객체, LinkedHashMap 노드가 차지하는 대략적인 크기
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private final ObjectMapper objectMapper;
+    private final long maxBytes;
+    private final long ttlMillis;
+
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long usedBytes;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public StoreDetailCache(
+            final ObjectMapper objectMapper,
+            @Value("${pinup.store.detail-cache.max-bytes:16777216}") final long maxBytes,
+            @Value("${pinup.store.detail-cache.ttl-ms:60000}") final long ttlMillis
+    ) {
+        this.objectMapper = objectMapper;
+        this.maxBytes = maxBytes;
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * 같은 버전의 항목이 있으면 그대로 반환하고, 없으면 loader 로 응답을 만들어 직렬화한 뒤 보관한다.
+     * 직렬화는 잠금 밖에서 하므로 동시에 같은 스토어를 처음 조회하면 두 번 만들어질 수 있다.
+     */
+    public Entry get(final Long id, final long version, final Supplier<StoreResponse> loader) {
+        final Entry cached = find(id, version);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+        misses.incrementAndGet();
+
+        final StoreResponse response = loader.get();
+        final Entry loaded = new Entry(version, serialize(response), response.updatedAt(), System.currentTimeMillis());
+        put(id, loaded);
+
+        return loaded;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStoreChanged(final StoreChangedEvent event) {
+        evict(event.storeIds());
+    }
+
+    public void evict(final Long id) {
+        synchronized (entries) {
+            remove(id);
+        }
+    }
+
+    public void evict(final Collection<Long> ids) {
+        synchronized (entries) {
+            ids.forEach(this::remove);
+        }
+    }
+
+    public long usedBytes() {
+        synchronized (entries) {
+            return usedBytes;
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public double hitRatio() {
+        final long hitCount = hits.get();
+        final long total = hitCount + misses.get();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder(METRIC_PREFIX + ".requests", hits, AtomicLong::get)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".requests", misses, AtomicLong::get)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".evictions", evictions, AtomicLong::get)
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".hit.ratio", this, StoreDetailCache::hitRatio)
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".size", this, StoreDetailCache::size)
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".memory", this, StoreDetailCache::usedBytes)
+                .description("보관 중인 JSON 바이트와 항목 부가 비용의 합계")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    private Entry find(final Long id, final long version) {
+        synchronized (entries) {
+            final Entry entry = entries.get(id);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.version() != version || isExpired(entry)) {
+                remove(id);
+                return null;
+            }
+            return entry;
+        }
+    }
+
+    private void put(final Long id, final Entry entry) {
+        final long entryBytes = sizeOf(entry);
+        if (entryBytes > maxBytes) {
+            return;
+        }
+
+        synchronized (entries) {
+            final Entry current = entries.get(id);
+            // 그 사이 더 새 버전이 들어왔으면 덮어쓰지 않는다.
+            if (current != null && current.version() > entry.version()) {
+                return;
+            }
+            remove(id);
+            entries.put(id, entry);
+            usedBytes += entryBytes;
+
+            final Iterator<Map.Entry<Long, Entry>> eldest = entries.entrySet().iterator();
+            while (usedBytes > maxBytes && eldest.hasNext()) {
+                usedBytes -= sizeOf(eldest.next().getValue());
+                eldest.remove();
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    private void remove(final Long id) {
+        final Entry removed = entries.remove(id);
+        if (removed != null) {
+            usedBytes -= sizeOf(removed);
+        }
+    }
+
+    private boolean isExpired(final Entry entry) {
+        return System.currentTimeMillis() - entry.cachedAt() > ttlMillis;
+    }
+
+    private byte[] serialize(final StoreResponse response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("팝업스토어 상세 응답 직렬화 실패 id=" + response.id(), e);
+        }
+    }
+
+    private static long sizeOf(final Entry entry) {
+        return entry.json().length + ENTRY_OVERHEAD_BYTES;
+    }
+
+    public record Entry(long version, byte[] json, LocalDateTime updatedAt, long cachedAt) {
+    }
+}
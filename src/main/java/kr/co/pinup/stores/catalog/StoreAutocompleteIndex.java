@@ -0,0 +1,113 @@
+package kr.co.pinup.stores.catalog;
+
+import kr.co.pinup.stores.model.dto.StoreSuggestionResponse;
+import kr.co.pinup.stores.model.enums.StoreSuggestionType;
+
+import java.util.*;
+
+/**
+ * 스토어 이름과 시/도, 시/군/구 이름을 정규화한 키로 정렬해 둔 자동완성 인덱스.
+ * 접두어의 시작 위치를 이분 탐색으로 찾은 뒤 접두어가 일치하는 구간만 훑어 상위 K 개를 고른다.
+ */
+final class StoreAutocompleteIndex {
+
+    // 진행 상태 우선순위 → 조회수 많은 순 → 이름 순
+    private static final Comparator<Suggestion> RANK = Comparator.comparingInt(Suggestion::statusOrder)
+            .thenComparing(Comparator.comparingLong(Suggestion::viewCount).reversed())
+            .thenComparing(suggestion -> suggestion.response().text());
+
+    private final String[] keys;
+    private final Suggestion[] suggestions;
+
+    private StoreAutocompleteIndex(final List<Suggestion> sorted) {
+        keys = sorted.stream()
+                .map(Suggestion::key)
+                .toArray(String[]::new);
+        suggestions = sorted.toArray(Suggestion[]::new);
+    }
+
+    static StoreAutocompleteIndex of(final Collection<StoreCatalogEntry> entries) {
+        final List<Suggestion> suggestions = new ArrayList<>();
+        final Map<String, Suggestion> regions = new HashMap<>();
+        for (StoreCatalogEntry entry : entries) {
+            final String name = entry.thumbnail().name();
+            if (name != null && !normalize(name).isEmpty()) {
+                suggestions.add(new Suggestion(normalize(name),
+                        new StoreSuggestionResponse(name, StoreSuggestionType.STORE, entry.id()),
+                        entry.status().getOrder(), entry.viewCount()));
+            }
+            mergeRegion(regions, StoreSuggestionType.SIDO, entry.sido(), entry);
+            mergeRegion(regions, StoreSuggestionType.SIGUNGU, entry.sigungu(), entry);
+        }
+        suggestions.addAll(regions.values());
+        suggestions.sort(Comparator.comparing(Suggestion::key));
+
+        return new StoreAutocompleteIndex(suggestions);
+    }
+
+    List<StoreSuggestionResponse> suggest(final String prefix, final int limit) {
+        final String key = normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        // 순위가 가장 낮은 후보가 맨 앞에 오는 힙으로 상위 limit 개만 유지한다.
+        final PriorityQueue<Suggestion> top = new PriorityQueue<>(limit + 1, RANK.reversed());
+        for (int i = lowerBound(key); i < keys.length && keys[i].startsWith(key); i++) {
+            top.offer(suggestions[i]);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        return top.stream()
+                .sorted(RANK)
+                .map(Suggestion::response)
+                .toList();
+    }
+
+    int size() {
+        return keys.length;
+    }
+
+    static String normalize(final String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+    }
+
+    private int lowerBound(final String key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // 지역은 소속 스토어 중 가장 높은 진행 상태 우선순위와 조회수 합계로 순위를 매긴다.
+    private static void mergeRegion(
+            final Map<String, Suggestion> regions, final StoreSuggestionType type,
+            final String region, final StoreCatalogEntry entry) {
+        if (region == null || normalize(region).isEmpty()) {
+            return;
+        }
+
+        final Suggestion suggestion = new Suggestion(normalize(region),
+                new StoreSuggestionResponse(region, type, null),
+                entry.status().getOrder(), entry.viewCount());
+        regions.merge(type + ":" + region, suggestion, (current, added) -> new Suggestion(current.key(),
+                current.response(),
+                Math.min(current.statusOrder(), added.statusOrder()),
+                current.viewCount() + added.viewCount()));
+    }
+
+    private record Suggestion(String key, StoreSuggestionResponse response, int statusOrder, long viewCount) {
+    }
+}
@@ -0,0 +1,162 @@
+package kr.co.pinup.stores.catalog;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.co.pinup.locations.event.LocationChangedEvent;
+import kr.co.pinup.stores.event.StoreChangedEvent;
+import kr.co.pinup.stores.repository.StoreRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 팝업스토어 목록 조회용 인메모리 스냅샷을 관리한다.
+ * 조회는 항상 현재 스냅샷을 그대로 반환하고, 스토어 변경이 커밋되면 변경된 스토어만 다시 읽어 새 스냅샷으로 교체한다.
+ */
+@Slf4j
+@Component
+public class StoreCatalog {
+
+    private static final String METRIC_PREFIX = "pinup.store.catalog";
+
+    private final StoreRepository storeRepository;
+    private final TransactionTemplate readTransaction;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private final Counter hitCounter;
+    private final Counter fullRebuildCounter;
+    private final Counter incrementalRebuildCounter;
+    private final Timer rebuildTimer;
+
+    private volatile StoreCatalogSnapshot snapshot;
+
+    public StoreCatalog(
+            final StoreRepository storeRepository,
+            final PlatformTransactionManager transactionManager,
+            final MeterRegistry meterRegistry
+    ) {
+        this.storeRepository = storeRepository;
+
+        // 커밋 이후(AFTER_COMMIT) 호출되므로 기존 트랜잭션에 참여하지 않도록 새 트랜잭션에서 읽는다.
+        readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        readTransaction.setReadOnly(true);
+
+        hitCounter = Counter.builder(METRIC_PREFIX + ".hits")
+                .description("스냅샷에서 응답한 스토어 목록 조회 수")
+                .register(meterRegistry);
+        fullRebuildCounter = Counter.builder(METRIC_PREFIX + ".rebuilds")
+                .tag("type", "full")
+                .register(meterRegistry);
+        incrementalRebuildCounter = Counter.builder(METRIC_PREFIX + ".rebuilds")
+                .tag("type", "incremental")
+                .register(meterRegistry);
+        rebuildTimer = Timer.builder(METRIC_PREFIX + ".rebuild.duration")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".size", this, catalog -> catalog.snapshot == null ? 0 : catalog.snapshot.size())
+                .register(meterRegistry);
+    }
+
+    public StoreCatalogSnapshot snapshot() {
+        StoreCatalogSnapshot current = snapshot;
+        if (current == null) {
+            current = load();
+        }
+        hitCounter.increment();
+
+        return current;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("스토어 카탈로그 초기 구성 실패, 첫 조회 시 다시 시도합니다.", e);
+        }
+    }
+
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            final long startedAt = System.nanoTime();
+            final StoreCatalogSnapshot rebuilt = readTransaction.execute(status -> StoreCatalogSnapshot.of(
+                    storeRepository.findAllCatalogEntries(), storeRepository.findAllOperatingWindows()));
+
+            snapshot = rebuilt;
+            rebuildTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            fullRebuildCounter.increment();
+            log.info("스토어 카탈로그 전체 재구성 size={}", snapshot.size());
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStoreChanged(final StoreChangedEvent event) {
+        refresh(event.storeIds());
+    }
+
+    // 위치 좌표나 주소가 바뀌면 해당 위치를 쓰는 스토어만 다시 읽는다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLocationChanged(final LocationChangedEvent event) {
+        final StoreCatalogSnapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+
+        final List<Long> storeIds = current.getStoreIdsByLocation(event.locationId());
+        if (!storeIds.isEmpty()) {
+            refresh(storeIds);
+        }
+    }
+
+    public void refresh(final Collection<Long> storeIds) {
+        rebuildLock.lock();
+        try {
+            if (snapshot == null) {
+                rebuild();
+                return;
+            }
+
+            final long startedAt = System.nanoTime();
+            final StoreCatalogSnapshot current = snapshot;
+            snapshot = readTransaction.execute(status -> current.with(storeIds,
+                    storeRepository.findCatalogEntriesByIdIn(storeIds),
+                    storeRepository.findOperatingWindowsByStoreIdIn(storeIds)));
+            rebuildTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            incrementalRebuildCounter.increment();
+            log.debug("스토어 카탈로그 부분 갱신 storeIds={}, size={}", storeIds, snapshot.size());
+        } catch (RuntimeException e) {
+            // 부분 갱신에 실패하면 다음 조회 시 전체 재구성하도록 스냅샷을 비운다.
+            log.warn("스토어 카탈로그 부분 갱신 실패 storeIds={}", storeIds, e);
+            snapshot = null;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private StoreCatalogSnapshot load() {
+        rebuildLock.lock();
+        try {
+            if (snapshot == null) {
+                rebuild();
+            }
+            return snapshot;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package kr.co.pinup.stores.catalog;
+
+import kr.co.pinup.stores.model.dto.StoreThumbnailResponse;
+import kr.co.pinup.stores.model.enums.StoreStatus;
+
+import java.time.LocalDate;
+
+/**
+ * 카탈로그가 보관하는 스토어 한 건.
+ * 응답용 썸네일과 함께 위치, 카테고리, 조회수처럼 인덱스를 만들 때 필요한 값을 들고 있다.
+ */
+public record StoreCatalogEntry(
+        StoreThumbnailResponse thumbnail,
+        Long categoryId,
+        Long locationId,
+        String sido,
+        Double latitude,
+        Double longitude,
+        long viewCount
+) {
+
+    // JPQL 생성자 프로젝션용
+    public StoreCatalogEntry(
+            final Long id, final String name, final StoreStatus status,
+            final LocalDate startDate, final LocalDate endDate,
+            final Long categoryId, final String categoryName,
+            final Long locationId, final String sido, final String sigungu,
+            final Double latitude, final Double longitude,
+            final long viewCount, final String thumbnailImage
+    ) {
+        this(new StoreThumbnailResponse(id, name, status, startDate, endDate, categoryName, sigungu, thumbnailImage),
+                categoryId, locationId, sido, latitude, longitude, viewCount);
+    }
+
+    public Long id() {
+        return thumbnail.id();
+    }
+
+    public StoreStatus status() {
+        return thumbnail.status();
+    }
+
+    public String sigungu() {
+        return thumbnail.sigungu();
+    }
+
+    public boolean hasCoordinate() {
+        return latitude != null && longitude != null;
+    }
+}
@@ -0,0 +1,186 @@
+package kr.co.pinup.stores.catalog;
+
+import kr.co.pinup.stores.model.dto.StoreClusterResponse;
+import kr.co.pinup.stores.model.dto.StoreFacetResponse;
+import kr.co.pinup.stores.model.dto.StoreSearchCondition;
+import kr.co.pinup.stores.model.dto.StoreSuggestionResponse;
+import kr.co.pinup.stores.model.dto.StoreThumbnailResponse;
+import kr.co.pinup.stores.model.enums.StoreStatus;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 진행 상태 우선순위(진행 중 → 진행 예정 → 종료됨)로 정렬된 팝업스토어의 불변 스냅샷.
+ * ID, 위치 별 인덱스와 좌표 인덱스를 미리 만들어 두어 조회 시에는 정렬이나 필터링을 하지 않는다.
+ * 지도 클러스터 격자, 자동완성 인덱스와 운영 시간 인덱스는 처음 조회될 때 만들어 스냅샷과 함께 보관하므로, 스냅샷이 교체되면 함께 무효화된다.
+ */
+public final class StoreCatalogSnapshot {
+
+    private static final Comparator<StoreCatalogEntry> STATUS_PRIORITY =
+            Comparator.comparingInt((StoreCatalogEntry entry) -> entry.status().getOrder())
+                    .thenComparing(StoreCatalogEntry::id, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final List<StoreCatalogEntry> entries;
+    private final List<StoreThumbnailResponse> stores;
+    private final Map<Long, StoreThumbnailResponse> storesById;
+    private final Map<Long, List<Long>> storeIdsByLocation;
+    private final Map<Long, List<StoreOperatingWindow>> windowsByStore;
+    private final StoreGeoIndex geoIndex;
+    private final StoreFacetCube facetCube;
+    private final Map<Integer, StoreClusterGrid> clusterGrids = new ConcurrentHashMap<>();
+    private volatile StoreAutocompleteIndex autocompleteIndex;
+    private volatile StoreOpeningIndex openingIndex;
+
+    private StoreCatalogSnapshot(
+            final List<StoreCatalogEntry> sortedEntries, final Map<Long, List<StoreOperatingWindow>> windowsByStore) {
+        entries = List.copyOf(sortedEntries);
+        this.windowsByStore = windowsByStore;
+        stores = entries.stream()
+                .map(StoreCatalogEntry::thumbnail)
+                .toList();
+        storesById = stores.stream()
+                .filter(store -> store.id() != null)
+                .collect(Collectors.toUnmodifiableMap(StoreThumbnailResponse::id, store -> store, (first, second) -> first));
+        storeIdsByLocation = entries.stream()
+                .filter(entry -> entry.locationId() != null && entry.id() != null)
+                .collect(Collectors.groupingBy(StoreCatalogEntry::locationId,
+                        Collectors.mapping(StoreCatalogEntry::id, Collectors.toUnmodifiableList())));
+        geoIndex = StoreGeoIndex.of(entries);
+        facetCube = StoreFacetCube.of(entries);
+    }
+
+    public static StoreCatalogSnapshot empty() {
+        return new StoreCatalogSnapshot(List.of(), Map.of());
+    }
+
+    public static StoreCatalogSnapshot of(final Collection<StoreCatalogEntry> entries) {
+        return of(entries, List.of());
+    }
+
+    public static StoreCatalogSnapshot of(
+            final Collection<StoreCatalogEntry> entries, final Collection<StoreOperatingWindow> windows) {
+        return new StoreCatalogSnapshot(
+                entries.stream()
+                        .sorted(STATUS_PRIORITY)
+                        .toList(),
+                windows.stream()
+                        .collect(Collectors.groupingBy(StoreOperatingWindow::storeId,
+                                Collectors.collectingAndThen(Collectors.toList(), List::copyOf))));
+    }
+
+    /**
+     * 변경된 스토어의 항목과 운영 시간을 통째로 바꾼 새 스냅샷을 만든다.
+     */
+    public StoreCatalogSnapshot with(
+            final Collection<Long> changedIds, final Collection<StoreCatalogEntry> changedEntries,
+            final Collection<StoreOperatingWindow> changedWindows) {
+        final Set<Long> replacedIds = new HashSet<>(changedIds);
+        changedEntries.forEach(entry -> replacedIds.add(entry.id()));
+
+        return of(
+                Stream.concat(
+                                entries.stream().filter(entry -> !replacedIds.contains(entry.id())),
+                                changedEntries.stream())
+                        .toList(),
+                Stream.concat(
+                                windowsByStore.entrySet().stream()
+                                        .filter(entry -> !replacedIds.contains(entry.getKey()))
+                                        .flatMap(entry -> entry.getValue().stream()),
+                                changedWindows.stream())
+                        .toList());
+    }
+
+    public List<StoreCatalogEntry> getEntries() {
+        return entries;
+    }
+
+    public List<StoreThumbnailResponse> getStores() {
+        return stores;
+    }
+
+    public List<StoreThumbnailResponse> getStores(final int limit) {
+        return stores.subList(0, Math.min(Math.max(limit, 0), stores.size()));
+    }
+
+    /**
+     * ID 순서를 유지한 채 스냅샷에 있는 스토어만 반환한다.
+     */
+    public List<StoreThumbnailResponse> getStoresByIds(final Collection<Long> ids) {
+        return ids.stream()
+                .map(storesById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 기준 좌표에서 반경(미터) 안에 있는 스토어를 가까운 순으로 반환한다.
+     * status 가 null 이면 진행 상태로 거르지 않는다.
+     */
+    public List<StoreThumbnailResponse> getStoresNearby(
+            final double latitude, final double longitude, final double radiusMeters,
+            final StoreStatus status, final int limit) {
+        return geoIndex.nearby(latitude, longitude, radiusMeters).stream()
+                .map(StoreGeoIndex.Neighbor::entry)
+                .filter(entry -> status == null || entry.status() == status)
+                .limit(Math.max(limit, 0))
+                .map(StoreCatalogEntry::thumbnail)
+                .toList();
+    }
+
+    /**
+     * 지도 영역 안의 마커 클러스터를 반환한다. level 은 카카오 지도 레벨(1 ~ 14)이다.
+     */
+    public List<StoreClusterResponse> getClusters(
+            final double swLatitude, final double swLongitude,
+            final double neLatitude, final double neLongitude, final int level) {
+        final int clamped = Math.min(Math.max(level, StoreClusterGrid.MIN_LEVEL), StoreClusterGrid.MAX_LEVEL);
+
+        return clusterGrids.computeIfAbsent(clamped, key -> StoreClusterGrid.of(key, entries))
+                .within(swLatitude, swLongitude, neLatitude, neLongitude);
+    }
+
+    /**
+     * 접두어로 시작하는 스토어 이름, 시/도, 시/군/구를 진행 상태 우선순위와 조회수 순으로 limit 개 반환한다.
+     */
+    public List<StoreSuggestionResponse> getSuggestions(final String prefix, final int limit) {
+        StoreAutocompleteIndex index = autocompleteIndex;
+        if (index == null) {
+            // 동시에 여러 번 만들어져도 결과가 같으므로 잠그지 않는다.
+            index = StoreAutocompleteIndex.of(entries);
+            autocompleteIndex = index;
+        }
+
+        return index.suggest(prefix, limit);
+    }
+
+    /**
+     * 해당 시각에 운영 중인 스토어를 진행 상태 우선순위 순으로 반환한다.
+     */
+    public List<StoreThumbnailResponse> getStoresOpenAt(final LocalDateTime dateTime) {
+        StoreOpeningIndex index = openingIndex;
+        if (index == null) {
+            index = StoreOpeningIndex.of(entries, windowsByStore);
+            openingIndex = index;
+        }
+
+        return index.openAt(dateTime).stream()
+                .map(StoreCatalogEntry::thumbnail)
+                .toList();
+    }
+
+    public StoreFacetResponse getFacets(final StoreSearchCondition condition) {
+        return facetCube.count(condition);
+    }
+
+    public List<Long> getStoreIdsByLocation(final Long locationId) {
+        return storeIdsByLocation.getOrDefault(locationId, List.of());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,122 @@
+package kr.co.pinup.stores.catalog;
+
+import kr.co.pinup.stores.model.dto.StoreClusterResponse;
+
+import java.util.*;
+
+/**
+ * 지도 레벨 하나에 대한 마커 클러스터 격자.
+ * 레벨이 하나 올라갈 때마다 격자 크기가 두 배가 되며, 격자마다 스토어 수와 중심 좌표, 대표 스토어를 미리 계산해 둔다.
+ */
+final class StoreClusterGrid {
+
+    // 카카오 지도 레벨 범위 (1 이 가장 가까운 지도)
+    static final int MIN_LEVEL = 1;
+    static final int MAX_LEVEL = 14;
+
+    // 레벨 1 기준 약 55m
+    private static final double BASE_CELL_DEGREES = 0.0005;
+
+    private final double cellDegrees;
+    private final Map<Long, StoreClusterResponse> clusters;
+
+    private StoreClusterGrid(final double cellDegrees, final Map<Long, StoreClusterResponse> clusters) {
+        this.cellDegrees = cellDegrees;
+        this.clusters = clusters;
+    }
+
+    /**
+     * entries 는 진행 상태 우선순위로 정렬되어 있어야 하며, 격자마다 처음 만나는 스토어를 대표 스토어로 삼는다.
+     */
+    static StoreClusterGrid of(final int level, final Collection<StoreCatalogEntry> entries) {
+        final double cellDegrees = cellDegrees(level);
+        final Map<Long, Bucket> buckets = new HashMap<>();
+        for (StoreCatalogEntry entry : entries) {
+            if (!entry.hasCoordinate()) {
+                continue;
+            }
+            final long key = StoreGeoIndex.cellKey(
+                    cell(entry.latitude(), cellDegrees), cell(entry.longitude(), cellDegrees));
+            buckets.computeIfAbsent(key, k -> new Bucket(entry.id()))
+                    .add(entry.latitude(), entry.longitude());
+        }
+
+        final Map<Long, StoreClusterResponse> clusters = new HashMap<>();
+        buckets.forEach((key, bucket) -> clusters.put(key, bucket.toResponse()));
+
+        return new StoreClusterGrid(cellDegrees, Collections.unmodifiableMap(clusters));
+    }
+
+    static double cellDegrees(final int level) {
+        final int clamped = Math.min(Math.max(level, MIN_LEVEL), MAX_LEVEL);
+        return BASE_CELL_DEGREES * (1L << (clamped - 1));
+    }
+
+    /**
+     * 중심 좌표가 영역 안에 있는 클러스터를 스토어 수가 많은 순으로 반환한다.
+     */
+    List<StoreClusterResponse> within(
+            final double swLatitude, final double swLongitude,
+            final double neLatitude, final double neLongitude) {
+        final double minLatitude = Math.min(swLatitude, neLatitude);
+        final double maxLatitude = Math.max(swLatitude, neLatitude);
+        final double minLongitude = Math.min(swLongitude, neLongitude);
+        final double maxLongitude = Math.max(swLongitude, neLongitude);
+
+        final long minRow = cell(minLatitude, cellDegrees);
+        final long maxRow = cell(maxLatitude, cellDegrees);
+        final long minColumn = cell(minLongitude, cellDegrees);
+        final long maxColumn = cell(maxLongitude, cellDegrees);
+
+        final List<StoreClusterResponse> result = new ArrayList<>();
+        // 영역의 격자 수가 클러스터 수보다 많으면 클러스터를 직접 훑는다.
+        if ((maxRow - minRow + 1) * (maxColumn - minColumn + 1) > clusters.size()) {
+            clusters.values().forEach(result::add);
+        } else {
+            for (long row = minRow; row <= maxRow; row++) {
+                for (long column = minColumn; column <= maxColumn; column++) {
+                    final StoreClusterResponse cluster = clusters.get(StoreGeoIndex.cellKey(row, column));
+                    if (cluster != null) {
+                        result.add(cluster);
+                    }
+                }
+            }
+        }
+        result.removeIf(cluster -> cluster.latitude() < minLatitude || cluster.latitude() > maxLatitude
+                || cluster.longitude() < minLongitude || cluster.longitude() > maxLongitude);
+        result.sort(Comparator.comparingInt(StoreClusterResponse::count).reversed()
+                .thenComparing(StoreClusterResponse::sampleStoreId, Comparator.nullsLast(Comparator.naturalOrder())));
+
+        return result;
+    }
+
+    int size() {
+        return clusters.size();
+    }
+
+    private static long cell(final double degrees, final double cellDegrees) {
+        return (long) Math.floor(degrees / cellDegrees);
+    }
+
+    private static final class Bucket {
+
+        private final Long sampleStoreId;
+        private int count;
+        private double latitudeSum;
+        private double longitudeSum;
+
+        private Bucket(final Long sampleStoreId) {
+            this.sampleStoreId = sampleStoreId;
+        }
+
+        private void add(final double latitude, final double longitude) {
+            count++;
+            latitudeSum += latitude;
+            longitudeSum += longitude;
+        }
+
+        private StoreClusterResponse toResponse() {
+            return new StoreClusterResponse(latitudeSum / count, longitudeSum / count, count, sampleStoreId);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package kr.co.pinup.stores.catalog;
+
+import kr.co.pinup.stores.model.dto.StoreFacetCount;
+import kr.co.pinup.stores.model.dto.StoreFacetResponse;
+import kr.co.pinup.stores.model.dto.StoreSearchCondition;
+import kr.co.pinup.stores.model.enums.StoreStatus;
+
+import java.util.*;
+
+/**
+ * 진행 상태 × 자치구 × 카테고리 조합별 스토어 수를 미리 집계해 둔 구조.
+ * 조회 시에는 스토어가 아니라 조합(셀) 단위로만 합산하므로 스토어 수와 관계없이 빠르다.
+ */
+final class StoreFacetCube {
+
+    private static final Comparator<StoreFacetCount> COUNT_DESC =
+            Comparator.comparingLong(StoreFacetCount::count).reversed()
+                    .thenComparing(StoreFacetCount::label, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final Map<Cell, Long> cells;
+    private final Map<Long, String> categoryNames;
+
+    private StoreFacetCube(final Map<Cell, Long> cells, final Map<Long, String> categoryNames) {
+        this.cells = cells;
+        this.categoryNames = categoryNames;
+    }
+
+    static StoreFacetCube of(final Collection<StoreCatalogEntry> entries) {
+        final Map<Cell, Long> cells = new HashMap<>();
+        final Map<Long, String> categoryNames = new HashMap<>();
+        for (StoreCatalogEntry entry : entries) {
+            cells.merge(new Cell(entry.status(), entry.sigungu(), entry.categoryId()), 1L, Long::sum);
+            if (entry.categoryId() != null) {
+                categoryNames.putIfAbsent(entry.categoryId(), entry.thumbnail().categoryName());
+            }
+        }
+
+        return new StoreFacetCube(Collections.unmodifiableMap(cells), Collections.unmodifiableMap(categoryNames));
+    }
+
+    /**
+     * 각 항목의 개수는 자기 자신을 제외한 나머지 필터를 적용해 센다.
+     * 예를 들어 자치구별 개수는 선택한 진행 상태와 카테고리 안에서의 개수이다.
+     */
+    StoreFacetResponse count(final StoreSearchCondition condition) {
+        final Map<StoreStatus, Long> statuses = new EnumMap<>(StoreStatus.class);
+        final Map<String, Long> sigungus = new HashMap<>();
+        final Map<Long, Long> categories = new HashMap<>();
+        long total = 0;
+
+        for (Map.Entry<Cell, Long> entry : cells.entrySet()) {
+            final Cell cell = entry.getKey();
+            final long count = entry.getValue();
+            final boolean statusMatched = condition.status() == null || condition.status() == cell.status();
+            final boolean sigunguMatched = condition.sigungu() == null || condition.sigungu().equals(cell.sigungu());
+            final boolean categoryMatched = condition.categoryId() == null || condition.categoryId().equals(cell.categoryId());
+
+            if (sigunguMatched && categoryMatched) {
+                statuses.merge(cell.status(), count, Long::sum);
+            }
+            if (statusMatched && categoryMatched && cell.sigungu() != null) {
+                sigungus.merge(cell.sigungu(), count, Long::sum);
+            }
+            if (statusMatched && sigunguMatched && cell.categoryId() != null) {
+                categories.merge(cell.categoryId(), count, Long::sum);
+            }
+            if (statusMatched && sigunguMatched && categoryMatched) {
+                total += count;
+            }
+        }
+
+        return new StoreFacetResponse(
+                total,
+                Arrays.stream(StoreStatus.values())
+                        .sorted(Comparator.comparingInt(StoreStatus::getOrder))
+                        .map(status -> new StoreFacetCount(status.name(), status.getValue(), statuses.getOrDefault(status, 0L)))
+                        .toList(),
+                sigungus.entrySet().stream()
+                        .map(entry -> new StoreFacetCount(entry.getKey(), entry.getKey(), entry.getValue()))
+                        .sorted(COUNT_DESC)
+                        .toList(),
+                categories.entrySet().stream()
+                        .map(entry -> new StoreFacetCount(
+                                String.valueOf(entry.getKey()), categoryNames.get(entry.getKey()), entry.getValue()))
+                        .sorted(COUNT_DESC)
+                        .toList()
+        );
+    }
+
+    private record Cell(StoreStatus status, String sigungu, Long categoryId) {
+    }
+}
@@ -0,0 +1,85 @@
+package kr.co.pinup.stores.catalog;
+
+import java.util.*;
+
+/**
+ * 위경도를 고정 크기 격자로 나눈 공간 인덱스.
+ * 반경 검색 시 반경을 덮는 격자만 훑은 뒤 하버사인 거리로 걸러낸다.
+ */
+final class StoreGeoIndex {
+
+    // 약 1.1km (위도 기준)
+    static final double CELL_DEGREES = 0.01;
+
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+    private static final double METERS_PER_DEGREE = 111_320.0;
+
+    private final Map<Long, List<StoreCatalogEntry>> cells;
+
+    private StoreGeoIndex(final Map<Long, List<StoreCatalogEntry>> cells) {
+        this.cells = cells;
+    }
+
+    static StoreGeoIndex of(final Collection<StoreCatalogEntry> entries) {
+        final Map<Long, List<StoreCatalogEntry>> cells = new HashMap<>();
+        for (StoreCatalogEntry entry : entries) {
+            if (!entry.hasCoordinate()) {
+                continue;
+            }
+            cells.computeIfAbsent(cellKey(row(entry.latitude()), column(entry.longitude())), key -> new ArrayList<>())
+                    .add(entry);
+        }
+
+        return new StoreGeoIndex(cells);
+    }
+
+    List<Neighbor> nearby(final double latitude, final double longitude, final double radiusMeters) {
+        final double latitudeSpan = radiusMeters / METERS_PER_DEGREE;
+        final double longitudeSpan = radiusMeters
+                / (METERS_PER_DEGREE * Math.max(Math.cos(Math.toRadians(latitude)), 0.01));
+
+        final List<Neighbor> neighbors = new ArrayList<>();
+        for (long row = row(latitude - latitudeSpan); row <= row(latitude + latitudeSpan); row++) {
+            for (long column = column(longitude - longitudeSpan); column <= column(longitude + longitudeSpan); column++) {
+                final List<StoreCatalogEntry> cell = cells.get(cellKey(row, column));
+                if (cell == null) {
+                    continue;
+                }
+                for (StoreCatalogEntry entry : cell) {
+                    final double distance = distanceMeters(latitude, longitude, entry.latitude(), entry.longitude());
+                    if (distance <= radiusMeters) {
+                        neighbors.add(new Neighbor(entry, distance));
+                    }
+                }
+            }
+        }
+        neighbors.sort(Comparator.comparingDouble(Neighbor::distanceMeters));
+
+        return neighbors;
+    }
+
+    static double distanceMeters(final double lat1, final double lng1, final double lat2, final double lng2) {
+        final double dLat = Math.toRadians(lat2 - lat1);
+        final double dLng = Math.toRadians(lng2 - lng1);
+        final double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    private static long row(final double latitude) {
+        return (long) Math.floor(latitude / CELL_DEGREES);
+    }
+
+    private static long column(final double longitude) {
+        return (long) Math.floor(longitude / CELL_DEGREES);
+    }
+
+    static long cellKey(final long row, final long column) {
+        return (row << 32) ^ (column & 0xffffffffL);
+    }
+
+    record Neighbor(StoreCatalogEntry entry, double distanceMeters) {
+    }
+}
@@ -0,0 +1,119 @@
+package kr.co.pinup.stores.catalog;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 운영 시간을 한 주의 분 단위 구간(월요일 00:00 = 0)으로 펼쳐 한 시간 단위 버킷에 나눠 담은 인덱스.
+ * 조회 시에는 해당 시각의 버킷에 든 구간만 확인하므로 운영 요일 문자열을 해석하거나 전체 스토어를 훑지 않는다.
+ */
+final class StoreOpeningIndex {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+    private static final int BUCKET_MINUTES = 60;
+    private static final int BUCKET_COUNT = MINUTES_PER_WEEK / BUCKET_MINUTES;
+
+    private final List<StoreCatalogEntry> entries;
+    private final Interval[][] buckets;
+
+    private StoreOpeningIndex(final List<StoreCatalogEntry> entries, final Interval[][] buckets) {
+        this.entries = entries;
+        this.buckets = buckets;
+    }
+
+    /**
+     * entries 는 스냅샷 정렬 순서이며, 결과도 이 순서를 따른다.
+     */
+    static StoreOpeningIndex of(
+            final List<StoreCatalogEntry> entries, final Map<Long, List<StoreOperatingWindow>> windowsByStore) {
+        final List<List<Interval>> buckets = new ArrayList<>(BUCKET_COUNT);
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.add(new ArrayList<>());
+        }
+
+        for (int position = 0; position < entries.size(); position++) {
+            for (StoreOperatingWindow window : windowsByStore.getOrDefault(entries.get(position).id(), List.of())) {
+                addWindow(buckets, position, window);
+            }
+        }
+
+        final Interval[][] packed = new Interval[BUCKET_COUNT][];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            packed[i] = buckets.get(i).toArray(Interval[]::new);
+        }
+        return new StoreOpeningIndex(entries, packed);
+    }
+
+    /**
+     * 해당 시각에 운영 중이고 운영 기간(시작일 ~ 종료일) 안인 스토어를 스냅샷 순서대로 반환한다.
+     */
+    List<StoreCatalogEntry> openAt(final LocalDateTime dateTime) {
+        final int minute = minuteOfWeek(dateTime);
+        final int today = minute / MINUTES_PER_DAY;
+        final BitSet matched = new BitSet(entries.size());
+        for (Interval interval : buckets[minute / BUCKET_MINUTES]) {
+            if (interval.start() > minute || minute >= interval.end() || matched.get(interval.position())) {
+                continue;
+            }
+
+            // 자정을 넘긴 구간은 운영을 시작한 날짜로 운영 기간을 확인한다. 종료일 밤에 시작해 다음 날 새벽까지 여는 경우도 포함된다.
+            final LocalDate openedOn = dateTime.toLocalDate()
+                    .minusDays(Math.floorMod(today - interval.startDay(), 7));
+            final StoreCatalogEntry entry = entries.get(interval.position());
+            if (!openedOn.isBefore(entry.thumbnail().startDate()) && !openedOn.isAfter(entry.thumbnail().endDate())) {
+                matched.set(interval.position());
+            }
+        }
+
+        final List<StoreCatalogEntry> open = new ArrayList<>(matched.cardinality());
+        for (int position = matched.nextSetBit(0); position >= 0; position = matched.nextSetBit(position + 1)) {
+            open.add(entries.get(position));
+        }
+        return open;
+    }
+
+    // 마감 시각이 시작 시각보다 이르면 다음 날 새벽까지, 같으면 하루 종일 운영하는 것으로 본다.
+    private static void addWindow(final List<List<Interval>> buckets, final int position, final StoreOperatingWindow window) {
+        final int dayMask = window.resolvedDayMask();
+        final int startMinute = window.startTime().toSecondOfDay() / 60;
+        int endMinute = window.endTime().toSecondOfDay() / 60;
+        if (endMinute <= startMinute) {
+            endMinute += MINUTES_PER_DAY;
+        }
+
+        for (int day = 0; day < 7; day++) {
+            if ((dayMask & (1 << day)) == 0) {
+                continue;
+            }
+
+            final int start = day * MINUTES_PER_DAY + startMinute;
+            final int end = day * MINUTES_PER_DAY + endMinute;
+            if (end <= MINUTES_PER_WEEK) {
+                addInterval(buckets, new Interval(position, day, start, end));
+            } else {
+                // 일요일 밤에서 월요일 새벽으로 넘어가는 구간은 주의 끝과 처음으로 나눈다.
+                addInterval(buckets, new Interval(position, day, start, MINUTES_PER_WEEK));
+                addInterval(buckets, new Interval(position, day, 0, end - MINUTES_PER_WEEK));
+            }
+        }
+    }
+
+    private static void addInterval(final List<List<Interval>> buckets, final Interval interval) {
+        for (int bucket = interval.start() / BUCKET_MINUTES; bucket <= (interval.end() - 1) / BUCKET_MINUTES; bucket++) {
+            buckets.get(bucket).add(interval);
+        }
+    }
+
+    private static int minuteOfWeek(final LocalDateTime dateTime) {
+        return (dateTime.getDayOfWeek().getValue() - 1) * MINUTES_PER_DAY
+                + dateTime.getHour() * 60 + dateTime.getMinute();
+    }
+
+    /**
+     * startDay 는 구간이 시작된 요일(월요일 = 0)이다.
+     */
+    private record Interval(int position, int startDay, int start, int end) {
+    }
+}
@@ -0,0 +1,22 @@
+package kr.co.pinup.stores.catalog;
+
+import kr.co.pinup.storeoperatinghour.StoreOperatingDays;
+
+import java.time.LocalTime;
+
+/**
+ * 카탈로그가 보관하는 운영 시간 한 건.
+ * day_mask 가 채워지기 전에 저장된 운영 시간은 스냅샷을 만들 때 한 번만 days 를 해석한다.
+ */
+public record StoreOperatingWindow(
+        Long storeId,
+        int dayMask,
+        String days,
+        LocalTime startTime,
+        LocalTime endTime
+) {
+
+    public int resolvedDayMask() {
+        return dayMask != 0 ? dayMask : StoreOperatingDays.parse(days);
+    }
+}
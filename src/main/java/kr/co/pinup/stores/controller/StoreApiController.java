@@ -1,48 +1,193 @@
 package kr.co.pinup.stores.controller;
 
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import kr.co.pinup.annotation.ValidImageFile;
-import kr.co.pinup.stores.model.dto.StoreRequest;
-import kr.co.pinup.stores.model.dto.StoreResponse;
-import kr.co.pinup.stores.model.dto.StoreThumbnailResponse;
-import kr.co.pinup.stores.model.dto.StoreUpdateRequest;
+import kr.co.pinup.custom.pagination.CursorPageResponse;
+import kr.co.pinup.custom.version.AggregateVersionRegistry;
+import kr.co.pinup.stores.bulk.StoreImportService;
+import kr.co.pinup.stores.cache.StoreDetailCache;
+import kr.co.pinup.stores.model.dto.*;
+import kr.co.pinup.stores.model.enums.StoreStatus;
 import kr.co.pinup.stores.service.StoreService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
 import java.util.List;
 
+import static kr.co.pinup.custom.version.AggregateType.STORE;
+
 @Slf4j
+@Validated
 @RestController
 @RequestMapping("/api/stores")
 @RequiredArgsConstructor
 public class StoreApiController {
 
     private final StoreService storeService;
+    private final AggregateVersionRegistry versionRegistry;
+    private final StoreDetailCache storeDetailCache;
+    private final StoreImportService storeImportService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
-    public ResponseEntity<List<StoreResponse>> getStores() {
-        return ResponseEntity.ok(storeService.getStores());
+    public ResponseEntity<List<StoreResponse>> getStores(WebRequest webRequest) {
+        final String eTag = versionRegistry.collectionETag(STORE);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(eTag)
+                .body(storeService.getStores());
+    }
+
+    @GetMapping(params = {"openAt", "!size"})
+    public ResponseEntity<List<StoreThumbnailResponse>> getStoresOpenAt(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime openAt) {
+        log.debug("getStoresOpenAt openAt={}", openAt);
+
+        return ResponseEntity.ok(storeService.getStoresOpenAt(openAt));
     }
 
     @GetMapping("/summary")
     public ResponseEntity<List<StoreThumbnailResponse>> getStoreThumbnails(
-            @RequestParam(defaultValue = "5") int limit) {
+            @RequestParam(defaultValue = "5") int limit,
+            WebRequest webRequest) {
         log.debug("getStoreThumbnails limit={}", limit);
 
-        return ResponseEntity.ok(storeService.getStoresThumbnailWithLimit(limit));
+        final String eTag = versionRegistry.collectionETag(STORE);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(eTag)
+                .body(storeService.getStoresThumbnailWithLimit(limit));
+    }
+
+    @GetMapping(params = "size")
+    public ResponseEntity<CursorPageResponse<StoreResponse>> getStorePage(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String sigungu,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam @Min(1) @Max(100) int size) {
+        log.debug("getStorePage status={}, sigungu={}, categoryId={}, cursor={}, size={}",
+                status, sigungu, categoryId, cursor, size);
+
+        final StoreSearchCondition condition = StoreSearchCondition.of(status, sigungu, categoryId);
+
+        return ResponseEntity.ok(storeService.getStorePage(condition, cursor, size));
+    }
+
+    @GetMapping(value = "/summary", params = "size")
+    public ResponseEntity<CursorPageResponse<StoreThumbnailResponse>> getStoreThumbnailPage(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String sigungu,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam @Min(1) @Max(100) int size) {
+        log.debug("getStoreThumbnailPage status={}, sigungu={}, categoryId={}, cursor={}, size={}",
+                status, sigungu, categoryId, cursor, size);
+
+        final StoreSearchCondition condition = StoreSearchCondition.of(status, sigungu, categoryId);
+
+        return ResponseEntity.ok(storeService.getStoreThumbnailPage(condition, cursor, size));
+    }
+
+    @GetMapping("/nearby")
+    public ResponseEntity<List<StoreThumbnailResponse>> getStoresNearby(
+            @RequestParam @DecimalMin("-90.0") @DecimalMax("90.0") double lat,
+            @RequestParam @DecimalMin("-180.0") @DecimalMax("180.0") double lng,
+            @RequestParam(defaultValue = "1000") @Min(1) @Max(20000) int radius,
+            @RequestParam(required = false) String status,
+            @RequestParam(defaultValue = "50") @Min(1) @Max(100) int limit) {
+        log.debug("getStoresNearby lat={}, lng={}, radius={}, status={}, limit={}", lat, lng, radius, status, limit);
+
+        return ResponseEntity.ok(storeService.getStoresNearby(lat, lng, radius, StoreStatus.from(status), limit));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<StoreThumbnailResponse>> searchStores(
+            @RequestParam @NotBlank @Size(max = 50) String q,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int limit) {
+        log.debug("searchStores q={}, limit={}", q, limit);
+
+        return ResponseEntity.ok(storeService.searchStores(q, limit));
+    }
+
+    @GetMapping("/facets")
+    public ResponseEntity<StoreFacetResponse> getFacets(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String sigungu,
+            @RequestParam(required = false) Long categoryId) {
+        log.debug("getFacets status={}, sigungu={}, categoryId={}", status, sigungu, categoryId);
+
+        return ResponseEntity.ok(storeService.getFacets(StoreSearchCondition.of(status, sigungu, categoryId)));
+    }
+
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<StoreSuggestionResponse>> getSuggestions(
+            @RequestParam @NotBlank @Size(max = 30) String prefix,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(20) int limit) {
+        return ResponseEntity.ok(storeService.getSuggestions(prefix, limit));
+    }
+
+    @GetMapping("/clusters")
+    public ResponseEntity<List<StoreClusterResponse>> getStoreClusters(
+            @RequestParam @DecimalMin("-90.0") @DecimalMax("90.0") double swLat,
+            @RequestParam @DecimalMin("-180.0") @DecimalMax("180.0") double swLng,
+            @RequestParam @DecimalMin("-90.0") @DecimalMax("90.0") double neLat,
+            @RequestParam @DecimalMin("-180.0") @DecimalMax("180.0") double neLng,
+            @RequestParam @Min(1) @Max(14) int level) {
+        log.debug("getStoreClusters sw=({}, {}), ne=({}, {}), level={}", swLat, swLng, neLat, neLng, level);
+
+        return ResponseEntity.ok(storeService.getStoreClusters(swLat, swLng, neLat, neLng, level));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<StoreResponse> getStoreById(@PathVariable Long id) {
-        return ResponseEntity.ok(storeService.getStoreById(id));
+    public ResponseEntity<byte[]> getStoreById(@PathVariable Long id, WebRequest webRequest) {
+        // 기억해 둔 ETag 와 같으면 JPA 조회 없이 304 로 응답한다.
+        final String cachedETag = versionRegistry.eTag(STORE, id);
+        if (cachedETag != null && webRequest.checkNotModified(cachedETag)) {
+            storeService.recordView(id);
+            return null;
+        }
+
+        final long version = versionRegistry.version(STORE, id);
+        final StoreDetailCache.Entry detail = storeDetailCache.get(id, version, () -> storeService.getStoreById(id));
+        storeService.recordView(id);
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(versionRegistry.eTag(STORE, id, version, detail.updatedAt()))
+                .body(detail.json());
     }
 
     @PreAuthorize("isAuthenticated() and hasRole('ROLE_ADMIN')")
@@ -56,6 +201,35 @@ public class StoreApiController {
                 .body(storeService.createStore(request, images));
     }
 
+    /**
+     * JSON Lines 파일과 이미지 zip 파일로 스토어를 일괄 등록하고, 줄마다 처리 결과를 NDJSON 으로 흘려 보낸다.
+     */
+    @PreAuthorize("isAuthenticated() and hasRole('ROLE_ADMIN')")
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<StreamingResponseBody> importStores(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(value = "images", required = false) MultipartFile images) {
+        log.info("팝업스토어 일괄 등록 요청 - file={}, size={}", file.getOriginalFilename(), file.getSize());
+
+        final StreamingResponseBody body = outputStream -> {
+            try (InputStream rows = file.getInputStream()) {
+                storeImportService.importStores(rows, images, result -> {
+                    try {
+                        outputStream.write(objectMapper.writeValueAsBytes(result));
+                        outputStream.write('\n');
+                        outputStream.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @PreAuthorize("isAuthenticated() and hasRole('ROLE_ADMIN')")
     @PatchMapping(value = "/{id}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<StoreResponse> updateStore(
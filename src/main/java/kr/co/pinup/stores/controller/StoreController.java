@@ -1,9 +1,10 @@
 package kr.co.pinup.stores.controller;
 
+import kr.co.pinup.custom.pagination.CursorPageResponse;
 import kr.co.pinup.storecategories.service.StoreCategoryService;
 import kr.co.pinup.stores.model.dto.StoreResponse;
+import kr.co.pinup.stores.model.dto.StoreSearchCondition;
 import kr.co.pinup.stores.model.dto.StoreThumbnailResponse;
-import kr.co.pinup.stores.model.enums.StoreStatus;
 import kr.co.pinup.stores.service.StoreService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,8 +16,6 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
-import java.util.List;
-
 @Slf4j
 @Controller
 @RequestMapping("/stores")
@@ -24,6 +23,7 @@ import java.util.List;
 public class StoreController {
 
     private static final String VIEW_PATH = "views/stores";
+    private static final int PAGE_SIZE = 20;
 
     private final StoreService storeService;
     private final StoreCategoryService storeCategoryService;
@@ -32,14 +32,22 @@ public class StoreController {
     public String listStores(
             @RequestParam String status,
             @RequestParam String sigungu,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String cursor,
             Model model) {
-        log.info("StoreController listStores status={}, sigungu={}", status, sigungu);
+        log.info("StoreController listStores status={}, sigungu={}, categoryId={}, cursor={}",
+                status, sigungu, categoryId, cursor);
 
-        StoreStatus selectedStatus = StoreStatus.from(status);
-        List<StoreThumbnailResponse> stores = storeService.findAll(selectedStatus, sigungu);
+        final StoreSearchCondition condition = StoreSearchCondition.of(status, sigungu, categoryId);
+        final CursorPageResponse<StoreThumbnailResponse> page =
+                storeService.getStoreThumbnailPage(condition, cursor, PAGE_SIZE);
 
-        model.addAttribute("selectedStatus", selectedStatus);
-        model.addAttribute("stores", stores);
+        model.addAttribute("selectedStatus", condition.status());
+        model.addAttribute("selectedSigungu", condition.sigungu());
+        model.addAttribute("selectedCategoryId", categoryId);
+        model.addAttribute("categories", storeCategoryService.getCategories());
+        model.addAttribute("stores", page.items());
+        model.addAttribute("nextCursor", page.nextCursor());
 
         return VIEW_PATH + "/list";
     }
@@ -47,6 +55,7 @@ public class StoreController {
     @GetMapping("/{id}")
     public String storeDetail(@PathVariable Long id, Model model) {
         StoreResponse storeResponse = storeService.getStoreById(id);
+        storeService.recordView(id);
 
         model.addAttribute("store", storeResponse);
         model.addAttribute("location", storeResponse.location());
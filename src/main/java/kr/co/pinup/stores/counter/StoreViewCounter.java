@@ -0,0 +1,59 @@
+package kr.co.pinup.stores.counter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import kr.co.pinup.custom.counter.WriteBehindCounter;
+import kr.co.pinup.custom.version.AggregateVersionRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import static kr.co.pinup.custom.version.AggregateType.STORE;
+
+/**
+ * 팝업스토어 조회수를 메모리에 모았다가 주기적으로 한 번의 배치 UPDATE 로 반영한다.
+ * 응답 본문의 조회수가 바뀌므로 반영한 스토어의 버전을 올려 이전 ETag 와 상세 캐시를 무효화한다.
+ */
+@Slf4j
+@Component
+public class StoreViewCounter {
+
+    private static final String METRIC_PREFIX = "pinup.store.view";
+    private static final String UPDATE_VIEW_COUNT_SQL =
+            "UPDATE stores SET view_count = view_count + ? WHERE id = ?";
+
+    private final WriteBehindCounter pendingViews;
+
+    public StoreViewCounter(
+            final JdbcTemplate jdbcTemplate,
+            final MeterRegistry meterRegistry,
+            final AggregateVersionRegistry versionRegistry
+    ) {
+        pendingViews = new WriteBehindCounter(
+                jdbcTemplate, meterRegistry, METRIC_PREFIX, UPDATE_VIEW_COUNT_SQL, "팝업스토어 조회수",
+                storeIds -> versionRegistry.bumpNow(STORE, storeIds));
+    }
+
+    public void record(final Long storeId) {
+        pendingViews.add(storeId, 1L);
+    }
+
+    public long pending(final Long storeId) {
+        return pendingViews.pending(storeId);
+    }
+
+    @Scheduled(
+            fixedDelayString = "${pinup.store.view-count.flush-interval-ms:5000}",
+            initialDelayString = "${pinup.store.view-count.flush-interval-ms:5000}"
+    )
+    public void flush() {
+        pendingViews.flush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("종료 전 팝업스토어 조회수 반영");
+        flush();
+    }
+}
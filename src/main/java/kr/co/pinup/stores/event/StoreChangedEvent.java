@@ -0,0 +1,11 @@
+package kr.co.pinup.stores.event;
+
+import java.util.Collection;
+import java.util.Collections;
+
+public record StoreChangedEvent(Collection<Long> storeIds) {
+
+    public static StoreChangedEvent of(final Long storeId) {
+        return new StoreChangedEvent(Collections.singletonList(storeId));
+    }
+}
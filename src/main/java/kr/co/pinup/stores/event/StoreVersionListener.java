@@ -0,0 +1,36 @@
+package kr.co.pinup.stores.event;
+
+import kr.co.pinup.custom.version.AggregateVersionRegistry;
+import kr.co.pinup.locations.event.LocationChangedEvent;
+import kr.co.pinup.stores.catalog.StoreCatalog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+import static kr.co.pinup.custom.version.AggregateType.STORE;
+
+/**
+ * 스토어나 스토어가 쓰는 위치가 바뀌어 커밋되면 스토어 버전을 올려 조건부 조회의 ETag 를 무효화한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StoreVersionListener {
+
+    private final AggregateVersionRegistry versionRegistry;
+    private final StoreCatalog storeCatalog;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStoreChanged(final StoreChangedEvent event) {
+        versionRegistry.bumpNow(STORE, event.storeIds());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLocationChanged(final LocationChangedEvent event) {
+        final List<Long> storeIds = storeCatalog.snapshot().getStoreIdsByLocation(event.locationId());
+        if (!storeIds.isEmpty()) {
+            versionRegistry.bumpNow(STORE, storeIds);
+        }
+    }
+}
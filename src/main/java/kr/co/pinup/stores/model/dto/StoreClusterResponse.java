@@ -0,0 +1,9 @@
+package kr.co.pinup.stores.model.dto;
+
+public record StoreClusterResponse(
+        double latitude,
+        double longitude,
+        int count,
+        Long sampleStoreId
+) {
+}
@@ -0,0 +1,48 @@
+package kr.co.pinup.stores.model.dto;
+
+import kr.co.pinup.stores.Store;
+import kr.co.pinup.stores.exception.InvalidStoreCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 진행 상태 우선순위와 아이디로 이루어진 팝업스토어 목록의 키셋 커서.
+ * 클라이언트에는 Base64 문자열로만 노출한다.
+ */
+public record StoreCursor(int statusOrder, long id) {
+
+    public static final StoreCursor FIRST = new StoreCursor(-1, 0L);
+
+    private static final String DELIMITER = ":";
+
+    public static StoreCursor from(final Store store) {
+        return new StoreCursor(store.getStoreStatus().getOrder(), store.getId());
+    }
+
+    public static StoreCursor from(final StoreThumbnailResponse store) {
+        return new StoreCursor(store.status().getOrder(), store.id());
+    }
+
+    public static StoreCursor decode(final String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+
+        try {
+            final String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            final String[] parts = decoded.split(DELIMITER);
+
+            return new StoreCursor(Integer.parseInt(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new InvalidStoreCursorException();
+        }
+    }
+
+    public String encode() {
+        final String raw = statusOrder + DELIMITER + id;
+
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
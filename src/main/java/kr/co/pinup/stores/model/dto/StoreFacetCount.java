@@ -0,0 +1,8 @@
+package kr.co.pinup.stores.model.dto;
+
+public record StoreFacetCount(
+        String key,
+        String label,
+        long count
+) {
+}
@@ -0,0 +1,11 @@
+package kr.co.pinup.stores.model.dto;
+
+import java.util.List;
+
+public record StoreFacetResponse(
+        long total,
+        List<StoreFacetCount> statuses,
+        List<StoreFacetCount> sigungus,
+        List<StoreFacetCount> categories
+) {
+}
@@ -0,0 +1,16 @@
+package kr.co.pinup.stores.model.dto;
+
+public record StoreImportResult(
+        long line,
+        boolean success,
+        Long storeId,
+        String message
+) {
+    public static StoreImportResult success(final long line, final Long storeId) {
+        return new StoreImportResult(line, true, storeId, null);
+    }
+
+    public static StoreImportResult failure(final long line, final String message) {
+        return new StoreImportResult(line, false, null, message);
+    }
+}
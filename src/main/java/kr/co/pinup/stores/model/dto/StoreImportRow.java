@@ -0,0 +1,67 @@
+package kr.co.pinup.stores.model.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import kr.co.pinup.storeoperatinghour.model.dto.StoreOperatingHourRequest;
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 일괄 등록 파일(JSON Lines)의 한 줄. 위치는 주소로 받아 좌표를 조회하고, 이미지는 압축 파일 안의 파일명으로 지정한다.
+ */
+@Builder
+public record StoreImportRow(
+        @NotBlank(message = "스토어 이름은 필수 입력값입니다.")
+        String name,
+
+        @NotBlank(message = "스토어 설명은 필수 입력값입니다.")
+        String description,
+
+        @NotNull(message = "시작 날짜는 필수 입력값입니다.")
+        LocalDate startDate,
+
+        @NotNull(message = "종료 날짜는 필수 입력값입니다.")
+        LocalDate endDate,
+
+        String websiteUrl,
+
+        String snsUrl,
+
+        @NotNull(message = "카테고리는 필수 입력값입니다.")
+        Long categoryId,
+
+        @NotBlank(message = "우편번호는 필수 입력값입니다.")
+        String zonecode,
+
+        @NotBlank(message = "도/특별시/광역시는 필수 입력값입니다.")
+        String sido,
+
+        @NotBlank(message = "시/군/구는 필수 입력값입니다.")
+        String sigungu,
+
+        @NotBlank(message = "주소는 필수 입력값입니다.")
+        String address,
+
+        String addressDetail,
+
+        @NotNull
+        @Size(min = 1)
+        @Valid
+        List<StoreOperatingHourRequest> operatingHours,
+
+        @NotNull
+        @Size(min = 1, message = "이미지는 한 장 이상 필요합니다.")
+        List<String> images,
+
+        @Min(0)
+        Integer thumbnailIndex
+) {
+    public int thumbnailIndexOrDefault() {
+        return thumbnailIndex == null ? 0 : thumbnailIndex;
+    }
+}
@@ -0,0 +1,18 @@
+package kr.co.pinup.stores.model.dto;
+
+import kr.co.pinup.stores.model.enums.StoreStatus;
+
+public record StoreSearchCondition(
+        StoreStatus status,
+        String sigungu,
+        Long categoryId
+) {
+
+    private static final String ALL = "all";
+
+    public static StoreSearchCondition of(final String status, final String sigungu, final Long categoryId) {
+        final String selectedSigungu = sigungu == null || sigungu.isBlank() || ALL.equals(sigungu) ? null : sigungu;
+
+        return new StoreSearchCondition(StoreStatus.from(status), selectedSigungu, categoryId);
+    }
+}
@@ -0,0 +1,10 @@
+package kr.co.pinup.stores.model.dto;
+
+import kr.co.pinup.stores.model.enums.StoreStatus;
+
+public record StoreStatusChange(
+        Long id,
+        StoreStatus from,
+        StoreStatus to
+) {
+}
@@ -0,0 +1,10 @@
+package kr.co.pinup.stores.model.dto;
+
+import kr.co.pinup.stores.model.enums.StoreSuggestionType;
+
+public record StoreSuggestionResponse(
+        String text,
+        StoreSuggestionType type,
+        Long storeId
+) {
+}
@@ -18,7 +18,7 @@ public record StoreThumbnailResponse(
 ) {
     public static StoreThumbnailResponse from(Store store) {
         final String thumbnailUrl = store.getStoreImages().stream()
-                .filter(StoreImage::isThumbnail)
+                .filter(storeImage -> storeImage.isThumbnail() && !storeImage.isDeleted())
                 .findFirst()
                 .map(StoreImage::getImageUrl)
                 .orElse(null);
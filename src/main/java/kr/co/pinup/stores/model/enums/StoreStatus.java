@@ -3,17 +3,19 @@ package kr.co.pinup.stores.model.enums;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 
 @Getter
 @AllArgsConstructor
 public enum StoreStatus {
 
-    RESOLVED("진행 중"),
-    PENDING("진행 예정"),
-    DISMISSED("종료됨");
+    RESOLVED("진행 중", 0),
+    PENDING("진행 예정", 1),
+    DISMISSED("종료됨", 2);
 
     private final String value;
+    private final int order;
 
     public static StoreStatus from(String status) {
         return Arrays.stream(StoreStatus.values())
@@ -22,4 +24,14 @@ public enum StoreStatus {
                 .orElse(null);
     }
 
+    public static StoreStatus of(final LocalDate startDate, final LocalDate endDate, final LocalDate today) {
+        if (startDate.isAfter(today)) {
+            return PENDING;
+        }
+        if (endDate.isBefore(today)) {
+            return DISMISSED;
+        }
+        return RESOLVED;
+    }
+
 }
@@ -0,0 +1,8 @@
+package kr.co.pinup.stores.model.enums;
+
+public enum StoreSuggestionType {
+
+    STORE,
+    SIDO,
+    SIGUNGU
+}
@@ -1,20 +1,148 @@
 package kr.co.pinup.stores.repository;
 
 import kr.co.pinup.stores.Store;
+import kr.co.pinup.stores.catalog.StoreCatalogEntry;
+import kr.co.pinup.stores.catalog.StoreOperatingWindow;
+import kr.co.pinup.stores.model.dto.StoreStatusChange;
+import kr.co.pinup.stores.model.dto.StoreThumbnailResponse;
 import kr.co.pinup.stores.model.enums.StoreStatus;
+import kr.co.pinup.stores.search.StoreSearchDocument;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface StoreRepository extends JpaRepository<Store, Long> {
 
+    // 시작일, 종료일 기준으로 오늘 있어야 할 진행 상태
+    String EXPECTED_STATUS = """
+            CASE
+                WHEN s.startDate > :today THEN kr.co.pinup.stores.model.enums.StoreStatus.PENDING
+                WHEN s.endDate < :today THEN kr.co.pinup.stores.model.enums.StoreStatus.DISMISSED
+                ELSE kr.co.pinup.stores.model.enums.StoreStatus.RESOLVED
+            END
+            """;
+
+    // 썸네일 이미지는 스토어당 하나의 URL 만 스칼라 서브쿼리로 읽는다.
+    String THUMBNAIL_URL = "(SELECT i.imageUrl FROM StoreImage i WHERE i.id = "
+            + "(SELECT MIN(t.id) FROM StoreImage t WHERE t.store = s AND t.isThumbnail = true AND t.isDeleted = false))";
+
+    String THUMBNAIL_PROJECTION = "SELECT new kr.co.pinup.stores.model.dto.StoreThumbnailResponse("
+            + "s.id, s.name, s.storeStatus, s.startDate, s.endDate, c.name, l.sigungu, "
+            + THUMBNAIL_URL + ") "
+            + "FROM Store s JOIN s.category c JOIN s.location l ";
+
+    String CATALOG_ENTRY_PROJECTION = "SELECT new kr.co.pinup.stores.catalog.StoreCatalogEntry("
+            + "s.id, s.name, s.storeStatus, s.startDate, s.endDate, c.id, c.name, "
+            + "l.id, l.sido, l.sigungu, l.latitude, l.longitude, s.viewCount, "
+            + THUMBNAIL_URL + ") "
+            + "FROM Store s JOIN s.category c JOIN s.location l ";
+
+    String OPERATING_WINDOW_PROJECTION = "SELECT new kr.co.pinup.stores.catalog.StoreOperatingWindow("
+            + "s.id, h.dayMask, h.days, h.startTime, h.endTime) "
+            + "FROM StoreOperatingHour h JOIN h.store s ";
+
+    String SEARCH_DOCUMENT_PROJECTION = "SELECT new kr.co.pinup.stores.search.StoreSearchDocument("
+            + "s.id, s.name, s.description, c.name, l.address) "
+            + "FROM Store s JOIN s.category c JOIN s.location l ";
+
+    String PAGE_CONDITION = "WHERE s.isDeleted = false "
+            + "AND (:status IS NULL OR s.storeStatus = :status) "
+            + "AND (:sigungu IS NULL OR s.location.sigungu = :sigungu) "
+            + "AND (:categoryId IS NULL OR s.category.id = :categoryId) "
+            + "AND (s.statusRank > :cursorRank "
+            + "OR (s.statusRank = :cursorRank AND s.id > :cursorId)) "
+            + "ORDER BY s.statusRank, s.id";
+
+    @EntityGraph(attributePaths = {"category", "location"})
     List<Store> findAllByIsDeletedFalse();
 
-    List<Store> findAllByStoreStatusAndIsDeletedFalse(StoreStatus status);
+    @EntityGraph(attributePaths = {"category", "location"})
+    Optional<Store> findDetailById(Long id);
+
+    @Query(CATALOG_ENTRY_PROJECTION + "WHERE s.isDeleted = false")
+    List<StoreCatalogEntry> findAllCatalogEntries();
+
+    @Query(CATALOG_ENTRY_PROJECTION + "WHERE s.isDeleted = false AND s.id IN :ids")
+    List<StoreCatalogEntry> findCatalogEntriesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(OPERATING_WINDOW_PROJECTION + "WHERE s.isDeleted = false")
+    List<StoreOperatingWindow> findAllOperatingWindows();
+
+    @Query(OPERATING_WINDOW_PROJECTION + "WHERE s.isDeleted = false AND s.id IN :ids")
+    List<StoreOperatingWindow> findOperatingWindowsByStoreIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(SEARCH_DOCUMENT_PROJECTION + "WHERE s.isDeleted = false")
+    List<StoreSearchDocument> findAllSearchDocuments();
+
+    @Query(SEARCH_DOCUMENT_PROJECTION + "WHERE s.isDeleted = false AND s.id IN :ids")
+    List<StoreSearchDocument> findSearchDocumentsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(SEARCH_DOCUMENT_PROJECTION + "WHERE s.isDeleted = false AND l.id = :locationId")
+    List<StoreSearchDocument> findSearchDocumentsByLocationId(@Param("locationId") Long locationId);
+
+    // 검색 색인이 준비되기 전에 쓰는 단순 부분 일치 검색
+    @Query("SELECT s.id FROM Store s JOIN s.category c JOIN s.location l "
+            + "WHERE s.isDeleted = false "
+            + "AND (LOWER(s.name) LIKE LOWER(CONCAT('%', :keyword, '%')) "
+            + "OR LOWER(c.name) LIKE LOWER(CONCAT('%', :keyword, '%')) "
+            + "OR l.address LIKE CONCAT('%', :keyword, '%')) "
+            + "ORDER BY s.id DESC")
+    List<Long> findIdsByKeyword(@Param("keyword") String keyword, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"category", "location"})
+    @Query("SELECT s FROM Store s " + PAGE_CONDITION)
+    List<Store> findPageByStatusPriority(
+            @Param("status") StoreStatus status,
+            @Param("sigungu") String sigungu,
+            @Param("categoryId") Long categoryId,
+            @Param("cursorRank") int cursorRank,
+            @Param("cursorId") long cursorId,
+            Pageable pageable
+    );
+
+    @Query(THUMBNAIL_PROJECTION + PAGE_CONDITION)
+    List<StoreThumbnailResponse> findThumbnailPageByStatusPriority(
+            @Param("status") StoreStatus status,
+            @Param("sigungu") String sigungu,
+            @Param("categoryId") Long categoryId,
+            @Param("cursorRank") int cursorRank,
+            @Param("cursorId") long cursorId,
+            Pageable pageable
+    );
+
+    @Query("SELECT new kr.co.pinup.stores.model.dto.StoreStatusChange(s.id, s.storeStatus, " + EXPECTED_STATUS + ") "
+            + "FROM Store s "
+            + "WHERE s.isDeleted = false AND s.id > :afterId "
+            + "AND s.storeStatus <> " + EXPECTED_STATUS
+            + "ORDER BY s.id")
+    List<StoreStatusChange> findStatusChanges(
+            @Param("today") LocalDate today,
+            @Param("afterId") long afterId,
+            Pageable pageable
+    );
 
-    List<Store> findAllByLocation_SigunguAndStoreStatusAndIsDeletedFalse(String sigungu, StoreStatus selectedStatus);
+    default int updateStatus(final Collection<Long> ids, final StoreStatus status, final LocalDateTime updatedAt) {
+        return updateStatus(ids, status, status.getOrder(), updatedAt);
+    }
 
-    List<Store> findAllByLocation_SigunguAndIsDeletedFalse(String sigungu);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Store s SET s.storeStatus = :status, s.statusRank = :statusRank, s.updatedAt = :updatedAt "
+            + "WHERE s.id IN :ids AND s.storeStatus <> :status")
+    int updateStatus(
+            @Param("ids") Collection<Long> ids,
+            @Param("status") StoreStatus status,
+            @Param("statusRank") int statusRank,
+            @Param("updatedAt") LocalDateTime updatedAt
+    );
 }
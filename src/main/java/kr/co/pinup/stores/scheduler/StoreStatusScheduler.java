@@ -1,45 +1,114 @@
 package kr.co.pinup.stores.scheduler;
 
-import kr.co.pinup.stores.Store;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.co.pinup.custom.logging.AppLogger;
+import kr.co.pinup.custom.logging.model.dto.InfoLog;
+import kr.co.pinup.stores.event.StoreChangedEvent;
+import kr.co.pinup.stores.model.dto.StoreStatusChange;
 import kr.co.pinup.stores.model.enums.StoreStatus;
 import kr.co.pinup.stores.repository.StoreRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
+/**
+ * 시작일, 종료일 기준으로 진행 상태가 바뀌어야 하는 스토어만 골라 chunk 단위로 갱신한다.
+ * chunk 마다 별도 트랜잭션으로 커밋하므로 자정에 긴 트랜잭션이나 전체 스토어 로딩이 발생하지 않는다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class StoreStatusScheduler {
 
+    private static final String METRIC_PREFIX = "pinup.store.status";
+
     private final StoreRepository storeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final AppLogger appLogger;
+
+    @Value("${pinup.store.status.chunk-size:500}")
+    private int chunkSize;
 
     @Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul")
     public void updateStoreStatuses() {
-        List<Store> stores = storeRepository.findAll();
-        LocalDate today = LocalDate.now();
-
-        for (Store store : stores) {
-            StoreStatus newStatus;
-
-            if (store.getStartDate().isAfter(today)) {
-                newStatus = StoreStatus.PENDING;
-            } else if (store.getEndDate().isBefore(today)) {
-                newStatus = StoreStatus.DISMISSED;
-            } else {
-                newStatus = StoreStatus.RESOLVED;
-            }
+        final LocalDate today = LocalDate.now();
+        final long startedAt = System.nanoTime();
+        final Map<String, Long> transitions = new TreeMap<>();
 
-            if (store.getStoreStatus() != newStatus) {
-                store.updateStatus(newStatus);
-                log.info("스토어 [{}] 상태 {}로 변경", store.getId(), newStatus);
+        long afterId = 0L;
+        int chunkCount = 0;
+        List<StoreStatusChange> changes;
+        do {
+            final long cursor = afterId;
+            changes = transactionTemplate.execute(status -> updateChunk(today, cursor));
+            if (changes == null || changes.isEmpty()) {
+                break;
             }
-        }
 
-        storeRepository.saveAll(stores);
+            chunkCount++;
+            changes.forEach(change -> {
+                transitions.merge(change.from() + "->" + change.to(), 1L, Long::sum);
+                countTransition(change.from(), change.to());
+            });
+            eventPublisher.publishEvent(new StoreChangedEvent(changes.stream()
+                    .map(StoreStatusChange::id)
+                    .toList()));
+
+            afterId = changes.get(changes.size() - 1).id();
+        } while (changes.size() == chunkSize);
+
+        final Duration duration = Duration.ofNanos(System.nanoTime() - startedAt);
+        Timer.builder(METRIC_PREFIX + ".update.duration")
+                .register(meterRegistry)
+                .record(duration);
+
+        appLogger.info(new InfoLog("팝업스토어 진행 상태 갱신 완료")
+                .addDetails(
+                        "transitions", transitions.toString(),
+                        "updated", String.valueOf(transitions.values().stream().mapToLong(Long::longValue).sum()),
+                        "chunks", String.valueOf(chunkCount),
+                        "durationMs", String.valueOf(duration.toMillis())
+                ));
+    }
+
+    private List<StoreStatusChange> updateChunk(final LocalDate today, final long afterId) {
+        final List<StoreStatusChange> changes =
+                storeRepository.findStatusChanges(today, afterId, PageRequest.ofSize(chunkSize));
+
+        final LocalDateTime now = LocalDateTime.now();
+        changes.stream()
+                .collect(Collectors.groupingBy(StoreStatusChange::to,
+                        Collectors.mapping(StoreStatusChange::id, Collectors.toList())))
+                .forEach((status, ids) -> {
+                    final int updated = storeRepository.updateStatus(ids, status, now);
+                    log.debug("스토어 상태 {}로 변경 ids={}, updated={}", status, ids, updated);
+                });
+
+        return changes;
+    }
+
+    private void countTransition(final StoreStatus from, final StoreStatus to) {
+        Counter.builder(METRIC_PREFIX + ".transitions")
+                .tag("from", from.name())
+                .tag("to", to.name())
+                .register(meterRegistry)
+                .increment();
     }
 }
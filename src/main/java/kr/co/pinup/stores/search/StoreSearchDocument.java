@@ -0,0 +1,13 @@
+package kr.co.pinup.stores.search;
+
+/**
+ * 검색 색인에 넣는 스토어 한 건. 이름, 설명, 카테고리명, 주소를 색인한다.
+ */
+public record StoreSearchDocument(
+        Long id,
+        String name,
+        String description,
+        String categoryName,
+        String address
+) {
+}
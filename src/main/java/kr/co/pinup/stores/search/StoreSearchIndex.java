@@ -0,0 +1,286 @@
+package kr.co.pinup.stores.search;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import kr.co.pinup.locations.event.LocationChangedEvent;
+import kr.co.pinup.stores.event.StoreChangedEvent;
+import kr.co.pinup.stores.repository.StoreRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 스토어 이름, 설명, 카테고리명, 주소에 대한 인메모리 역색인.
+ * 글자 n-gram 단위로 색인하고 BM25 방식으로 점수를 매긴다.
+ * 시작 시 전체 색인은 별도 스레드에서 만들어 애플리케이션 기동을 막지 않으며, 이후에는 변경된 스토어만 다시 색인한다.
+ */
+@Slf4j
+@Component
+public class StoreSearchIndex {
+
+    private static final String METRIC_PREFIX = "pinup.store.search";
+
+    private static final double NAME_WEIGHT = 3.0;
+    private static final double CATEGORY_WEIGHT = 2.0;
+    private static final double ADDRESS_WEIGHT = 1.5;
+    private static final double DESCRIPTION_WEIGHT = 1.0;
+    private static final double K1 = 1.2;
+
+    private final StoreRepository storeRepository;
+    private final TransactionTemplate readTransaction;
+    private final ExecutorService rebuildExecutor;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Timer searchTimer;
+
+    // 토큰 → (스토어 ID → 필드 가중치를 곱한 출현 빈도)
+    private Map<String, Map<Long, Double>> postings = new HashMap<>();
+    private Map<Long, Set<String>> documentTerms = new HashMap<>();
+
+    // 전체 색인 중에 들어온 변경은 모아 두었다가 색인 교체 후 반영한다.
+    private final Set<Long> pendingIds = new HashSet<>();
+    private boolean rebuilding;
+    private volatile boolean ready;
+
+    public StoreSearchIndex(
+            final StoreRepository storeRepository,
+            final PlatformTransactionManager transactionManager,
+            final MeterRegistry meterRegistry
+    ) {
+        this.storeRepository = storeRepository;
+
+        readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        readTransaction.setReadOnly(true);
+
+        rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "store-search-index");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        searchTimer = Timer.builder(METRIC_PREFIX + ".duration")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".documents", this, StoreSearchIndex::size)
+                .register(meterRegistry);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuildExecutor.execute(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.warn("스토어 검색 색인 구성 실패, 색인 전까지 DB 검색으로 응답합니다.", e);
+            }
+        });
+    }
+
+    public void rebuild() {
+        synchronized (pendingIds) {
+            rebuilding = true;
+        }
+
+        final List<Long> pending;
+        try {
+            final long startedAt = System.nanoTime();
+            final List<StoreSearchDocument> documents =
+                    readTransaction.execute(status -> storeRepository.findAllSearchDocuments());
+
+            final Map<String, Map<Long, Double>> newPostings = new HashMap<>();
+            final Map<Long, Set<String>> newDocumentTerms = new HashMap<>();
+            documents.forEach(document -> add(newPostings, newDocumentTerms, document));
+
+            lock.writeLock().lock();
+            try {
+                postings = newPostings;
+                documentTerms = newDocumentTerms;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            ready = true;
+            log.info("스토어 검색 색인 구성 완료 documents={}, terms={}, durationMs={}",
+                    newDocumentTerms.size(), newPostings.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        } finally {
+            synchronized (pendingIds) {
+                rebuilding = false;
+                pending = List.copyOf(pendingIds);
+                pendingIds.clear();
+            }
+        }
+
+        if (!pending.isEmpty()) {
+            refresh(pending);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStoreChanged(final StoreChangedEvent event) {
+        refresh(event.storeIds());
+    }
+
+    // 주소가 바뀌면 해당 위치를 쓰는 스토어를 다시 색인한다. 전체 색인 중이면 그 스토어들을 모아 두었다가 교체 후 반영한다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLocationChanged(final LocationChangedEvent event) {
+        try {
+            final List<StoreSearchDocument> documents = readTransaction.execute(
+                    status -> storeRepository.findSearchDocumentsByLocationId(event.locationId()));
+            final List<Long> storeIds = documents.stream().map(StoreSearchDocument::id).toList();
+            if (deferWhileRebuilding(storeIds)) {
+                return;
+            }
+            replace(storeIds, documents);
+        } catch (RuntimeException e) {
+            log.warn("스토어 검색 색인 갱신 실패 locationId={}", event.locationId(), e);
+        }
+    }
+
+    public void refresh(final Collection<Long> storeIds) {
+        if (deferWhileRebuilding(storeIds)) {
+            return;
+        }
+
+        try {
+            final List<StoreSearchDocument> documents =
+                    readTransaction.execute(status -> storeRepository.findSearchDocumentsByIdIn(storeIds));
+            replace(storeIds, documents);
+            log.debug("스토어 검색 색인 부분 갱신 storeIds={}", storeIds);
+        } catch (RuntimeException e) {
+            log.warn("스토어 검색 색인 갱신 실패 storeIds={}", storeIds, e);
+        }
+    }
+
+    /**
+     * 검색어와 관련도가 높은 순으로 스토어 ID 를 반환한다.
+     * 검색어 토큰의 절반 이상이 들어 있는 스토어만 결과에 포함한다.
+     */
+    public List<Long> search(final String query, final int limit) {
+        final List<String> tokens = StoreSearchTokenizer.queryTokens(query).stream()
+                .distinct()
+                .toList();
+        if (tokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        return searchTimer.record(() -> {
+            final Map<Long, Double> scores = new HashMap<>();
+            final Map<Long, Integer> matches = new HashMap<>();
+
+            lock.readLock().lock();
+            try {
+                final int documentCount = documentTerms.size();
+                for (String token : tokens) {
+                    final Map<Long, Double> posting = postings.get(token);
+                    if (posting == null) {
+                        continue;
+                    }
+
+                    final double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                    posting.forEach((id, frequency) -> {
+                        scores.merge(id, idf * frequency * (K1 + 1) / (frequency + K1), Double::sum);
+                        matches.merge(id, 1, Integer::sum);
+                    });
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+
+            return scores.entrySet().stream()
+                    .filter(entry -> matches.get(entry.getKey()) * 2 >= tokens.size())
+                    .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed()))
+                    .limit(limit)
+                    .map(Map.Entry::getKey)
+                    .toList();
+        });
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentTerms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    private boolean deferWhileRebuilding(final Collection<Long> storeIds) {
+        synchronized (pendingIds) {
+            if (rebuilding) {
+                pendingIds.addAll(storeIds);
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private void replace(final Collection<Long> storeIds, final List<StoreSearchDocument> documents) {
+        lock.writeLock().lock();
+        try {
+            storeIds.forEach(this::remove);
+            documents.forEach(document -> add(postings, documentTerms, document));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(final Long storeId) {
+        final Set<String> terms = documentTerms.remove(storeId);
+        if (terms == null) {
+            return;
+        }
+
+        for (String term : terms) {
+            final Map<Long, Double> posting = postings.get(term);
+            if (posting == null) {
+                continue;
+            }
+            posting.remove(storeId);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    private static void add(
+            final Map<String, Map<Long, Double>> postings,
+            final Map<Long, Set<String>> documentTerms,
+            final StoreSearchDocument document) {
+        final Map<String, Double> frequencies = new HashMap<>();
+        count(frequencies, document.name(), NAME_WEIGHT);
+        count(frequencies, document.categoryName(), CATEGORY_WEIGHT);
+        count(frequencies, document.address(), ADDRESS_WEIGHT);
+        count(frequencies, document.description(), DESCRIPTION_WEIGHT);
+
+        frequencies.forEach((term, frequency) ->
+                postings.computeIfAbsent(term, key -> new HashMap<>()).put(document.id(), frequency));
+        documentTerms.put(document.id(), new HashSet<>(frequencies.keySet()));
+    }
+
+    private static void count(final Map<String, Double> frequencies, final String text, final double weight) {
+        StoreSearchTokenizer.indexTokens(text)
+                .forEach(token -> frequencies.merge(token, weight, Double::sum));
+    }
+}
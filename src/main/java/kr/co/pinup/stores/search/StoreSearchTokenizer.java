@@ -0,0 +1,63 @@
+package kr.co.pinup.stores.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 한글 형태소 분석 없이 쓸 수 있도록 단어를 글자 단위 n-gram 으로 자른다.
+ * 색인 시에는 한 글자(unigram)와 두 글자(bigram)를 모두 만들고,
+ * 검색 시에는 두 글자 이상인 단어는 bigram 만, 한 글자 단어는 unigram 으로 찾는다.
+ */
+final class StoreSearchTokenizer {
+
+    private StoreSearchTokenizer() {
+    }
+
+    static List<String> indexTokens(final String text) {
+        final List<String> tokens = new ArrayList<>();
+        for (String word : words(text)) {
+            for (int i = 0; i < word.length(); i++) {
+                tokens.add(word.substring(i, i + 1));
+                if (i + 1 < word.length()) {
+                    tokens.add(word.substring(i, i + 2));
+                }
+            }
+        }
+        return tokens;
+    }
+
+    static List<String> queryTokens(final String text) {
+        final List<String> tokens = new ArrayList<>();
+        for (String word : words(text)) {
+            if (word.length() == 1) {
+                tokens.add(word);
+                continue;
+            }
+            for (int i = 0; i + 1 < word.length(); i++) {
+                tokens.add(word.substring(i, i + 2));
+            }
+        }
+        return tokens;
+    }
+
+    static String normalize(final String text) {
+        if (text == null) {
+            return "";
+        }
+        // 자모가 분리된 입력(NFD)도 완성형 한글과 같은 토큰이 되도록 NFKC 로 맞춘다.
+        return Normalizer.normalize(text, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("[^\\p{L}\\p{N}]+", " ")
+                .trim();
+    }
+
+    private static List<String> words(final String text) {
+        final String normalized = normalize(text);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        return List.of(normalized.split(" "));
+    }
+}
@@ -1,5 +1,6 @@
 package kr.co.pinup.stores.service;
 
+import kr.co.pinup.custom.pagination.CursorPageResponse;
 import kr.co.pinup.locations.Location;
 import kr.co.pinup.locations.service.LocationService;
 import kr.co.pinup.storecategories.StoreCategory;
@@ -9,22 +10,26 @@ import kr.co.pinup.storeimages.service.StoreImageService;
 import kr.co.pinup.storeoperatinghour.StoreOperatingHour;
 import kr.co.pinup.storeoperatinghour.service.StoreOperatingHourService;
 import kr.co.pinup.stores.Store;
+import kr.co.pinup.stores.catalog.StoreCatalog;
+import kr.co.pinup.stores.counter.StoreViewCounter;
+import kr.co.pinup.stores.event.StoreChangedEvent;
 import kr.co.pinup.stores.exception.StoreNotFoundException;
-import kr.co.pinup.stores.model.dto.StoreRequest;
-import kr.co.pinup.stores.model.dto.StoreResponse;
-import kr.co.pinup.stores.model.dto.StoreThumbnailResponse;
-import kr.co.pinup.stores.model.dto.StoreUpdateRequest;
+import kr.co.pinup.stores.model.dto.*;
 import kr.co.pinup.stores.model.enums.StoreStatus;
 import kr.co.pinup.stores.repository.StoreRepository;
+import kr.co.pinup.stores.search.StoreSearchIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDate;
-import java.util.Comparator;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Function;
 
 @Slf4j
 @Service
@@ -37,6 +42,10 @@ public class StoreService {
     private final LocationService locationService;
     private final StoreImageService storeImageService;
     private final StoreOperatingHourService operatingHourService;
+    private final StoreCatalog storeCatalog;
+    private final StoreViewCounter storeViewCounter;
+    private final StoreSearchIndex storeSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<StoreResponse> getStores() {
         return storeRepository.findAllByIsDeletedFalse().stream()
@@ -44,59 +53,77 @@ public class StoreService {
                 .toList();
     }
 
-    public List<StoreThumbnailResponse> findAll(final StoreStatus selectedStatus, final String sigungu) {
-        if (selectedStatus != null && !sigungu.equals("all")) {
-            return getStoresByStatusAndLocationBySigungu(selectedStatus, sigungu);
-        } else if (selectedStatus != null) {
-            return getStoresByStatus(selectedStatus);
-        } else if (!sigungu.equals("all")) {
-            return getStoresByLocationBySigungu(sigungu);
-        }
-
-        return getStoresSortedByStatusPriority();
-    }
-
     public List<StoreThumbnailResponse> getStoresThumbnailWithLimit(final int limit) {
-        return storeRepository.findAllByIsDeletedFalse().stream()
-                .sorted(Comparator.comparingInt(store -> getStoreStatusOrder(store.getStoreStatus())))
-                .limit(limit)
-                .map(StoreThumbnailResponse::from)
-                .toList();
+        return storeCatalog.snapshot().getStores(limit);
     }
 
-    public List<StoreThumbnailResponse> getStoresSortedByStatusPriority() {
-        return storeRepository.findAllByIsDeletedFalse().stream()
-                .sorted(Comparator.comparingInt(store -> getStoreStatusOrder(store.getStoreStatus())))
-                .map(StoreThumbnailResponse::from)
-                .toList();
+    public CursorPageResponse<StoreThumbnailResponse> getStoreThumbnailPage(
+            final StoreSearchCondition condition, final String cursor, final int size) {
+        final StoreCursor storeCursor = StoreCursor.decode(cursor);
+
+        final List<StoreThumbnailResponse> stores = storeRepository.findThumbnailPageByStatusPriority(
+                condition.status(), condition.sigungu(), condition.categoryId(),
+                storeCursor.statusOrder(), storeCursor.id(),
+                PageRequest.ofSize(size + 1));
+        log.debug("getStoreThumbnailPage condition={}, cursor={}, fetched={}", condition, storeCursor, stores.size());
+
+        return CursorPageResponse.of(stores, size, Function.identity(), store -> StoreCursor.from(store).encode());
     }
 
-    public List<StoreThumbnailResponse> getStoresByStatus(StoreStatus status) {
-        return storeRepository.findAllByStoreStatusAndIsDeletedFalse(status).stream()
-                .map(StoreThumbnailResponse::from)
-                .toList();
+    public CursorPageResponse<StoreResponse> getStorePage(
+            final StoreSearchCondition condition, final String cursor, final int size) {
+        final StoreCursor storeCursor = StoreCursor.decode(cursor);
+
+        final List<Store> stores = storeRepository.findPageByStatusPriority(
+                condition.status(), condition.sigungu(), condition.categoryId(),
+                storeCursor.statusOrder(), storeCursor.id(),
+                PageRequest.ofSize(size + 1));
+        log.debug("getStorePage condition={}, cursor={}, fetched={}", condition, storeCursor, stores.size());
+
+        return CursorPageResponse.of(stores, size, StoreResponse::from, store -> StoreCursor.from(store).encode());
     }
 
     public StoreResponse getStoreById(Long id) {
-        Store store = storeRepository.findById(id)
+        Store store = storeRepository.findDetailById(id)
                 .orElseThrow(StoreNotFoundException::new);
 
         return StoreResponse.from(store);
     }
 
-    public List<StoreThumbnailResponse> getStoresByStatusAndLocationBySigungu(
-            final StoreStatus selectedStatus, final String sigungu) {
-        return storeRepository.findAllByLocation_SigunguAndStoreStatusAndIsDeletedFalse(sigungu, selectedStatus)
-                .stream()
-                .map(StoreThumbnailResponse::from)
-                .toList();
+    public List<StoreThumbnailResponse> getStoresNearby(
+            final double latitude, final double longitude, final int radiusMeters,
+            final StoreStatus status, final int limit) {
+        return storeCatalog.snapshot().getStoresNearby(latitude, longitude, radiusMeters, status, limit);
     }
 
-    public List<StoreThumbnailResponse> getStoresByLocationBySigungu(final String sigungu) {
-        return storeRepository.findAllByLocation_SigunguAndIsDeletedFalse(sigungu).stream()
-                .sorted(Comparator.comparingInt(store -> getStoreStatusOrder(store.getStoreStatus())))
-                .map(StoreThumbnailResponse::from)
-                .toList();
+    public List<StoreClusterResponse> getStoreClusters(
+            final double swLatitude, final double swLongitude,
+            final double neLatitude, final double neLongitude, final int level) {
+        return storeCatalog.snapshot().getClusters(swLatitude, swLongitude, neLatitude, neLongitude, level);
+    }
+
+    public StoreFacetResponse getFacets(final StoreSearchCondition condition) {
+        return storeCatalog.snapshot().getFacets(condition);
+    }
+
+    public List<StoreSuggestionResponse> getSuggestions(final String prefix, final int limit) {
+        return storeCatalog.snapshot().getSuggestions(prefix, limit);
+    }
+
+    public List<StoreThumbnailResponse> searchStores(final String query, final int limit) {
+        final List<Long> ids = storeSearchIndex.isReady()
+                ? storeSearchIndex.search(query, limit)
+                : storeRepository.findIdsByKeyword(query.trim(), PageRequest.ofSize(limit));
+
+        return storeCatalog.snapshot().getStoresByIds(ids);
+    }
+
+    public List<StoreThumbnailResponse> getStoresOpenAt(final LocalDateTime openAt) {
+        return storeCatalog.snapshot().getStoresOpenAt(openAt);
+    }
+
+    public void recordView(final Long id) {
+        storeViewCounter.record(id);
     }
 
     @Transactional
@@ -104,16 +131,7 @@ public class StoreService {
         final StoreCategory category = categoryService.findCategoryById(request.categoryId());
         final Location location = locationService.getLocation(request.locationId());
 
-        final LocalDate now = LocalDate.now();
-        final LocalDate startDate = request.startDate();
-        StoreStatus storeStatus;
-        if (request.startDate().isAfter(now)) {
-            storeStatus = StoreStatus.PENDING;
-        } else if (request.endDate().isBefore(now)) {
-            storeStatus = StoreStatus.DISMISSED;
-        } else {
-            storeStatus = StoreStatus.RESOLVED;
-        }
+        final StoreStatus storeStatus = StoreStatus.of(request.startDate(), request.endDate(), LocalDate.now());
         log.debug("createStore storeStatus={}", storeStatus);
 
         Store store = Store.builder()
@@ -139,6 +157,8 @@ public class StoreService {
         log.debug("createStore storeImages={}", storeImages);
         store.addImages(storeImages);
 
+        eventPublisher.publishEvent(StoreChangedEvent.of(store.getId()));
+
         return StoreResponse.from(store);
     }
 
@@ -174,6 +194,8 @@ public class StoreService {
         log.debug("createStore storeImages={}", storeImages);
         store.addImages(storeImages);
 
+        eventPublisher.publishEvent(StoreChangedEvent.of(id));
+
         return StoreResponse.from(store);
     }
 
@@ -183,14 +205,8 @@ public class StoreService {
                 .orElseThrow(StoreNotFoundException::new);
         
         store.deleteStore(true);
-    }
 
-    private int getStoreStatusOrder(final StoreStatus status) {
-        return switch (status) {
-            case RESOLVED -> 0;
-            case PENDING -> 1;
-            case DISMISSED -> 2;
-        };
+        eventPublisher.publishEvent(StoreChangedEvent.of(id));
     }
 
 }
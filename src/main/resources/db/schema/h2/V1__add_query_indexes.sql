@@ -0,0 +1,18 @@
+-- 테스트용 H2 는 partial index 를 지원하지 않으므로 삭제 여부를 복합 인덱스의 마지막 컬럼으로 둔다.
+-- 인덱스 이름은 db/schema/postgresql/V1__add_query_indexes.sql 과 같게 맞춘다.
+
+-- StoreRepository.findPageByStatusPriority, findThumbnailPageByStatusPriority: 진행 상태, 자치구, 카테고리 필터
+CREATE INDEX IF NOT EXISTS idx_locations_sigungu ON locations (sigungu);
+CREATE INDEX IF NOT EXISTS idx_stores_location_status_active ON stores (location_id, store_status, is_deleted);
+
+CREATE INDEX IF NOT EXISTS idx_store_images_store_active ON store_images (store_id, is_deleted);
+
+CREATE INDEX IF NOT EXISTS idx_store_operating_hour_store ON store_operating_hour (store_id);
+
+CREATE INDEX IF NOT EXISTS idx_posts_store_deleted ON posts (store_id, is_deleted);
+
+CREATE INDEX IF NOT EXISTS idx_members_email_active ON members (email, is_deleted);
+
+CREATE INDEX IF NOT EXISTS idx_comments_post ON comments (post_id);
+
+CREATE INDEX IF NOT EXISTS idx_post_images_post ON post_images (post_id);
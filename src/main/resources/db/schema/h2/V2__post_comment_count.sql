@@ -0,0 +1,3 @@
+UPDATE posts p SET comment_count = (SELECT COUNT(*) FROM comments c WHERE c.post_id = p.id);
+
+CREATE INDEX IF NOT EXISTS idx_posts_store_created_active ON posts (store_id, is_deleted, created_at DESC, id DESC);
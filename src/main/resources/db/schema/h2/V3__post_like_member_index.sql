@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_post_like_member_post ON post_like (member_id, post_id);
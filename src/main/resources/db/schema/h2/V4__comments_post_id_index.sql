@@ -0,0 +1,2 @@
+CREATE INDEX IF NOT EXISTS idx_comments_post_id ON comments (post_id, id);
+DROP INDEX IF EXISTS idx_comments_post;
@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_posts_created_active ON posts (is_deleted, created_at DESC, id DESC);
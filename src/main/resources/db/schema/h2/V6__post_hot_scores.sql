@@ -0,0 +1,6 @@
+CREATE TABLE IF NOT EXISTS post_hot_scores (
+    post_id         BIGINT           PRIMARY KEY,
+    store_id        BIGINT           NOT NULL,
+    score           DOUBLE PRECISION NOT NULL,
+    checkpointed_at TIMESTAMP        NOT NULL
+);
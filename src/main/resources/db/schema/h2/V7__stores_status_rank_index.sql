@@ -0,0 +1,3 @@
+UPDATE stores SET status_rank = CASE store_status WHEN 'RESOLVED' THEN 0 WHEN 'PENDING' THEN 1 ELSE 2 END;
+
+CREATE INDEX IF NOT EXISTS idx_stores_rank_active ON stores (is_deleted, status_rank, id);
@@ -0,0 +1,25 @@
+-- 파생 쿼리 메서드가 타는 조회 경로용 인덱스.
+-- PostgreSQL 은 FK 컬럼에 인덱스를 만들지 않으므로 자식 테이블의 FK 조회도 함께 잡는다.
+-- members.nickname, post_like(post_id, member_id) 는 유니크 제약의 인덱스를 그대로 쓴다.
+
+-- StoreRepository.findPageByStatusPriority, findThumbnailPageByStatusPriority: 진행 상태, 자치구, 카테고리 필터
+CREATE INDEX IF NOT EXISTS idx_locations_sigungu ON locations (sigungu);
+CREATE INDEX IF NOT EXISTS idx_stores_location_status_active ON stores (location_id, store_status) WHERE is_deleted = false;
+
+-- StoreImageRepository.findByStoreIdAndIsDeletedFalse
+CREATE INDEX IF NOT EXISTS idx_store_images_store_active ON store_images (store_id) WHERE is_deleted = false;
+
+-- StoreRepository.findOperatingWindowsByStoreIdIn, Store.operatingHours
+CREATE INDEX IF NOT EXISTS idx_store_operating_hour_store ON store_operating_hour (store_id);
+
+-- PostRepository.findByStoreIdAndIsDeleted
+CREATE INDEX IF NOT EXISTS idx_posts_store_deleted ON posts (store_id, is_deleted);
+
+-- MemberRepository.findByEmailAndIsDeletedFalse
+CREATE INDEX IF NOT EXISTS idx_members_email_active ON members (email) WHERE is_deleted = false;
+
+-- CommentRepository.findByPostId
+CREATE INDEX IF NOT EXISTS idx_comments_post ON comments (post_id);
+
+-- PostImageRepository.findByPostId, findByPostIdAndS3UrlIn
+CREATE INDEX IF NOT EXISTS idx_post_images_post ON post_images (post_id);
@@ -0,0 +1,5 @@
+-- comment_count 는 Hibernate 가 기본값 0 으로 추가하므로, 기존 게시글의 댓글 수를 한 번 채운다.
+UPDATE posts p SET comment_count = (SELECT COUNT(*) FROM comments c WHERE c.post_id = p.id);
+
+-- PostRepository.findPostListPage: 스토어의 삭제되지 않은 게시글을 (created_at, id) 역순 키셋으로 읽는다.
+CREATE INDEX IF NOT EXISTS idx_posts_store_created_active ON posts (store_id, created_at DESC, id DESC) WHERE is_deleted = false;
@@ -0,0 +1,2 @@
+-- PostLikeRepository.findPostIdsByMemberId: 회원이 좋아요한 게시글 ID 를 인덱스만으로 읽는다.
+CREATE INDEX IF NOT EXISTS idx_post_like_member_post ON post_like (member_id, post_id);
@@ -0,0 +1,3 @@
+-- CommentRepository.findItemsByPostId: 게시글의 댓글을 ID 키셋 순서로 읽는다. (post_id) 단일 인덱스를 대신한다.
+CREATE INDEX IF NOT EXISTS idx_comments_post_id ON comments (post_id, id);
+DROP INDEX IF EXISTS idx_comments_post;
@@ -0,0 +1,2 @@
+-- PostRepository.findFeedPage: 스토어와 무관하게 삭제되지 않은 게시글을 (created_at, id) 역순 키셋으로 읽는다.
+CREATE INDEX IF NOT EXISTS idx_posts_created_active ON posts (created_at DESC, id DESC) WHERE is_deleted = false;
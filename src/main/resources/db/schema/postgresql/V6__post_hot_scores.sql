@@ -0,0 +1,7 @@
+-- HotPostCheckpoint: 인기 게시글 점수를 주기적으로 통째로 저장해 재시작 뒤에 순위를 복원한다.
+CREATE TABLE IF NOT EXISTS post_hot_scores (
+    post_id         BIGINT           PRIMARY KEY,
+    store_id        BIGINT           NOT NULL,
+    score           DOUBLE PRECISION NOT NULL,
+    checkpointed_at TIMESTAMP        NOT NULL
+);
@@ -0,0 +1,5 @@
+-- status_rank 는 Hibernate 가 기본값 2 로 추가하므로, 기존 스토어의 값을 진행 상태로 한 번 채운다.
+UPDATE stores SET status_rank = CASE store_status WHEN 'RESOLVED' THEN 0 WHEN 'PENDING' THEN 1 ELSE 2 END;
+
+-- StoreRepository.findPageByStatusPriority, findThumbnailPageByStatusPriority: 삭제되지 않은 스토어를 (status_rank, id) 키셋으로 읽는다.
+CREATE INDEX IF NOT EXISTS idx_stores_rank_active ON stores (status_rank, id) WHERE is_deleted = false;
@@ -428,6 +428,33 @@ function initializeCommentHandlers() {
         });
     }
 
+    const moreButton = document.querySelector(".comment-more");
+    if (moreButton && commentList) {
+        moreButton.addEventListener("click", async () => {
+            const postId = moreButton.getAttribute("data-post-id");
+            const after = moreButton.getAttribute("data-next-cursor");
+            const viewer = moreButton.getAttribute("data-viewer");
+
+            try {
+                const response = await fetch(`/api/comment/${postId}?after=${encodeURIComponent(after)}`);
+                if (!response.ok) {
+                    throw new Error("댓글 조회 실패");
+                }
+
+                const page = await response.json();
+                page.items.forEach(comment => commentList.appendChild(createCommentItem(comment, viewer)));
+
+                if (page.hasNext) {
+                    moreButton.setAttribute("data-next-cursor", page.nextCursor);
+                } else {
+                    moreButton.remove();
+                }
+            } catch (error) {
+                console.error("❌ 댓글 조회 실패:", error);
+            }
+        });
+    }
+
     if (commentForm) {
         commentForm.addEventListener("submit", async (e) => {
             e.preventDefault();
@@ -484,6 +511,41 @@ function initializeCommentHandlers() {
 
 }
 
+// 더보기로 불러온 댓글을 서버에서 그린 댓글과 같은 구조로 만든다.
+function createCommentItem(comment, viewer) {
+    const item = document.createElement("li");
+    item.classList.add("comment");
+
+    const username = document.createElement("span");
+    username.classList.add("comment-username");
+    username.textContent = comment.nickname;
+
+    const content = document.createElement("div");
+    content.classList.add("comment-content");
+    const contentText = document.createElement("span");
+    contentText.textContent = comment.content;
+    content.appendChild(contentText);
+
+    const footer = document.createElement("div");
+    footer.classList.add("comment-footer");
+    const time = document.createElement("div");
+    time.classList.add("card-time");
+    time.textContent = comment.createdAt.split("T")[0];
+    footer.appendChild(time);
+
+    if (viewer && viewer === comment.nickname) {
+        const deleteButton = document.createElement("button");
+        deleteButton.type = "button";
+        deleteButton.className = "comment-delete transparent-button";
+        deleteButton.setAttribute("data-comment-id", comment.id);
+        deleteButton.textContent = "삭제";
+        footer.appendChild(deleteButton);
+    }
+
+    item.append(username, content, footer);
+    return item;
+}
+
 function initializeLikeButtons() {
     if (document.body.__likeBound) return;
     document.body.__likeBound = true;
@@ -1,6 +1,7 @@
 document.addEventListener("DOMContentLoaded", function () {
     const statusFilter = document.getElementById("statusFilter");
     const sigunguFilter = document.getElementById('sigungu-filter');
+    const categoryFilter = document.getElementById('category-filter');
 
     const urlParams = new URLSearchParams(window.location.search);
     if (statusFilter && urlParams.has('status')) {
@@ -9,6 +10,9 @@ document.addEventListener("DOMContentLoaded", function () {
     if (sigunguFilter && urlParams.has('sigungu')) {
         sigunguFilter.value = urlParams.get('sigungu');
     }
+    if (categoryFilter && urlParams.has('categoryId')) {
+        categoryFilter.value = urlParams.get('categoryId');
+    }
 
     if (statusFilter) {
         statusFilter.addEventListener("change", function () {
@@ -20,4 +24,9 @@ document.addEventListener("DOMContentLoaded", function () {
             this.form.submit();
         });
     }
+    if (categoryFilter) {
+        categoryFilter.addEventListener('change', function () {
+            this.form.submit();
+        });
+    }
 });
\ No newline at end of file
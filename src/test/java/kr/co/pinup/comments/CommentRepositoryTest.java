@@ -1,6 +1,6 @@
 package kr.co.pinup.comments;
 
-import kr.co.pinup.comments.model.dto.CommentResponse;
+import kr.co.pinup.comments.model.dto.CommentItemResponse;
 import kr.co.pinup.comments.repository.CommentRepository;
 import kr.co.pinup.locations.Location;
 import kr.co.pinup.locations.reposiotry.LocationRepository;
@@ -15,11 +15,16 @@ import kr.co.pinup.storecategories.repository.StoreCategoryRepository;
 import kr.co.pinup.stores.Store;
 import kr.co.pinup.stores.model.enums.StoreStatus;
 import kr.co.pinup.stores.repository.StoreRepository;
+import kr.co.pinup.support.QueryCountSupport;
+import kr.co.pinup.support.QueryCounter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -27,6 +32,7 @@ import java.util.List;
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 
 @DataJpaTest
+@Import(QueryCountSupport.class)
 class CommentRepositoryTest {
 
     @Autowired CommentRepository commentRepository;
@@ -35,6 +41,8 @@ class CommentRepositoryTest {
     @Autowired StoreRepository storeRepository;
     @Autowired StoreCategoryRepository storeCategoryRepository;
     @Autowired LocationRepository locationRepository;
+    @Autowired TestEntityManager entityManager;
+    @Autowired QueryCounter queryCounter;
 
     Post post;
     Member member;
@@ -72,23 +80,47 @@ class CommentRepositoryTest {
     }
 
     @Test
-    @DisplayName("특정 게시글 ID로 댓글 목록 조회")
-    void shouldFindCommentsByPostId() {
-        Comment comment1 = commentRepository.save(Comment.builder()
+    @DisplayName("특정 게시글 ID로 댓글 목록을 작성자 닉네임과 함께 한 문장으로 조회")
+    void shouldFindCommentItemsByPostId() {
+        commentRepository.save(Comment.builder()
                 .content("첫 댓글")
                 .post(post)
                 .member(member)
                 .build());
 
-        Comment comment2 = commentRepository.save(Comment.builder()
+        commentRepository.save(Comment.builder()
                 .content("두 번째 댓글")
                 .post(post)
                 .member(member)
                 .build());
+        entityManager.clear();
+        queryCounter.reset();
 
-        List<CommentResponse> comments = commentRepository.findByPostId(post.getId());
+        List<CommentItemResponse> comments = commentRepository.findItemsByPostId(post.getId(), 0L, PageRequest.ofSize(10));
 
-        assertThat(comments).hasSize(2);
+        assertThat(comments).extracting(CommentItemResponse::content).containsExactly("첫 댓글", "두 번째 댓글");
+        assertThat(comments).extracting(CommentItemResponse::nickname).containsOnly("tester");
+        assertThat(queryCounter.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("after 보다 ID 가 큰 댓글부터 이어서 조회")
+    void shouldFindCommentItemsAfterCursor() {
+        Comment first = commentRepository.save(Comment.builder()
+                .content("첫 댓글")
+                .post(post)
+                .member(member)
+                .build());
+
+        commentRepository.save(Comment.builder()
+                .content("두 번째 댓글")
+                .post(post)
+                .member(member)
+                .build());
+
+        List<CommentItemResponse> comments = commentRepository.findItemsByPostId(post.getId(), first.getId(), PageRequest.ofSize(10));
+
+        assertThat(comments).extracting(CommentItemResponse::content).containsExactly("두 번째 댓글");
     }
 
     @Test
@@ -5,14 +5,18 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import kr.co.pinup.comments.model.dto.CommentItemResponse;
 import kr.co.pinup.comments.model.dto.CommentResponse;
 import kr.co.pinup.comments.model.dto.CreateCommentRequest;
 import kr.co.pinup.comments.service.CommentService;
 import kr.co.pinup.config.LoggerConfig;
+import kr.co.pinup.custom.pagination.CursorPageResponse;
 import kr.co.pinup.exception.GlobalExceptionHandler;
+import kr.co.pinup.members.Member;
 import kr.co.pinup.members.custom.WithMockMember;
 import kr.co.pinup.members.model.dto.MemberInfo;
 import kr.co.pinup.members.model.enums.MemberRole;
+import kr.co.pinup.oauth.OAuthProvider;
 import kr.co.pinup.security.filter.AccessTokenValidationFilter;
 import kr.co.pinup.security.filter.SessionExpirationFilter;
 import org.junit.jupiter.api.DisplayName;
@@ -31,10 +35,15 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -82,6 +91,52 @@ class CommentApiControllerSliceTest {
         }
     }
 
+    @Test
+    @DisplayName("댓글 페이지 조회 성공 - after 이후 댓글과 다음 커서 반환")
+    void getComments_success() throws Exception {
+        Long postId = 1L;
+        when(commentService.getComments(postId, 10L, 1))
+                .thenReturn(new CursorPageResponse<>(
+                        List.of(new CommentItemResponse(11L, postId, "tester", "테스트 댓글", LocalDateTime.now())),
+                        "11", true));
+
+        mockMvc.perform(get("/api/comment/{postId}", postId)
+                        .param("after", "10")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].nickname").value("tester"))
+                .andExpect(jsonPath("$.items[0].member").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").value("11"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    @DisplayName("댓글 페이지 응답 크기 - 닉네임만 담아 회원 엔티티를 담던 응답보다 작다")
+    void getComments_payloadSmallerThanMemberEntity() throws Exception {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 7, 7, 12, 0);
+        Member member = new Member("행복한 돼지", "test@example.com", "happyPig", "", OAuthProvider.NAVER,
+                "provider-id-123", MemberRole.ROLE_USER, false);
+        List<CommentResponse> before = new ArrayList<>();
+        List<CommentItemResponse> after = new ArrayList<>();
+        for (long id = 1; id <= 50; id++) {
+            before.add(new CommentResponse(id, 1L, member, "테스트 댓글 " + id, createdAt));
+            after.add(new CommentItemResponse(id, 1L, member.getNickname(), "테스트 댓글 " + id, createdAt));
+        }
+
+        int beforeBytes = objectMapper.writeValueAsBytes(before).length;
+        int afterBytes = objectMapper.writeValueAsBytes(after).length;
+
+        assertThat(afterBytes).isLessThan(beforeBytes / 2);
+    }
+
+    @Test
+    @DisplayName("댓글 페이지 조회 실패 - size가 최대값 초과")
+    void getComments_fail_whenSizeTooLarge() throws Exception {
+        mockMvc.perform(get("/api/comment/{postId}", 1L)
+                        .param("size", "101"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @WithMockMember
     @DisplayName("댓글 생성 성공")
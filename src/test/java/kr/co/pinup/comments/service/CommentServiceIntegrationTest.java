@@ -3,9 +3,11 @@ package kr.co.pinup.comments.service;
 import jakarta.transaction.Transactional;
 import kr.co.pinup.comments.Comment;
 import kr.co.pinup.comments.exception.comment.CommentNotFoundException;
+import kr.co.pinup.comments.model.dto.CommentItemResponse;
 import kr.co.pinup.comments.model.dto.CommentResponse;
 import kr.co.pinup.comments.model.dto.CreateCommentRequest;
 import kr.co.pinup.comments.repository.CommentRepository;
+import kr.co.pinup.custom.pagination.CursorPageResponse;
 import kr.co.pinup.locations.Location;
 import kr.co.pinup.locations.reposiotry.LocationRepository;
 import kr.co.pinup.members.Member;
@@ -156,12 +158,16 @@ public class CommentServiceIntegrationTest {
         commentRepository.save(comment2);
 
         // When
-        List<CommentResponse> comments = commentService.findByPostId(savedPost.getId());
+        CursorPageResponse<CommentItemResponse> firstPage = commentService.getComments(savedPost.getId(), null, 1);
+        CursorPageResponse<CommentItemResponse> secondPage = commentService.getComments(
+                savedPost.getId(), Long.valueOf(firstPage.nextCursor()), 1);
 
         // Then
-        assertEquals(2, comments.size());
-        assertTrue(comments.stream().anyMatch(c -> c.content().equals("Test Comment 1")));
-        assertTrue(comments.stream().anyMatch(c -> c.content().equals("Test Comment 2")));
+        assertEquals("Test Comment 1", firstPage.items().get(0).content());
+        assertTrue(firstPage.hasNext());
+        assertEquals("Test Comment 2", secondPage.items().get(0).content());
+        assertEquals(savedMember.getNickname(), secondPage.items().get(0).nickname());
+        assertFalse(secondPage.hasNext());
     }
 
     @Test
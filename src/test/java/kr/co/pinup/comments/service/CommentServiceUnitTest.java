@@ -2,10 +2,13 @@ package kr.co.pinup.comments.service;
 
 import kr.co.pinup.comments.Comment;
 import kr.co.pinup.comments.exception.comment.CommentNotFoundException;
+import kr.co.pinup.comments.model.dto.CommentItemResponse;
 import kr.co.pinup.comments.model.dto.CommentResponse;
 import kr.co.pinup.comments.model.dto.CreateCommentRequest;
 import kr.co.pinup.comments.repository.CommentRepository;
 import kr.co.pinup.custom.logging.AppLogger;
+import kr.co.pinup.custom.pagination.CursorPageResponse;
+import kr.co.pinup.custom.version.AggregateVersionRegistry;
 import kr.co.pinup.members.Member;
 import kr.co.pinup.members.custom.WithMockMember;
 import kr.co.pinup.members.model.dto.MemberInfo;
@@ -13,14 +16,18 @@ import kr.co.pinup.members.model.enums.MemberRole;
 import kr.co.pinup.members.repository.MemberRepository;
 import kr.co.pinup.oauth.OAuthProvider;
 import kr.co.pinup.posts.Post;
+import kr.co.pinup.posts.event.PostEngagedEvent;
 import kr.co.pinup.posts.exception.post.PostNotFoundException;
 import kr.co.pinup.posts.repository.PostRepository;
+import kr.co.pinup.stores.Store;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
@@ -48,39 +55,33 @@ public class CommentServiceUnitTest {
     @Mock
     private AppLogger appLogger;
 
+    @Mock
+    private AggregateVersionRegistry versionRegistry;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Test
-    @DisplayName("게시글 ID로 댓글 조회 - 성공")
-    void getCommentsByPostId_whenCommentsExist_thenReturnsCommentList() {
+    @DisplayName("게시글 ID로 댓글 조회 - 한 건 더 읽어 다음 커서를 만든다")
+    void getCommentsByPostId_whenMoreCommentsExist_thenReturnsNextCursor() {
         // Given
         Long postId = 1L;
-        Member mockMember = new Member("행복한 돼지", "test@example.com", "happyPig", "", OAuthProvider.NAVER, "provider-id-123", MemberRole.ROLE_USER, false);
-
-        List<CommentResponse> commentResponses = List.of(
-                CommentResponse.builder()
-                        .id(1L)
-                        .postId(postId)
-                        .member(mockMember)
-                        .content("Test Comment 1")
-                        .createdAt(LocalDateTime.now())
-                        .build(),
-                CommentResponse.builder()
-                        .id(2L)
-                        .postId(postId)
-                        .member(mockMember)
-                        .content("Test Comment 2")
-                        .createdAt(LocalDateTime.now())
-                        .build()
+        List<CommentItemResponse> fetched = List.of(
+                new CommentItemResponse(1L, postId, "happyPig", "Test Comment 1", LocalDateTime.now()),
+                new CommentItemResponse(2L, postId, "happyPig", "Test Comment 2", LocalDateTime.now()),
+                new CommentItemResponse(3L, postId, "happyPig", "Test Comment 3", LocalDateTime.now())
         );
 
-        when(commentRepository.findByPostId(postId)).thenReturn(commentResponses);
+        when(commentRepository.findItemsByPostId(postId, 0L, PageRequest.ofSize(3))).thenReturn(fetched);
 
         // When
-        List<CommentResponse> result = commentService.findByPostId(postId);
+        CursorPageResponse<CommentItemResponse> result = commentService.getComments(postId, null, 2);
 
         // Then
-        assertNotNull(result);
-        assertEquals(2, result.size());
-        verify(commentRepository).findByPostId(postId);
+        assertEquals(2, result.items().size());
+        assertTrue(result.hasNext());
+        assertEquals("2", result.nextCursor());
+        verify(commentRepository).findItemsByPostId(postId, 0L, PageRequest.ofSize(3));
     }
 
     @Test
@@ -88,14 +89,19 @@ public class CommentServiceUnitTest {
     void deleteComment_whenExistingComment_thenSuccess() {
         // Given
         Long commentId = 1L;
+        Long postId = 10L;
         when(commentRepository.existsById(commentId)).thenReturn(true);
+        when(commentRepository.findPostIdById(commentId)).thenReturn(Optional.of(postId));
+        when(postRepository.findStoreIdById(postId)).thenReturn(Optional.of(7L));
 
         // When
         commentService.deleteComment(commentId);
 
         // Then
         verify(commentRepository).existsById(commentId);
+        verify(postRepository).decreaseCommentCount(postId);
         verify(commentRepository).deleteById(commentId);
+        verify(eventPublisher).publishEvent(PostEngagedEvent.commented(postId, 7L, -1));
     }
 
     @Test
@@ -124,7 +130,11 @@ public class CommentServiceUnitTest {
                 .content(commentContent)
                 .build();
 
+        Store store = Store.builder().name("Test Store").build();
+        ReflectionTestUtils.setField(store, "id", 7L);
+
         Post post = Post.builder()
+                .store(store)
                 .title("Test Post")
                 .content("Test Content")
                 .build();
@@ -164,6 +174,8 @@ public class CommentServiceUnitTest {
 
         verify(postRepository).findById(postId);
         verify(commentRepository).save(any(Comment.class));
+        verify(postRepository).increaseCommentCount(postId);
+        verify(eventPublisher).publishEvent(PostEngagedEvent.commented(postId, 7L, 1));
     }
 
     @WithMockMember(nickname = "행복한 돼지", provider = OAuthProvider.NAVER, role = MemberRole.ROLE_USER)
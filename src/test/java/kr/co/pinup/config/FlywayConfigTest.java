@@ -0,0 +1,106 @@
+package kr.co.pinup.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(FlywayConfig.class)
+class FlywayConfigTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @DisplayName("Hibernate 가 만든 스키마 위에 벤더별 마이그레이션을 적용한다")
+    @Test
+    void migrateAfterJpa() {
+        // Act
+        final Integer applied = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM \"flyway_schema_history\" WHERE \"version\" = '1' AND \"success\" = TRUE",
+                Integer.class);
+
+        // Assert
+        assertThat(applied).isEqualTo(1);
+    }
+
+    @DisplayName("지역과 진행 상태로 삭제되지 않은 스토어를 찾을 때 인덱스를 탄다")
+    @Test
+    void explainStoresBySigunguAndStatus() {
+        // Act
+        final String plan = explain("""
+                SELECT s.id FROM stores s JOIN locations l ON l.id = s.location_id
+                WHERE l.sigungu = '송파구' AND s.store_status = 'RESOLVED' AND s.is_deleted = FALSE
+                """);
+
+        // Assert
+        assertThat(plan).containsIgnoringCase("idx_locations_sigungu")
+                .doesNotContain("tableScan");
+    }
+
+    @DisplayName("상태 우선 순서로 스토어 페이지를 읽을 때 (status_rank, id) 인덱스를 탄다")
+    @Test
+    void explainStorePageByStatusRank() {
+        // Act
+        final String plan = explain("""
+                SELECT s.id FROM stores s
+                WHERE s.is_deleted = FALSE AND (s.status_rank > 0 OR (s.status_rank = 0 AND s.id > 10))
+                ORDER BY s.status_rank, s.id
+                LIMIT 20
+                """);
+
+        // Assert
+        assertThat(plan).containsIgnoringCase("idx_stores_rank_active")
+                .doesNotContain("tableScan");
+    }
+
+    @DisplayName("스토어의 삭제되지 않은 이미지와 게시글을 찾을 때 복합 인덱스를 탄다")
+    @Test
+    void explainStoreChildren() {
+        // Act
+        final String imagePlan = explain("SELECT id FROM store_images WHERE store_id = 1 AND is_deleted = FALSE");
+        final String postPlan = explain("SELECT id FROM posts WHERE store_id = 1 AND is_deleted = FALSE");
+
+        // Assert
+        assertThat(imagePlan).containsIgnoringCase("idx_store_images_store_active");
+        assertThat(postPlan).containsIgnoringCase("idx_posts_store_deleted");
+    }
+
+    @DisplayName("이메일로 탈퇴하지 않은 회원을 찾을 때 복합 인덱스를 탄다")
+    @Test
+    void explainMemberByEmail() {
+        // Act
+        final String plan = explain("SELECT id FROM members WHERE email = 'a@pinup.co.kr' AND is_deleted = FALSE");
+
+        // Assert
+        assertThat(plan).containsIgnoringCase("idx_members_email_active");
+    }
+
+    @DisplayName("게시글의 댓글을 찾을 때 전체 스캔하지 않는다")
+    @Test
+    void explainCommentsByPost() {
+        // Act
+        final String plan = explain("SELECT id FROM comments WHERE post_id = 1");
+
+        // Assert
+        assertThat(plan).doesNotContain("tableScan");
+    }
+
+    private String explain(final String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+    }
+}
@@ -0,0 +1,69 @@
+package kr.co.pinup.custom.counter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StripedCounterTest {
+
+    @DisplayName("누적된 값을 꺼내면 0 이 아닌 값만 반환하고 초기화한다")
+    @Test
+    void drain() {
+        // Arrange
+        final StripedCounter counter = new StripedCounter();
+        counter.increment(1L);
+        counter.increment(1L);
+        counter.add(2L, 5L);
+
+        // Act
+        final Map<Long, Long> first = counter.drain();
+        final Map<Long, Long> second = counter.drain();
+
+        // Assert
+        assertThat(first).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 2L, 2L, 5L));
+        assertThat(second).isEmpty();
+    }
+
+    @DisplayName("여러 스레드가 증가시키는 도중 꺼내도 합계가 유실되지 않는다")
+    @Test
+    void drainWhileIncrementing() throws InterruptedException {
+        // Arrange
+        final StripedCounter counter = new StripedCounter();
+        final int threadCount = 8;
+        final int incrementsPerThread = 10_000;
+        final AtomicLong drainedTotal = new AtomicLong();
+        final ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        final CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // Act
+        for (int i = 0; i < threadCount; i++) {
+            final long key = i % 2;
+            executorService.submit(() -> {
+                try {
+                    for (int j = 0; j < incrementsPerThread; j++) {
+                        counter.increment(key);
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        while (latch.getCount() > 0) {
+            counter.drain().values().forEach(drainedTotal::addAndGet);
+        }
+        latch.await(10, TimeUnit.SECONDS);
+        executorService.shutdown();
+        counter.drain().values().forEach(drainedTotal::addAndGet);
+
+        // Assert
+        assertThat(drainedTotal.get()).isEqualTo((long) threadCount * incrementsPerThread);
+    }
+}
@@ -0,0 +1,66 @@
+package kr.co.pinup.custom.counter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class WriteBehindCounterTest {
+
+    private static final String UPDATE_SQL = "UPDATE items SET hits = hits + ? WHERE id = ?";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private MeterRegistry meterRegistry;
+
+    private WriteBehindCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        counter = new WriteBehindCounter(jdbcTemplate, meterRegistry, "test.item", UPDATE_SQL, "테스트");
+    }
+
+    @DisplayName("생성할 때 받은 SQL 과 지표 이름으로 반영한다")
+    @Test
+    void flushUsesGivenSqlAndMetrics() {
+        // Arrange
+        counter.add(1L, 3L);
+
+        // Act
+        counter.flush();
+
+        // Assert
+        then(jdbcTemplate).should(times(1))
+                .batchUpdate(eq(UPDATE_SQL), anyList());
+        assertThat(meterRegistry.get("test.item.recorded").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("test.item.flush.size").summary().totalAmount()).isEqualTo(1.0);
+    }
+
+    @DisplayName("반영에 성공하면 대기 시간이 0 으로 돌아간다")
+    @Test
+    void flushResetsLag() {
+        // Arrange
+        counter.add(1L, 1L);
+
+        // Act
+        counter.flush();
+
+        // Assert
+        assertThat(meterRegistry.get("test.item.flush.lag").gauge().value()).isZero();
+        assertThat(counter.pending(1L)).isZero();
+    }
+}
@@ -0,0 +1,224 @@
+package kr.co.pinup.custom.s3;
+
+import kr.co.pinup.custom.logging.AppLogger;
+import kr.co.pinup.custom.s3.exception.ImageUploadException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Utilities;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+
+@ExtendWith(MockitoExtension.class)
+class S3ServiceTest {
+
+    private static final int PART_SIZE = S3Service.MIN_PART_SIZE;
+    private static final byte[] LARGE_IMAGE = new byte[PART_SIZE * 2 + 3];
+
+    private static final S3Utilities UTILITIES = S3Utilities.builder().region(Region.US_EAST_1).build();
+
+    @Mock
+    private S3Client s3Client;
+
+    @Mock
+    private AppLogger appLogger;
+
+    private ThreadPoolTaskExecutor uploadExecutor;
+
+    private S3Service s3Service;
+
+    @BeforeEach
+    void setUp() {
+        uploadExecutor = new ThreadPoolTaskExecutor();
+        uploadExecutor.setCorePoolSize(3);
+        uploadExecutor.initialize();
+
+        s3Service = new S3Service(s3Client, appLogger, uploadExecutor, 1024, S3Service.MIN_PART_SIZE, 2);
+        ReflectionTestUtils.setField(s3Service, "bucketName", "pinup");
+    }
+
+    @AfterEach
+    void tearDown() {
+        uploadExecutor.shutdown();
+    }
+
+    @DisplayName("여러 파일을 동시에 올려도 URL 은 받은 순서대로 반환한다")
+    @Test
+    void uploadFilesKeepsOrder() {
+        // Arrange
+        final CountDownLatch secondUploaded = new CountDownLatch(1);
+        given(s3Client.utilities()).willReturn(UTILITIES);
+        given(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class))).willAnswer(invocation -> {
+            final String key = invocation.getArgument(0, PutObjectRequest.class).key();
+            // 첫 번째 파일은 두 번째 파일이 올라간 뒤에 끝난다.
+            if (key.endsWith("_first.jpg")) {
+                secondUploaded.await(5, TimeUnit.SECONDS);
+            } else {
+                secondUploaded.countDown();
+            }
+            return null;
+        });
+
+        // Act
+        final List<String> urls = s3Service.uploadFiles(List.of(image("first.jpg"), image("second.jpg")), "post");
+
+        // Assert
+        assertThat(urls).hasSize(2);
+        assertThat(urls.get(0)).contains("/post/").endsWith("_first.jpg");
+        assertThat(urls.get(1)).contains("/post/").endsWith("_second.jpg");
+    }
+
+    @DisplayName("하나가 실패하면 남은 업로드를 취소하고 이미 올라간 파일을 지운다")
+    @Test
+    void uploadFilesCancelsAndCleansUpOnFailure() throws InterruptedException {
+        // Arrange
+        final CountDownLatch okUploaded = new CountDownLatch(1);
+        final CountDownLatch slowInterrupted = new CountDownLatch(1);
+        given(s3Client.utilities()).willReturn(UTILITIES);
+        given(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class))).willAnswer(invocation -> {
+            final String key = invocation.getArgument(0, PutObjectRequest.class).key();
+            if (key.endsWith("_ok.jpg")) {
+                okUploaded.countDown();
+                return null;
+            }
+            if (key.endsWith("_bad.jpg")) {
+                okUploaded.await(5, TimeUnit.SECONDS);
+                throw SdkClientException.create("업로드 실패");
+            }
+            try {
+                new CountDownLatch(1).await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                slowInterrupted.countDown();
+                throw e;
+            }
+            return null;
+        });
+        final List<MultipartFile> images = List.of(image("ok.jpg"), image("bad.jpg"), image("slow.jpg"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> s3Service.uploadFiles(images, "post"))
+                .isInstanceOf(ImageUploadException.class);
+        assertThat(slowInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        then(s3Client).should(timeout(5000)).deleteObject(
+                argThat((DeleteObjectRequest request) -> request.key().endsWith("_ok.jpg")));
+    }
+
+    @DisplayName("파일이 하나면 스레드 풀을 거치지 않고 바로 올린다")
+    @Test
+    void uploadFilesWithSingleFile() {
+        // Arrange
+        given(s3Client.utilities()).willReturn(UTILITIES);
+
+        // Act
+        final List<String> urls = s3Service.uploadFiles(List.of(image("only.jpg")), "store");
+
+        // Assert
+        assertThat(urls).hasSize(1);
+        assertThat(urls.get(0)).contains("/store/").endsWith("_only.jpg");
+    }
+
+    @DisplayName("기준 크기 이상인 파일은 파트 크기만큼씩 나눠 순서대로 올리고 멀티파트 업로드를 완료한다")
+    @Test
+    void uploadFileInParts() {
+        // Arrange
+        final S3Service multipartService =
+                new S3Service(s3Client, appLogger, uploadExecutor, PART_SIZE, PART_SIZE, 1);
+        ReflectionTestUtils.setField(multipartService, "bucketName", "pinup");
+        final List<String> uploadedParts = new ArrayList<>();
+        given(s3Client.utilities()).willReturn(UTILITIES);
+        given(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .willReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+        willAnswer(invocation -> {
+            final UploadPartRequest request = invocation.getArgument(0);
+            final RequestBody body = invocation.getArgument(1);
+            try (InputStream content = body.contentStreamProvider().newStream()) {
+                uploadedParts.add(request.partNumber() + ":" + content.readAllBytes().length);
+            }
+            return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+        }).given(s3Client).uploadPart(any(UploadPartRequest.class), any(RequestBody.class));
+
+        // Act
+        final String url = multipartService.uploadFile(
+                new ByteArrayInputStream(LARGE_IMAGE), LARGE_IMAGE.length, "image/jpeg", "large.jpg", "store");
+
+        // Assert
+        assertThat(url).contains("/store/").endsWith("_large.jpg");
+        assertThat(uploadedParts).containsExactly("1:" + PART_SIZE, "2:" + PART_SIZE, "3:3");
+        then(s3Client).should(never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+        then(s3Client).should().completeMultipartUpload(argThat((CompleteMultipartUploadRequest request) ->
+                request.uploadId().equals("upload-1")
+                        && request.multipartUpload().parts().stream().map(CompletedPart::eTag).toList()
+                        .equals(List.of("etag-1", "etag-2", "etag-3"))));
+    }
+
+    @DisplayName("파트 업로드가 실패하면 멀티파트 업로드를 취소한다")
+    @Test
+    void uploadFileInPartsAbortsOnFailure() {
+        // Arrange
+        final S3Service multipartService =
+                new S3Service(s3Client, appLogger, uploadExecutor, PART_SIZE, PART_SIZE, 1);
+        ReflectionTestUtils.setField(multipartService, "bucketName", "pinup");
+        given(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .willReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+        given(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .willReturn(UploadPartResponse.builder().eTag("etag-1").build())
+                .willThrow(SdkClientException.create("파트 업로드 실패"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> multipartService.uploadFile(
+                new ByteArrayInputStream(LARGE_IMAGE), LARGE_IMAGE.length, "image/jpeg", "large.jpg", "store"))
+                .isInstanceOf(ImageUploadException.class);
+        then(s3Client).should().abortMultipartUpload(
+                argThat((AbortMultipartUploadRequest request) -> request.uploadId().equals("upload-1")));
+        then(s3Client).should(never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    @DisplayName("파트 크기가 S3 최소 크기인 5MiB 보다 작으면 시작할 때 거부한다")
+    @Test
+    void rejectsPartSizeBelowS3Minimum() {
+        // Act & Assert
+        assertThatThrownBy(() -> new S3Service(s3Client, appLogger, uploadExecutor, PART_SIZE, PART_SIZE - 1, 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("part-size-bytes");
+    }
+
+    private MultipartFile image(final String name) {
+        return new MockMultipartFile("images", name, "image/jpeg", name.getBytes());
+    }
+}
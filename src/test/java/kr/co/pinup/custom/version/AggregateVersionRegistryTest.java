@@ -0,0 +1,78 @@
+package kr.co.pinup.custom.version;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static kr.co.pinup.custom.version.AggregateType.POST;
+import static kr.co.pinup.custom.version.AggregateType.STORE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AggregateVersionRegistryTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+    @DisplayName("발급한 ETag 는 버전이 바뀌기 전까지 기억한다")
+    @Test
+    void rememberETag() {
+        // Arrange
+        final AggregateVersionRegistry registry = new AggregateVersionRegistry();
+        final long version = registry.version(STORE, 1L);
+
+        // Act
+        final String eTag = registry.eTag(STORE, 1L, version, UPDATED_AT);
+
+        // Assert
+        assertThat(eTag).startsWith("\"store-1-").endsWith("\"");
+        assertThat(registry.eTag(STORE, 1L)).isEqualTo(eTag);
+        assertThat(registry.eTag(POST, 1L)).isNull();
+    }
+
+    @DisplayName("버전을 올리면 기억한 ETag 를 버리고 다음 ETag 는 달라진다")
+    @Test
+    void bumpClearsETag() {
+        // Arrange
+        final AggregateVersionRegistry registry = new AggregateVersionRegistry();
+        final String before = registry.eTag(STORE, 1L, registry.version(STORE, 1L), UPDATED_AT);
+
+        // Act
+        registry.bump(STORE, 1L);
+
+        // Assert
+        assertThat(registry.version(STORE, 1L)).isEqualTo(1L);
+        assertThat(registry.eTag(STORE, 1L)).isNull();
+        assertThat(registry.eTag(STORE, 1L, registry.version(STORE, 1L), UPDATED_AT)).isNotEqualTo(before);
+    }
+
+    @DisplayName("조회하는 사이 버전이 바뀌면 옛 버전의 ETag 는 기억하지 않는다")
+    @Test
+    void skipStaleETag() {
+        // Arrange
+        final AggregateVersionRegistry registry = new AggregateVersionRegistry();
+        final long version = registry.version(POST, 1L);
+        registry.bump(POST, 1L);
+
+        // Act
+        registry.eTag(POST, 1L, version, UPDATED_AT);
+
+        // Assert
+        assertThat(registry.eTag(POST, 1L)).isNull();
+    }
+
+    @DisplayName("하나라도 버전이 바뀌면 목록 ETag 가 달라진다")
+    @Test
+    void collectionETag() {
+        // Arrange
+        final AggregateVersionRegistry registry = new AggregateVersionRegistry();
+        final String before = registry.collectionETag(STORE);
+
+        // Act
+        registry.bumpNow(STORE, List.of(1L, 2L));
+
+        // Assert
+        assertThat(registry.collectionETag(STORE)).isNotEqualTo(before);
+        assertThat(registry.version(STORE, 2L)).isEqualTo(1L);
+    }
+}
@@ -3,6 +3,7 @@ package kr.co.pinup.locations.service;
 import kr.co.pinup.api.kakao.KakaoApiService;
 import kr.co.pinup.api.kakao.model.dto.KakaoAddressDocument;
 import kr.co.pinup.locations.Location;
+import kr.co.pinup.locations.event.LocationChangedEvent;
 import kr.co.pinup.locations.exception.LocationNotFoundException;
 import kr.co.pinup.locations.model.dto.CreateLocationRequest;
 import kr.co.pinup.locations.model.dto.LocationResponse;
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.util.Optional;
@@ -34,6 +36,9 @@ public class LocationServiceTest {
     @Mock
     private LocationRepository locationRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private LocationService locationService;
 
@@ -125,6 +130,8 @@ public class LocationServiceTest {
 
         then(mockLocation).should(times(1))
                 .update(request, addressDocument);
+        then(eventPublisher).should(times(1))
+                .publishEvent(new LocationChangedEvent(locationId));
     }
 
     @DisplayName("존재하지 않는 ID로 위치 수정시 예외가 발생한다.")
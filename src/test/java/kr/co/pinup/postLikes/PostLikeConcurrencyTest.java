@@ -28,17 +28,18 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.Primary;
 import org.springframework.http.MediaType;
-import org.springframework.retry.annotation.EnableRetry;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 import java.util.Random;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -50,7 +51,6 @@ import static org.springframework.security.test.web.servlet.request.SecurityMock
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
-@EnableRetry
 @SpringBootTest
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
@@ -171,6 +171,62 @@ class PostLikeConcurrencyTest {
     }
 
 
+    @Test
+    @DisplayName("여러 유저가 동시에 좋아요를 누르고 다시 동시에 취소해도 재시도 없이 좋아요 수가 정확히 맞는다")
+    void toggleLike_concurrentLikeThenUnlike_thenExactCounts() throws Exception {
+        int threadCount = 64;
+        List<MemberInfo> members = IntStream.range(0, threadCount)
+                .mapToObj(i -> memberRepository.save(Member.builder()
+                        .email("exact" + i + "_" + System.nanoTime() + "@test.com")
+                        .name("exact" + i)
+                        .nickname("exact" + i + "_" + System.nanoTime())
+                        .providerType(OAuthProvider.NAVER)
+                        .providerId("naver-exact-" + i + "_" + System.nanoTime())
+                        .role(MemberRole.ROLE_USER)
+                        .build()))
+                .map(member -> new MemberInfo(member.getNickname(), member.getProviderType(), member.getRole()))
+                .toList();
+
+        // 좋아요
+        int likeFailures = toggleAllAtOnce(members);
+
+        assertThat(likeFailures).isZero();
+        assertThat(postRepository.findById(post.getId()).orElseThrow().getLikeCount()).isEqualTo(threadCount);
+        assertThat(postLikeRepository.count()).isEqualTo(threadCount);
+
+        // 취소
+        int unlikeFailures = toggleAllAtOnce(members);
+
+        assertThat(unlikeFailures).isZero();
+        assertThat(postRepository.findById(post.getId()).orElseThrow().getLikeCount()).isZero();
+        assertThat(postLikeRepository.count()).isZero();
+    }
+
+    private int toggleAllAtOnce(List<MemberInfo> members) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(members.size());
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(members.size());
+        AtomicInteger failures = new AtomicInteger();
+
+        for (MemberInfo memberInfo : members) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    postLikeService.toggleLike(post.getId(), memberInfo);
+                } catch (Exception e) {
+                    failures.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        start.countDown();
+        done.await();
+        executor.shutdown();
+        return failures.get();
+    }
+
     @Test
     @DisplayName("여러 유저가 동시에 좋아요 요청을 보내면 중복 없이 처리된다")
     void toggleLike_concurrently_thenAccurateLikeCount() throws Exception {
@@ -0,0 +1,129 @@
+package kr.co.pinup.postLikes.cache;
+
+import kr.co.pinup.postLikes.repository.PostLikeRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class LikedPostCacheTest {
+
+    @Mock
+    private PostLikeRepository postLikeRepository;
+
+    @DisplayName("회원의 좋아요 목록을 한 번만 읽어 비트맵으로 판단한다")
+    @Test
+    void isLiked() {
+        // Arrange
+        final LikedPostCache cache = new LikedPostCache(postLikeRepository, 10);
+        given(postLikeRepository.findPostIdsByMemberId(1L)).willReturn(List.of(3L, 5_000_000_000L));
+
+        // Act & Assert
+        assertThat(cache.isLiked(1L, 3L)).isTrue();
+        assertThat(cache.isLiked(1L, 5_000_000_000L)).isTrue();
+        assertThat(cache.isLiked(1L, 4L)).isFalse();
+        assertThat(cache.isLiked(null, 3L)).isFalse();
+
+        then(postLikeRepository).should(times(1)).findPostIdsByMemberId(1L);
+    }
+
+    @DisplayName("좋아요 등록/취소는 커밋된 뒤 보관 중인 비트맵에 반영한다")
+    @Test
+    void updateAfterCommit() {
+        // Arrange
+        final LikedPostCache cache = new LikedPostCache(postLikeRepository, 10);
+        given(postLikeRepository.findPostIdsByMemberId(1L)).willReturn(List.of(3L));
+        cache.isLiked(1L, 3L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            cache.update(1L, 3L, false);
+            cache.update(1L, 4L, true);
+
+            // Assert
+            assertThat(cache.isLiked(1L, 3L)).isTrue();
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+            assertThat(cache.isLiked(1L, 3L)).isFalse();
+            assertThat(cache.isLiked(1L, 4L)).isTrue();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @DisplayName("읽어 오는 사이 좋아요가 바뀌면 그 결과는 보관하지 않는다")
+    @Test
+    void skipStaleLoad() {
+        // Arrange
+        final LikedPostCache cache = new LikedPostCache(postLikeRepository, 10);
+        given(postLikeRepository.findPostIdsByMemberId(1L))
+                .willAnswer(invocation -> {
+                    cache.update(1L, 4L, true);
+                    return List.of(3L);
+                })
+                .willReturn(List.of(3L, 4L));
+
+        // Act
+        cache.isLiked(1L, 3L);
+
+        // Assert
+        assertThat(cache.size()).isZero();
+        assertThat(cache.isLiked(1L, 4L)).isTrue();
+    }
+
+    @DisplayName("읽어 오는 사이 다른 회원의 좋아요가 바뀌어도 읽은 결과를 보관한다")
+    @Test
+    void keepLoadWhenOtherMemberUpdates() {
+        // Arrange
+        final LikedPostCache cache = new LikedPostCache(postLikeRepository, 10);
+        given(postLikeRepository.findPostIdsByMemberId(1L))
+                .willAnswer(invocation -> {
+                    cache.update(2L, 4L, true);
+                    return List.of(3L);
+                });
+
+        // Act
+        cache.isLiked(1L, 3L);
+
+        // Assert
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.isLiked(1L, 3L)).isTrue();
+        then(postLikeRepository).should(times(1)).findPostIdsByMemberId(1L);
+    }
+
+    @DisplayName("보관하는 회원 수가 상한을 넘으면 가장 오래 쓰이지 않은 회원부터 버린다")
+    @Test
+    void evictLeastRecentlyUsed() {
+        // Arrange
+        final LikedPostCache cache = new LikedPostCache(postLikeRepository, 2);
+        given(postLikeRepository.findPostIdsByMemberId(1L)).willReturn(List.of(1L));
+        given(postLikeRepository.findPostIdsByMemberId(2L)).willReturn(List.of(2L));
+        given(postLikeRepository.findPostIdsByMemberId(3L)).willReturn(List.of(3L));
+        cache.isLiked(1L, 1L);
+        cache.isLiked(2L, 2L);
+        cache.isLiked(1L, 1L);
+
+        // Act
+        cache.isLiked(3L, 3L);
+
+        // Assert
+        assertThat(cache.size()).isEqualTo(2);
+        cache.isLiked(1L, 1L);
+        cache.isLiked(2L, 2L);
+        then(postLikeRepository).should(times(1)).findPostIdsByMemberId(1L);
+        then(postLikeRepository).should(times(2)).findPostIdsByMemberId(2L);
+    }
+}
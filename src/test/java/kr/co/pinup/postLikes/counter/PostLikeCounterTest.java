@@ -0,0 +1,117 @@
+package kr.co.pinup.postLikes.counter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class PostLikeCounterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private MeterRegistry meterRegistry;
+
+    private PostLikeCounter postLikeCounter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        postLikeCounter = new PostLikeCounter(jdbcTemplate, meterRegistry, true);
+    }
+
+    @DisplayName("누적된 좋아요 증감을 게시글별로 묶어 한 번의 배치 UPDATE 로 반영한다")
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush() {
+        // Arrange
+        postLikeCounter.add(1L, 1);
+        postLikeCounter.add(1L, 1);
+        postLikeCounter.add(2L, -1);
+
+        // Act
+        postLikeCounter.flush();
+
+        // Assert
+        final ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        then(jdbcTemplate).should(times(1))
+                .batchUpdate(anyString(), captor.capture());
+        assertThat(captor.getValue())
+                .extracting(args -> args[1], args -> args[0])
+                .containsExactlyInAnyOrder(
+                        tuple(1L, 2L),
+                        tuple(2L, -1L));
+        assertThat(postLikeCounter.pending(1L)).isZero();
+        assertThat(meterRegistry.get("pinup.post.like.flush.lag").gauge().value()).isZero();
+    }
+
+    @DisplayName("트랜잭션 안에서 기록한 증감은 커밋된 뒤에 쌓인다")
+    @Test
+    void addAfterCommit() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            postLikeCounter.add(1L, 1);
+
+            // Assert
+            assertThat(postLikeCounter.pending(1L)).isZero();
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+            assertThat(postLikeCounter.pending(1L)).isEqualTo(1L);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @DisplayName("반영에 실패하면 증감을 되돌려 다음 주기에 다시 반영한다")
+    @Test
+    void flushFailureKeepsDeltas() {
+        // Arrange
+        postLikeCounter.add(1L, 1);
+        given(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .willThrow(new DataAccessResourceFailureException("db down"));
+
+        // Act
+        postLikeCounter.flush();
+
+        // Assert
+        assertThat(postLikeCounter.pending(1L)).isEqualTo(1L);
+        assertThat(meterRegistry.get("pinup.post.like.flush.failures").counter().count()).isEqualTo(1.0);
+    }
+
+    @DisplayName("종료 시 남은 증감을 반영한다")
+    @Test
+    void flushOnShutdown() {
+        // Arrange
+        postLikeCounter.add(1L, -1);
+
+        // Act
+        postLikeCounter.flushOnShutdown();
+
+        // Assert
+        then(jdbcTemplate).should(times(1))
+                .batchUpdate(anyString(), anyList());
+    }
+}
@@ -1,33 +1,34 @@
 package kr.co.pinup.postLikes.service;
 
-import jakarta.persistence.EntityManager;
 import kr.co.pinup.custom.logging.AppLogger;
+import kr.co.pinup.custom.version.AggregateVersionRegistry;
 import kr.co.pinup.members.Member;
 import kr.co.pinup.members.model.dto.MemberInfo;
 import kr.co.pinup.members.model.enums.MemberRole;
 import kr.co.pinup.members.repository.MemberRepository;
 import kr.co.pinup.oauth.OAuthProvider;
-import kr.co.pinup.postLikes.PostLike;
-import kr.co.pinup.postLikes.PostLikeRetryExecutor;
+import kr.co.pinup.postLikes.cache.LikedPostCache;
+import kr.co.pinup.postLikes.counter.PostLikeCounter;
 import kr.co.pinup.postLikes.repository.PostLikeRepository;
-import kr.co.pinup.posts.Post;
+import kr.co.pinup.postLikes.repository.PostLikeWriter;
+import kr.co.pinup.posts.event.PostEngagedEvent;
 import kr.co.pinup.posts.exception.post.PostNotFoundException;
 import kr.co.pinup.posts.repository.PostRepository;
-import kr.co.pinup.posts.service.PostService;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
-import java.util.concurrent.Callable;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -46,23 +47,22 @@ class PostLikeServiceUnitTest {
     private MemberRepository memberRepository;
 
     @Mock
-    private PostLikeRetryExecutor postLikeRetryExecutor;
+    private PostLikeWriter postLikeWriter;
+
+    @Mock
+    private PostLikeCounter postLikeCounter;
+
+    @Mock
+    private LikedPostCache likedPostCache;
 
     @Mock
     private AppLogger appLogger;
 
     @Mock
-    private PostService postService;
+    private AggregateVersionRegistry versionRegistry;
+
     @Mock
-    private EntityManager entityManager;
-
-    @BeforeEach
-    void setupRetryMock() {
-        lenient().doAnswer(invocation -> {
-            Callable<?> action = invocation.getArgument(0);
-            return action.call();  // call() 호출하고 return
-        }).when(postLikeRetryExecutor).likeWithRetry(any(Callable.class));
-    }
+    private ApplicationEventPublisher eventPublisher;
 
     private Member createMockMember() {
         Member member = new Member("행복한 돼지", "test@example.com", "happyPig", "",
@@ -71,57 +71,95 @@ class PostLikeServiceUnitTest {
         return member;
     }
 
-    private Post createMockPost(Long postId) {
-        Post post = mock(Post.class, withSettings().lenient());
-        when(post.getId()).thenReturn(postId);
-        return post;
-    }
-
     @Test
     @DisplayName("좋아요 - 처음 누를 때는 좋아요 추가")
     void toggleLike_whenNotLiked_thenAddLike() {
         Long postId = 1L;
         Member member = createMockMember();
-        Post post = createMockPost(postId);
         MemberInfo memberInfo = new MemberInfo(member.getNickname(), member.getProviderType(), member.getRole());
 
         when(memberRepository.findByNickname(member.getNickname())).thenReturn(Optional.of(member));
-        when(postLikeRepository.existsByPostIdAndMemberId(postId, member.getId())).thenReturn(false);
-        when(postRepository.findByIdWithOptimisticLock(postId)).thenReturn(Optional.of(post));
+        when(postRepository.findStoreIdById(postId)).thenReturn(Optional.of(7L));
+        when(postLikeRepository.deleteByPostIdAndMemberId(postId, member.getId())).thenReturn(0);
+        when(postLikeWriter.insertIfAbsent(eq(postId), eq(member.getId()), any(LocalDateTime.class))).thenReturn(1);
+        when(postRepository.findLikeCountById(postId)).thenReturn(Optional.of(1));
 
         var response = postLikeService.toggleLike(postId, memberInfo);
 
-        assertNotNull(response);
+        assertEquals(1, response.likeCount());
         assertTrue(response.likedByCurrentUser());
 
-        verify(postLikeRepository).save(any(PostLike.class));
-        verify(post).increaseLikeCount();
+        verify(postRepository).increaseLikeCount(postId);
+        verify(postRepository, never()).decreaseLikeCount(any());
+        verify(likedPostCache).update(member.getId(), postId, true);
+        verify(eventPublisher).publishEvent(PostEngagedEvent.liked(postId, 7L, 1));
     }
 
+    @Test
+    @DisplayName("좋아요 - 겹친 요청으로 이미 좋아요가 들어가 있으면 수를 다시 올리지 않는다")
+    void toggleLike_whenConcurrentlyLiked_thenKeepCount() {
+        Long postId = 1L;
+        Member member = createMockMember();
+        MemberInfo memberInfo = new MemberInfo(member.getNickname(), member.getProviderType(), member.getRole());
+
+        when(memberRepository.findByNickname(member.getNickname())).thenReturn(Optional.of(member));
+        when(postRepository.findStoreIdById(postId)).thenReturn(Optional.of(7L));
+        when(postLikeRepository.deleteByPostIdAndMemberId(postId, member.getId())).thenReturn(0);
+        when(postLikeWriter.insertIfAbsent(eq(postId), eq(member.getId()), any(LocalDateTime.class))).thenReturn(0);
+        when(postRepository.findLikeCountById(postId)).thenReturn(Optional.of(1));
+
+        var response = postLikeService.toggleLike(postId, memberInfo);
+
+        assertTrue(response.likedByCurrentUser());
+        verify(postRepository, never()).increaseLikeCount(any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
 
     @Test
     @DisplayName("좋아요 - 이미 좋아요한 상태에서 누르면 좋아요 취소")
     void toggleLike_whenAlreadyLiked_thenRemoveLike() {
         Long postId = 1L;
         Member member = createMockMember();
-        Post post = createMockPost(postId);
         MemberInfo memberInfo = new MemberInfo(member.getNickname(), member.getProviderType(), member.getRole());
 
         when(memberRepository.findByNickname(member.getNickname())).thenReturn(Optional.of(member));
-        when(postLikeRepository.existsByPostIdAndMemberId(postId, member.getId())).thenReturn(true);
-        when(postRepository.findByIdWithOptimisticLock(postId)).thenReturn(Optional.of(post));
-
-        doNothing().when(postLikeRepository).deleteByPostIdAndMemberId(postId, member.getId());
+        when(postRepository.findStoreIdById(postId)).thenReturn(Optional.of(7L));
+        when(postLikeRepository.deleteByPostIdAndMemberId(postId, member.getId())).thenReturn(1);
+        when(postRepository.findLikeCountById(postId)).thenReturn(Optional.of(0));
 
         var response = postLikeService.toggleLike(postId, memberInfo);
 
-        assertNotNull(response);
+        assertEquals(0, response.likeCount());
         assertFalse(response.likedByCurrentUser());
 
-        verify(postLikeRepository).deleteByPostIdAndMemberId(postId, member.getId());
-        verify(post).decreaseLikeCount();
+        verify(postRepository).decreaseLikeCount(postId);
+        verify(postLikeWriter, never()).insertIfAbsent(any(), any(), any());
+        verify(eventPublisher).publishEvent(PostEngagedEvent.liked(postId, 7L, -1));
     }
 
+    @Test
+    @DisplayName("좋아요 - write-behind 모드에서는 수를 모아 두고 대기 중인 증감을 더해 응답한다")
+    void toggleLike_whenWriteBehind_thenDeferCount() {
+        Long postId = 1L;
+        Member member = createMockMember();
+        MemberInfo memberInfo = new MemberInfo(member.getNickname(), member.getProviderType(), member.getRole());
+
+        when(memberRepository.findByNickname(member.getNickname())).thenReturn(Optional.of(member));
+        when(postRepository.findStoreIdById(postId)).thenReturn(Optional.of(7L));
+        when(postLikeRepository.deleteByPostIdAndMemberId(postId, member.getId())).thenReturn(0);
+        when(postLikeWriter.insertIfAbsent(eq(postId), eq(member.getId()), any(LocalDateTime.class))).thenReturn(1);
+        when(postLikeCounter.isWriteBehind()).thenReturn(true);
+        when(postLikeCounter.pending(postId)).thenReturn(2L);
+        when(postRepository.findLikeCountById(postId)).thenReturn(Optional.of(5));
+
+        var response = postLikeService.toggleLike(postId, memberInfo);
+
+        assertEquals(8, response.likeCount());
+        assertTrue(response.likedByCurrentUser());
+
+        verify(postLikeCounter).add(postId, 1);
+        verify(postRepository, never()).increaseLikeCount(any());
+    }
 
     @Test
     @DisplayName("좋아요 실패 - 존재하지 않는 게시글")
@@ -131,13 +169,13 @@ class PostLikeServiceUnitTest {
         MemberInfo memberInfo = new MemberInfo(member.getNickname(), member.getProviderType(), member.getRole());
 
         when(memberRepository.findByNickname(member.getNickname())).thenReturn(Optional.of(member));
-        when(postRepository.findByIdWithOptimisticLock(postId)).thenReturn(Optional.empty());
+        when(postRepository.findStoreIdById(postId)).thenReturn(Optional.empty());
 
         assertThrows(PostNotFoundException.class, () ->
                 postLikeService.toggleLike(postId, memberInfo));
 
-        verify(postRepository).findByIdWithOptimisticLock(postId);
-        verify(postLikeRepository, never()).save(any());
+        verify(postLikeRepository, never()).deleteByPostIdAndMemberId(any(), any());
+        verify(postLikeWriter, never()).insertIfAbsent(any(), any(), any());
     }
 
 
@@ -156,7 +194,7 @@ class PostLikeServiceUnitTest {
                 postLikeService.toggleLike(postId, memberInfo));
 
         verify(memberRepository).findByNickname(member.getNickname());
-        verify(postRepository, never()).findById(any());
-        verify(postLikeRepository, never()).save(any());
+        verify(postRepository, never()).findStoreIdById(any());
+        verify(postLikeWriter, never()).insertIfAbsent(any(), any(), any());
     }
-}
\ No newline at end of file
+}
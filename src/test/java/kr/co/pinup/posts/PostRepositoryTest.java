@@ -6,6 +6,8 @@ import kr.co.pinup.members.Member;
 import kr.co.pinup.members.model.enums.MemberRole;
 import kr.co.pinup.members.repository.MemberRepository;
 import kr.co.pinup.oauth.OAuthProvider;
+import kr.co.pinup.posts.model.dto.PostCursor;
+import kr.co.pinup.posts.model.dto.PostResponse;
 import kr.co.pinup.posts.repository.PostRepository;
 import kr.co.pinup.storecategories.StoreCategory;
 import kr.co.pinup.storecategories.repository.StoreCategoryRepository;
@@ -17,8 +19,12 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
@@ -31,6 +37,7 @@ class PostRepositoryTest {
     @Autowired private MemberRepository memberRepository;
     @Autowired private StoreCategoryRepository storeCategoryRepository;
     @Autowired private LocationRepository locationRepository;
+    @Autowired private TestEntityManager entityManager;
 
     Store store;
     Member member;
@@ -118,4 +125,95 @@ class PostRepositoryTest {
         assertThat(found).isPresent();
         assertThat(found.get().getTitle()).isEqualTo("테스트 제목");
     }
+
+    @Test
+    @DisplayName("작성일과 아이디 역순의 키셋 페이지로 삭제되지 않은 게시글을 조회한다")
+    void findPostListPage_works() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2025, 7, 1, 12, 0);
+        Post oldest = save("오래된 글", now.minusDays(1), false);
+        Post sameTime1 = save("같은 시각 1", now, false);
+        Post sameTime2 = save("같은 시각 2", now, false);
+        save("삭제된 글", now.plusHours(1), true);
+        Post newest = save("최신 글", now.plusHours(2), false);
+
+        // when
+        List<PostResponse> firstPage = findPage(PostCursor.FIRST, 2);
+        List<PostResponse> secondPage = findPage(PostCursor.from(firstPage.get(1)), 2);
+
+        // then
+        assertThat(firstPage).extracting(PostResponse::id).containsExactly(newest.getId(), sameTime2.getId());
+        assertThat(secondPage).extracting(PostResponse::id).containsExactly(sameTime1.getId(), oldest.getId());
+    }
+
+    @Test
+    @DisplayName("스토어와 무관하게 작성일과 아이디 역순의 키셋 페이지로 피드를 조회한다")
+    void findFeedPage_works() {
+        // given
+        Store otherStore = storeRepository.save(Store.builder()
+                .name("다른 스토어")
+                .description("설명")
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusDays(1))
+                .storeStatus(StoreStatus.RESOLVED)
+                .category(store.getCategory())
+                .location(store.getLocation())
+                .build());
+
+        LocalDateTime now = LocalDateTime.of(2025, 7, 1, 12, 0);
+        Post oldest = save("오래된 글", now.minusDays(1), false);
+        Post otherStorePost = save(otherStore, "다른 스토어 글", now, false);
+        save("삭제된 글", now.plusHours(1), true);
+        Post newest = save("최신 글", now.plusHours(2), false);
+
+        // when
+        List<PostResponse> firstPage = postRepository.findFeedPage(
+                PostCursor.FIRST.createdAt(), PostCursor.FIRST.id(), PageRequest.ofSize(2));
+        PostCursor next = PostCursor.from(firstPage.get(1));
+        List<PostResponse> secondPage = postRepository.findFeedPage(next.createdAt(), next.id(), PageRequest.ofSize(2));
+
+        // then
+        assertThat(firstPage).extracting(PostResponse::id).containsExactly(newest.getId(), otherStorePost.getId());
+        assertThat(secondPage).extracting(PostResponse::id).containsExactly(oldest.getId());
+    }
+
+    @Test
+    @DisplayName("댓글 수를 DB 에서 바로 늘리고 줄이며 0 아래로는 내려가지 않는다")
+    void increaseAndDecreaseCommentCount() {
+        // given
+        Post post = save("댓글 글", LocalDateTime.now(), false);
+
+        // when
+        postRepository.increaseCommentCount(post.getId());
+        postRepository.increaseCommentCount(post.getId());
+        postRepository.decreaseCommentCount(post.getId());
+        postRepository.decreaseCommentCount(post.getId());
+        int decreasedBelowZero = postRepository.decreaseCommentCount(post.getId());
+        postRepository.increaseCommentCount(post.getId());
+        entityManager.clear();
+
+        // then
+        assertThat(decreasedBelowZero).isZero();
+        assertThat(postRepository.findById(post.getId()).orElseThrow().getCommentCount()).isEqualTo(1);
+    }
+
+    private Post save(String title, LocalDateTime createdAt, boolean isDeleted) {
+        return save(store, title, createdAt, isDeleted);
+    }
+
+    private Post save(Store store, String title, LocalDateTime createdAt, boolean isDeleted) {
+        Post post = Post.builder()
+                .store(store)
+                .member(member)
+                .title(title)
+                .content("내용")
+                .isDeleted(isDeleted)
+                .build();
+        ReflectionTestUtils.setField(post, "createdAt", createdAt);
+        return postRepository.save(post);
+    }
+
+    private List<PostResponse> findPage(PostCursor cursor, int size) {
+        return postRepository.findPostListPage(store.getId(), cursor.createdAt(), cursor.id(), PageRequest.ofSize(size));
+    }
 }
\ No newline at end of file
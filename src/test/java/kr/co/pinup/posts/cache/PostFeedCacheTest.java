@@ -0,0 +1,129 @@
+package kr.co.pinup.posts.cache;
+
+import kr.co.pinup.custom.pagination.CursorPageResponse;
+import kr.co.pinup.posts.model.dto.PostResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostFeedCacheTest {
+
+    @DisplayName("첫 페이지와 그 다음 커서로 이어지는 페이지는 ttl 동안 다시 읽지 않는다")
+    @Test
+    void get() {
+        // Arrange
+        final PostFeedCache cache = new PostFeedCache(60_000, 2);
+        final AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        final CursorPageResponse<PostResponse> first = cache.get(null, 1, counting(loads, page(3L, "c1")));
+        cache.get(null, 1, counting(loads, page(3L, "c1")));
+        cache.get("c1", 1, counting(loads, page(2L, "c2")));
+        cache.get("c1", 1, counting(loads, page(2L, "c2")));
+
+        // Assert
+        assertThat(first.items()).extracting(PostResponse::id).containsExactly(3L);
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @DisplayName("max-pages 를 넘는 뒤쪽 페이지와 알 수 없는 커서는 보관하지 않는다")
+    @Test
+    void getBypassesDeepPages() {
+        // Arrange
+        final PostFeedCache cache = new PostFeedCache(60_000, 2);
+        final AtomicInteger loads = new AtomicInteger();
+        cache.get(null, 1, counting(loads, page(3L, "c1")));
+        cache.get("c1", 1, counting(loads, page(2L, "c2")));
+
+        // Act
+        cache.get("c2", 1, counting(loads, page(1L, null)));
+        cache.get("c2", 1, counting(loads, page(1L, null)));
+        cache.get("unknown", 1, counting(loads, page(1L, null)));
+
+        // Assert
+        assertThat(loads.get()).isEqualTo(5);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @DisplayName("ttl 이 지나면 다시 읽는다")
+    @Test
+    void getAfterTtl() throws InterruptedException {
+        // Arrange
+        final PostFeedCache cache = new PostFeedCache(1, 3);
+        final AtomicInteger loads = new AtomicInteger();
+        cache.get(null, 1, counting(loads, page(3L, null)));
+        Thread.sleep(5);
+
+        // Act
+        cache.get(null, 1, counting(loads, page(4L, null)));
+
+        // Assert
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @DisplayName("게시글이 바뀌면 커밋된 뒤에 캐시를 비운다")
+    @Test
+    void invalidateAfterCommit() {
+        // Arrange
+        final PostFeedCache cache = new PostFeedCache(60_000, 3);
+        final AtomicInteger loads = new AtomicInteger();
+        cache.get(null, 1, counting(loads, page(3L, null)));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            cache.invalidate();
+
+            // Assert
+            assertThat(cache.size()).isEqualTo(1);
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+            assertThat(cache.size()).isZero();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        final CursorPageResponse<PostResponse> reloaded = cache.get(null, 1, counting(loads, page(4L, null)));
+        assertThat(reloaded.items()).extracting(PostResponse::id).containsExactly(4L);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @DisplayName("읽는 사이 무효화되면 읽은 페이지를 보관하지 않는다")
+    @Test
+    void getDoesNotKeepPageLoadedBeforeInvalidation() {
+        // Arrange
+        final PostFeedCache cache = new PostFeedCache(60_000, 3);
+
+        // Act
+        cache.get(null, 1, () -> {
+            cache.invalidate();
+            return page(3L, null).get();
+        });
+
+        // Assert
+        assertThat(cache.size()).isZero();
+    }
+
+    private Supplier<CursorPageResponse<PostResponse>> counting(
+            final AtomicInteger loads, final Supplier<CursorPageResponse<PostResponse>> loader) {
+        return () -> {
+            loads.incrementAndGet();
+            return loader.get();
+        };
+    }
+
+    private Supplier<CursorPageResponse<PostResponse>> page(final Long id, final String nextCursor) {
+        final PostResponse post = new PostResponse(id, "닉네임", "제목" + id, "thumb.jpg", LocalDateTime.now(), 0L, 0, false);
+        return () -> new CursorPageResponse<>(List.of(post), nextCursor, nextCursor != null);
+    }
+}
@@ -1,9 +1,10 @@
 package kr.co.pinup.posts.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import kr.co.pinup.comments.model.dto.CommentResponse;
+import kr.co.pinup.comments.model.dto.CommentItemResponse;
 import kr.co.pinup.comments.service.CommentService;
 import kr.co.pinup.config.LoggerConfig;
+import kr.co.pinup.custom.version.AggregateVersionRegistry;
 import kr.co.pinup.locations.Location;
 import kr.co.pinup.members.Member;
 import kr.co.pinup.members.custom.WithMockMember;
@@ -13,6 +14,7 @@ import kr.co.pinup.oauth.OAuthProvider;
 import kr.co.pinup.postImages.model.dto.PostImageResponse;
 import kr.co.pinup.postImages.service.PostImageService;
 import kr.co.pinup.posts.model.dto.CreatePostRequest;
+import kr.co.pinup.posts.model.dto.PostDetailResponse;
 import kr.co.pinup.posts.model.dto.PostResponse;
 import kr.co.pinup.posts.model.dto.UpdatePostRequest;
 import kr.co.pinup.posts.service.PostService;
@@ -29,6 +31,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.restdocs.payload.JsonFieldType;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.web.SecurityFilterChain;
@@ -65,6 +68,7 @@ class PostApiControllerDocsTest {
         @Bean public PostService postService() { return mock(PostService.class); }
         @Bean public CommentService commentService() { return mock(CommentService.class); }
         @Bean public PostImageService postImageService() { return mock(PostImageService.class); }
+        @Bean public AggregateVersionRegistry aggregateVersionRegistry() { return new AggregateVersionRegistry(); }
     }
 
     @TestConfiguration
@@ -139,22 +143,8 @@ class PostApiControllerDocsTest {
 
         PostResponse postResponse =  new PostResponse(1L,"writer","제목1", "thumb1.jpg", now, 1L,1,false);
 
-        Member commentWriter = Member.builder()
-                .nickname("댓글유저")
-                .email("comment@example.com")
-                .providerType(OAuthProvider.NAVER)
-                .role(MemberRole.ROLE_USER)
-                .isDeleted(false)
-                .build();
-
-        List<CommentResponse> comments = List.of(
-                CommentResponse.builder()
-                        .id(100L)
-                        .postId(postId)
-                        .content("댓글 내용")
-                        .member(commentWriter)
-                        .createdAt(now)
-                        .build()
+        List<CommentItemResponse> comments = List.of(
+                new CommentItemResponse(100L, postId, "댓글유저", "댓글 내용", now)
         );
 
         List<PostImageResponse> postImages = List.of(
@@ -162,9 +152,8 @@ class PostApiControllerDocsTest {
                 new PostImageResponse(202L, postId, "https://s3.bucket/image2.jpg")
         );
 
-        given(postService.getPostById(eq(postId), eq(false))).willReturn(postResponse);
-        given(commentService.findByPostId(eq(postId))).willReturn(comments);
-        given(postImageService.findImagesByPostId(eq(postId))).willReturn(postImages);
+        given(postService.getPostDetail(eq(postId), any()))
+                .willReturn(PostDetailResponse.from(postResponse, comments, postImages));
 
         // then
         mockMvc.perform(get("/api/post/{postId}", postId))
@@ -190,13 +179,17 @@ class PostApiControllerDocsTest {
                                 fieldWithPath("post.createdAt").description("게시글 생성일"),
                                 fieldWithPath("post.updatedAt").description("게시글 수정일"),
                                 fieldWithPath("post.commentCount").description("댓글 수"),
+                                fieldWithPath("post.likeCount").description("좋아요 수"),
+                                fieldWithPath("post.likedByCurrentUser").description("현재 로그인한 사용자가 좋아요 눌렀는지 여부"),
 
-                                subsectionWithPath("comments").description("댓글 목록"),
+                                subsectionWithPath("comments").description("첫 페이지 댓글 목록"),
                                 fieldWithPath("comments[].id").description("댓글 ID"),
                                 fieldWithPath("comments[].postId").description("댓글이 속한 게시글 ID"),
-                                fieldWithPath("comments[].member.nickname").description("댓글 작성자 닉네임"),
+                                fieldWithPath("comments[].nickname").description("댓글 작성자 닉네임"),
                                 fieldWithPath("comments[].content").description("댓글 내용"),
                                 fieldWithPath("comments[].createdAt").description("댓글 작성일"),
+                                fieldWithPath("nextCommentCursor").type(JsonFieldType.STRING).optional()
+                                        .description("다음 댓글 페이지 커서 (GET /api/comment/{postId}?after= 로 이어 읽음)"),
 
                                 subsectionWithPath("postImages").description("게시글 이미지 목록"),
                                 fieldWithPath("postImages[].id").description("이미지 ID"),
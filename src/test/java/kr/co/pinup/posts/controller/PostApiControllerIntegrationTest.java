@@ -3,7 +3,7 @@ package kr.co.pinup.posts.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.transaction.Transactional;
 import kr.co.pinup.comments.Comment;
-import kr.co.pinup.comments.model.dto.CommentResponse;
+import kr.co.pinup.comments.model.dto.CommentItemResponse;
 import kr.co.pinup.comments.repository.CommentRepository;
 import kr.co.pinup.comments.service.CommentService;
 import kr.co.pinup.locations.Location;
@@ -23,6 +23,7 @@ import kr.co.pinup.postImages.repository.PostImageRepository;
 import kr.co.pinup.postImages.service.PostImageService;
 import kr.co.pinup.posts.Post;
 import kr.co.pinup.posts.model.dto.CreatePostRequest;
+import kr.co.pinup.posts.model.dto.PostDetailResponse;
 import kr.co.pinup.posts.model.dto.PostResponse;
 import kr.co.pinup.posts.model.dto.UpdatePostRequest;
 import kr.co.pinup.posts.repository.PostRepository;
@@ -204,9 +205,10 @@ public class PostApiControllerIntegrationTest {
         // Given
         Long postId = mockPost.getId();
 
-        when(postService.getPostById(postId, false)).thenReturn(PostResponse.from(mockPost));
-        when(commentService.findByPostId(postId)).thenReturn(List.of(new CommentResponse(mockComment.getId(), postId, mockMember, mockComment.getContent(), LocalDateTime.now())));
-        when(postImageService.findImagesByPostId(postId)).thenReturn(List.of(new PostImageResponse(mockPostImage.getId(), mockPost.getId(), mockPostImage.getS3Url())));
+        when(postService.getPostDetail(eq(postId), any())).thenReturn(PostDetailResponse.from(
+                PostResponse.from(mockPost),
+                List.of(new CommentItemResponse(mockComment.getId(), postId, mockMember.getNickname(), mockComment.getContent(), LocalDateTime.now())),
+                List.of(new PostImageResponse(mockPostImage.getId(), mockPost.getId(), mockPostImage.getS3Url()))));
 
         // When
         ResultActions result = mockMvc.perform(get("/api/post/{postId}", postId));
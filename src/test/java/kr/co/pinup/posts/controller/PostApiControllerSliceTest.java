@@ -9,6 +9,8 @@ import jakarta.validation.ConstraintViolationException;
 import kr.co.pinup.comments.repository.CommentRepository;
 import kr.co.pinup.comments.service.CommentService;
 import kr.co.pinup.config.LoggerConfig;
+import kr.co.pinup.custom.pagination.CursorPageResponse;
+import kr.co.pinup.custom.version.AggregateVersionRegistry;
 import kr.co.pinup.members.Member;
 import kr.co.pinup.members.model.dto.MemberInfo;
 import kr.co.pinup.members.model.enums.MemberRole;
@@ -20,6 +22,7 @@ import kr.co.pinup.postImages.service.PostImageService;
 import kr.co.pinup.posts.Post;
 import kr.co.pinup.posts.exception.post.PostNotFoundException;
 import kr.co.pinup.posts.model.dto.CreatePostRequest;
+import kr.co.pinup.posts.model.dto.PostDetailResponse;
 import kr.co.pinup.posts.model.dto.PostResponse;
 import kr.co.pinup.posts.model.dto.UpdatePostRequest;
 import kr.co.pinup.posts.repository.PostRepository;
@@ -79,6 +82,7 @@ import static org.springframework.security.test.web.servlet.request.SecurityMock
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = PostApiController.class, excludeAutoConfiguration = ThymeleafAutoConfiguration.class)
@@ -150,6 +154,7 @@ class PostApiControllerSliceTest {
         }
         @Bean public CommentService commentService() {return mock(CommentService.class);}
         @Bean public PostImageService postImageService()  {return mock(PostImageService.class);}
+        @Bean public AggregateVersionRegistry aggregateVersionRegistry() {return new AggregateVersionRegistry();}
 
         @Bean public PostRepository postRepository() {return mock(PostRepository.class);}
         @Bean public CommentRepository commentRepository() {return mock(CommentRepository.class);}
@@ -418,28 +423,16 @@ class PostApiControllerSliceTest {
         @Test
         @DisplayName("게시글 ID가 유효할 때 상세 조회에 성공한다")
         void getPostById_success() throws Exception {
-            // Given: 게시글 조회를 위한 더미 데이터 준비
-            Store mockStore = mock(Store.class);
-            when(mockStore.getId()).thenReturn(1L);
-
-            Member mockMember = mock(Member.class);
-            when(mockMember.getId()).thenReturn(1L);
-
-            Post dummyPost = Post.builder()
-                    .title("제목")
-                    .content("내용")
-                    .store(mockStore)
-                    .member(mockMember)
-                    .build();
-
-            ReflectionTestUtils.setField(dummyPost, "id", 1L);
-
-            when(postRepository.findByIdAndIsDeleted(1L, false)).thenReturn(Optional.of(dummyPost));
+            // Given: 게시글 상세 조회 결과 준비
+            PostResponse post = new PostResponse(1L, "테스트유저", "제목", null, LocalDateTime.now(), 0L, 0);
+            when(postService.getPostDetail(eq(1L), any()))
+                    .thenReturn(PostDetailResponse.from(post, List.of(), List.of()));
 
             // When: 게시글 조회 API 호출
             mockMvc.perform(get("/api/post/1"))
                     // Then: 응답 상태가 200 OK여야 한다
-                    .andExpect(status().isOk());
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.post.title").value("제목"));
         }
 
         @Test
@@ -454,6 +447,34 @@ class PostApiControllerSliceTest {
         }
     }
 
+    @Nested
+    @DisplayName("전체 피드 조회")
+    class GetFeed {
+
+        @Test
+        @DisplayName("커서와 크기를 넘겨 피드 페이지 조회에 성공한다")
+        void getFeed_success() throws Exception {
+            // Given: 피드 페이지 준비
+            PostResponse post = new PostResponse(1L, "테스트유저", "제목", null, LocalDateTime.now(), 0L, 0);
+            when(postService.getFeedPage(eq("abc"), eq(10), any()))
+                    .thenReturn(new CursorPageResponse<>(List.of(post), "next", true));
+
+            // When: 피드 API 호출
+            mockMvc.perform(get("/api/post/feed").param("cursor", "abc").param("size", "10"))
+                    // Then: 페이지와 다음 커서를 돌려준다
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items[0].title").value("제목"))
+                    .andExpect(jsonPath("$.nextCursor").value("next"));
+        }
+
+        @Test
+        @DisplayName("크기가 최대값을 넘으면 400 오류가 발생한다")
+        void getFeed_invalidSize() throws Exception {
+            mockMvc.perform(get("/api/post/feed").param("size", "101"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
     @Nested
     @DisplayName("게시글 전체 조회")
     class GetAllPosts {
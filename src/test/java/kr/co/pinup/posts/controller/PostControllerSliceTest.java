@@ -1,16 +1,15 @@
 package kr.co.pinup.posts.controller;
 
-import kr.co.pinup.comments.service.CommentService;
 import kr.co.pinup.config.LoggerConfig;
+import kr.co.pinup.custom.pagination.CursorPageResponse;
 import kr.co.pinup.exception.ErrorResponse;
 import kr.co.pinup.members.custom.WithMockMember;
-import kr.co.pinup.members.model.dto.MemberInfo;
 import kr.co.pinup.members.model.enums.MemberRole;
 import kr.co.pinup.oauth.OAuthProvider;
 import kr.co.pinup.postImages.service.PostImageService;
 import kr.co.pinup.postLikes.model.dto.PostLikeResponse;
-import kr.co.pinup.postLikes.service.PostLikeService;
 import kr.co.pinup.posts.exception.post.PostNotFoundException;
+import kr.co.pinup.posts.model.dto.PostDetailResponse;
 import kr.co.pinup.posts.model.dto.PostResponse;
 import kr.co.pinup.posts.service.PostService;
 import org.junit.jupiter.api.DisplayName;
@@ -34,6 +33,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -57,22 +57,14 @@ class PostControllerSliceTest {
     @Autowired
     private PostService postService;
 
-    @Autowired
-    private CommentService commentService;
-
     @Autowired
     private PostImageService postImageService;
 
-    @Autowired
-    private PostLikeService postLikeService;
-
 
     @TestConfiguration
     static class TestConfig {
         @Bean PostService postService() { return mock(PostService.class); }
-        @Bean CommentService commentService() { return mock(CommentService.class); }
         @Bean PostImageService postImageService() { return mock(PostImageService.class); }
-        @Bean PostLikeService postLikeService() { return mock(PostLikeService.class); }
     }
 
     @TestConfiguration
@@ -122,8 +114,8 @@ class PostControllerSliceTest {
         @DisplayName("게시물 리스트 페이지 이동 - 성공")
         void listPage_whenCalled_thenReturnsPostListView() throws Exception {
             Long storeId = 1L;
-            MemberInfo memberInfo = mock(MemberInfo.class);
-            when(postService.findByStoreIdWithCommentsAndLikes(storeId, false,memberInfo)).thenReturn(List.of());
+            when(postService.getPostPage(eq(storeId), any(), eq(20), any()))
+                    .thenReturn(new CursorPageResponse<>(List.of(), null, false));
 
             mockMvc.perform(get("/post/list/{storeId}", storeId))
                     .andExpect(status().isOk())
@@ -137,25 +129,24 @@ class PostControllerSliceTest {
         void detailPage_whenExistingPost_thenReturnsPostDetailView() throws Exception {
             Long postId = 1L;
 
-            PostResponse postResponse = mock(PostResponse.class);
-            PostLikeResponse likeResponse = new PostLikeResponse(10, true);
+            PostResponse postResponse = new PostResponse(postId, "writer", "제목", "thumb.jpg",
+                    LocalDateTime.now(), 0L, 10, true);
 
-            when(postService.getPostById(postId, false)).thenReturn(postResponse);
-            when(commentService.findByPostId(postId)).thenReturn(List.of());
-            when(postImageService.findImagesByPostId(postId)).thenReturn(List.of());
-            when(postLikeService.getLikeInfo(eq(postId), any(MemberInfo.class))).thenReturn(likeResponse);
+            when(postService.getPostDetail(eq(postId), any()))
+                    .thenReturn(PostDetailResponse.from(postResponse, List.of(), List.of()));
 
             mockMvc.perform(get("/post/{postId}", postId))
                     .andExpect(status().isOk())
                     .andExpect(view().name(VIEW_PREFIX + "detail"))
-                    .andExpect(model().attributeExists("post", "comments", "images", "likeInfo"));
+                    .andExpect(model().attributeExists("post", "comments", "images"))
+                    .andExpect(model().attribute("likeInfo", new PostLikeResponse(10, true)));
         }
 
         @Test
         @DisplayName("존재하지 않는 게시물 ID로 상세 페이지 접근 시 404 에러 응답을 반환한다")
         void detailPage_whenPostNotFound_thenReturnsErrorResponse() throws Exception {
             Long invalidPostId = 999L;
-            when(postService.getPostById(invalidPostId, false))
+            when(postService.getPostDetail(eq(invalidPostId), any()))
                     .thenThrow(new PostNotFoundException("게시물이 존재하지 않습니다."));
 
             mockMvc.perform(get("/post/{postId}", invalidPostId))
@@ -0,0 +1,111 @@
+package kr.co.pinup.posts.ranking;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.pinup.posts.event.PostEngagedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class HotPostRankingTest {
+
+    private static final long HOUR = 60 * 60 * 1000L;
+
+    @DisplayName("반감기가 지난 좋아요는 절반만 반영해 최근 반응이 많은 게시글이 앞선다")
+    @Test
+    void topWithDecay() {
+        // Arrange
+        final HotPostRanking ranking = ranking(10, 10);
+        final long now = System.currentTimeMillis();
+
+        // Act: 1번은 이틀 전 좋아요 3개, 2번은 지금 좋아요 1개
+        ranking.add(1L, 10L, 3, now - 48 * HOUR);
+        ranking.add(2L, 10L, 1, now);
+
+        // Assert
+        final List<HotPostScore> top = ranking.top(null, 10);
+        assertThat(top).extracting(HotPostScore::postId).containsExactly(2L, 1L);
+        assertThat(top.get(1).score()).isCloseTo(0.75, within(0.01));
+    }
+
+    @DisplayName("스토어별 순위는 해당 스토어의 게시글만 담는다")
+    @Test
+    void topByStore() {
+        // Arrange
+        final HotPostRanking ranking = ranking(10, 10);
+
+        // Act
+        ranking.onPostEngaged(PostEngagedEvent.liked(1L, 10L, 1));
+        ranking.onPostEngaged(PostEngagedEvent.commented(2L, 20L, 1));
+        ranking.onPostEngaged(PostEngagedEvent.liked(3L, 10L, 1));
+        ranking.onPostEngaged(PostEngagedEvent.commented(3L, 10L, 1));
+
+        // Assert
+        assertThat(ranking.top(null, 10)).extracting(HotPostScore::postId).containsExactly(3L, 2L, 1L);
+        assertThat(ranking.top(10L, 10)).extracting(HotPostScore::postId).containsExactly(3L, 1L);
+        assertThat(ranking.top(30L, 10)).isEmpty();
+    }
+
+    @DisplayName("보관 한도를 넘으면 가장 낮은 게시글을 버리고, 좋아요를 취소해 0 이 되면 순위에서 뺀다")
+    @Test
+    void capacityAndUnlike() {
+        // Arrange
+        final HotPostRanking ranking = ranking(2, 10);
+        final long now = System.currentTimeMillis();
+        ranking.add(1L, 10L, 3, now);
+        ranking.add(2L, 10L, 2, now);
+
+        // Act & Assert: 전체에서는 밀려나도 스토어 순위에는 남는다
+        ranking.add(3L, 20L, 1, now);
+        assertThat(ranking.top(null, 10)).extracting(HotPostScore::postId).containsExactly(1L, 2L);
+        assertThat(ranking.top(20L, 10)).extracting(HotPostScore::postId).containsExactly(3L);
+
+        ranking.add(2L, 10L, -2, now);
+        assertThat(ranking.top(null, 10)).extracting(HotPostScore::postId).containsExactly(1L);
+        assertThat(ranking.top(10L, 10)).extracting(HotPostScore::postId).containsExactly(1L);
+        assertThat(ranking.size()).isEqualTo(2);
+    }
+
+    @DisplayName("삭제된 게시글은 전체와 스토어 순위에서 모두 뺀다")
+    @Test
+    void remove() {
+        // Arrange
+        final HotPostRanking ranking = ranking(10, 10);
+        ranking.add(1L, 10L, 1, System.currentTimeMillis());
+
+        // Act
+        ranking.remove(1L);
+
+        // Assert
+        assertThat(ranking.top(null, 10)).isEmpty();
+        assertThat(ranking.top(10L, 10)).isEmpty();
+        assertThat(ranking.size()).isZero();
+    }
+
+    @DisplayName("스냅샷으로 다시 쌓으면 같은 순위와 점수가 나온다")
+    @Test
+    void snapshotAndRestore() {
+        // Arrange
+        final HotPostRanking ranking = ranking(10, 10);
+        final long now = System.currentTimeMillis();
+        ranking.add(1L, 10L, 4, now - 24 * HOUR);
+        ranking.add(2L, 20L, 1, now);
+        final List<HotPostScore> snapshot = ranking.snapshot(now);
+
+        // Act
+        final HotPostRanking restored = ranking(10, 10);
+        snapshot.forEach(score -> restored.add(score.postId(), score.storeId(), score.score(), now));
+
+        // Assert
+        assertThat(restored.top(null, 10)).extracting(HotPostScore::postId).containsExactly(1L, 2L);
+        assertThat(restored.top(null, 10).get(0).score()).isCloseTo(2.0, within(0.01));
+        assertThat(restored.top(20L, 10)).extracting(HotPostScore::postId).containsExactly(2L);
+    }
+
+    private HotPostRanking ranking(final int capacity, final int storeCapacity) {
+        return new HotPostRanking(new SimpleMeterRegistry(), 24, 1, 2, capacity, storeCapacity);
+    }
+}
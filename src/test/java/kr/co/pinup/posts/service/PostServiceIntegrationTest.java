@@ -1,6 +1,9 @@
 package kr.co.pinup.posts.service;
 
 import jakarta.transaction.Transactional;
+import kr.co.pinup.comments.Comment;
+import kr.co.pinup.comments.model.dto.CommentItemResponse;
+import kr.co.pinup.comments.repository.CommentRepository;
 import kr.co.pinup.custom.s3.S3Service;
 import kr.co.pinup.locations.Location;
 import kr.co.pinup.locations.reposiotry.LocationRepository;
@@ -20,6 +23,7 @@ import kr.co.pinup.postLikes.PostLike;
 import kr.co.pinup.postLikes.repository.PostLikeRepository;
 import kr.co.pinup.posts.Post;
 import kr.co.pinup.posts.model.dto.CreatePostRequest;
+import kr.co.pinup.posts.model.dto.PostDetailResponse;
 import kr.co.pinup.posts.model.dto.PostResponse;
 import kr.co.pinup.posts.model.dto.UpdatePostRequest;
 import kr.co.pinup.posts.repository.PostRepository;
@@ -28,6 +32,8 @@ import kr.co.pinup.storecategories.repository.StoreCategoryRepository;
 import kr.co.pinup.stores.Store;
 import kr.co.pinup.stores.model.enums.StoreStatus;
 import kr.co.pinup.stores.repository.StoreRepository;
+import kr.co.pinup.support.QueryCountSupport;
+import kr.co.pinup.support.QueryCounter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -36,6 +42,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.web.multipart.MultipartFile;
@@ -46,13 +53,14 @@ import java.util.List;
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:post_like_test_db;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE")
 @ActiveProfiles("test")
 @Transactional
-@Import(PostServiceIntegrationTest.TestMockConfig.class)
+@Import({PostServiceIntegrationTest.TestMockConfig.class, QueryCountSupport.class})
 public class PostServiceIntegrationTest {
 
     @Autowired private PostService postService;
@@ -63,6 +71,9 @@ public class PostServiceIntegrationTest {
     @Autowired private PostLikeRepository postLikeRepository;
     @Autowired private LocationRepository locationRepository;
     @Autowired private StoreCategoryRepository storeCategoryRepository;
+    @Autowired private CommentRepository commentRepository;
+    @Autowired private QueryCounter queryCounter;
+    @Autowired private JdbcTemplate jdbcTemplate;
 
     @Autowired private MemberService memberService;
     @Autowired private S3Service s3Service;
@@ -127,7 +138,8 @@ public class PostServiceIntegrationTest {
         MemberInfo info = new MemberInfo(mockMember.getNickname(), mockMember.getProviderType(), mockMember.getRole());
         CreatePostRequest req = new CreatePostRequest(mockPost.getStore().getId(), "New Title", "New Content");
 
-        when(s3Service.uploadFile(any(), anyString())).thenReturn("https://s3.com/test.jpg");
+        when(s3Service.uploadFiles(anyList(), anyString()))
+                .thenReturn(List.of("https://s3.com/test1.jpg", "https://s3.com/test2.jpg"));
         when(s3Service.extractFileName(any())).thenReturn("test.jpg");
 
         // When
@@ -149,6 +161,45 @@ public class PostServiceIntegrationTest {
         assertEquals("제목", res.title());
     }
 
+    @Test
+    @DisplayName("게시물 상세 조회 - 게시글, 이미지, 댓글, 좋아요 여부를 두 문장으로 읽는다")
+    void getPostDetail_whenLoggedIn_thenReadsInTwoStatements() {
+        // Given
+        postImageRepository.save(PostImage.builder().post(mockPost).s3Url("url2.jpg").build());
+        commentRepository.save(Comment.builder().post(mockPost).member(mockMember).content("댓글1").build());
+        commentRepository.save(Comment.builder().post(mockPost).member(mockMember).content("댓글2").build());
+        postLikeRepository.save(PostLike.builder().post(mockPost).member(mockMember).build());
+        MemberInfo memberInfo = new MemberInfo(mockMember.getNickname(), mockMember.getProviderType(), mockMember.getRole());
+        queryCounter.reset();
+
+        // When
+        PostDetailResponse detail = postService.getPostDetail(mockPost.getId(), memberInfo);
+
+        // Then
+        assertThat(queryCounter.count()).isEqualTo(2);
+        assertEquals("제목", detail.post().title());
+        assertEquals("행복한돼지", detail.post().member().getNickname());
+        assertTrue(detail.post().likedByCurrentUser());
+        assertThat(detail.postImages()).extracting(PostImageResponse::getS3Url).containsExactly("url.jpg", "url2.jpg");
+        assertThat(detail.comments()).extracting(CommentItemResponse::nickname)
+                .containsExactly("행복한돼지", "행복한돼지");
+    }
+
+    @Test
+    @DisplayName("게시물 상세 조회 - 비로그인 사용자는 좋아요 여부가 false")
+    void getPostDetail_whenAnonymous_thenNotLiked() {
+        // Given
+        postLikeRepository.save(PostLike.builder().post(mockPost).member(mockMember).build());
+
+        // When
+        PostDetailResponse detail = postService.getPostDetail(mockPost.getId(), null);
+
+        // Then
+        assertFalse(detail.post().likedByCurrentUser());
+        assertThat(detail.postImages()).hasSize(1);
+        assertThat(detail.comments()).isEmpty();
+    }
+
     @Test
     @DisplayName("게시물 삭제 - 이미지 포함")
     void deletePost_whenExistingPost_thenDeletesPostAndImages() {
@@ -284,37 +335,51 @@ public class PostServiceIntegrationTest {
     }
 
     @Test
-    @DisplayName("게시글 목록 조회 - 로그인 여부와 좋아요 여부에 따른 likedByCurrentUser 필드 검증")
-    void findByStoreIdWithCommentsAndLikes_allScenarios() {
-        // given
-        // 1. 게시글 2개 생성
-        Post post1 = postRepository.save(Post.builder().title("post1").content("c1").member(mockMember).store(mockPost.getStore()).build());
-        Post post2 = postRepository.save(Post.builder().title("post2").content("c2").member(mockMember).store(mockPost.getStore()).build());
+    @DisplayName("게시물 수정 - 이미지를 올리는 사이 커밋된 좋아요 수를 덮어쓰지 않는다")
+    void updatePost_whenLikedDuringUpload_thenKeepsLikeCount() {
+        // Given
+        UpdatePostRequest req = new UpdatePostRequest("Updated", "Content");
+        MultipartFile[] imgs = {
+                new MockMultipartFile("img", "file1.jpg", "image/jpeg", "data1".getBytes()),
+                new MockMultipartFile("img", "file2.jpg", "image/jpeg", "data2".getBytes())
+        };
+        PostImage postImage = PostImage.builder().post(mockPost).s3Url("https://s3.com/file1.jpg").build();
 
-        // 2. post1에는 좋아요 저장
-        postLikeRepository.save(PostLike.builder().post(post1).member(mockMember).build());
+        // 업로드하는 동안 다른 트랜잭션에서 좋아요가 커밋된 것처럼 영속성 컨텍스트를 거치지 않고 좋아요 수를 올린다.
+        when(postImageService.savePostImages(any(), eq(mockPost))).thenAnswer(invocation -> {
+            jdbcTemplate.update("UPDATE posts SET like_count = like_count + 1 WHERE id = ?", mockPost.getId());
+            return List.of(postImage);
+        });
+        when(postImageService.findImagesByPostId(mockPost.getId()))
+                .thenReturn(List.of(PostImageResponse.from(postImage), PostImageResponse.from(postImage)));
 
-        MemberInfo memberInfo = new MemberInfo(mockMember.getNickname(), mockMember.getProviderType(), mockMember.getRole());
+        // When
+        postService.updatePost(mockPost.getId(), req, imgs, List.of());
+        postRepository.flush();
 
-        // when
-        List<PostResponse> loggedInResult = postService.findByStoreIdWithCommentsAndLikes(mockPost.getStore().getId(), false, memberInfo);
-        List<PostResponse> anonymousResult = postService.findByStoreIdWithCommentsAndLikes(mockPost.getStore().getId(), false, null);
-
-        // then
-        assertThat(loggedInResult).hasSize(3); // 기존 mockPost + 위에서 만든 post1, post2
-        assertThat(anonymousResult).hasSize(3);
-
-        // 로그인한 사용자는 post1만 좋아요 누름
-        for (PostResponse response : loggedInResult) {
-            if (response.title().equals("post1")) {
-                assertThat(response.likedByCurrentUser()).isTrue();
-            } else {
-                assertThat(response.likedByCurrentUser()).isFalse();
-            }
-        }
-
-        // 비로그인 사용자는 모두 false
-        assertThat(anonymousResult).allSatisfy(resp -> assertThat(resp.likedByCurrentUser()).isFalse());
+        // Then
+        Integer likeCount = jdbcTemplate.queryForObject(
+                "SELECT like_count FROM posts WHERE id = ?", Integer.class, mockPost.getId());
+        assertEquals(1, likeCount);
+    }
+
+    @Test
+    @DisplayName("게시물 비활성화 - 게시글을 읽은 뒤 달린 댓글 수를 덮어쓰지 않는다")
+    void disablePost_whenCommentAddedAfterLoad_thenKeepsCommentCount() {
+        // Given
+        Post loaded = postService.findByIdOrThrow(mockPost.getId());
+        // 다른 트랜잭션에서 댓글이 커밋된 것처럼 영속성 컨텍스트를 거치지 않고 댓글 수를 올린다.
+        commentRepository.save(Comment.builder().post(loaded).member(mockMember).content("댓글").build());
+        jdbcTemplate.update("UPDATE posts SET comment_count = comment_count + 1 WHERE id = ?", loaded.getId());
+
+        // When
+        postService.disablePost(loaded.getId());
+        postRepository.flush();
+
+        // Then
+        Integer commentCount = jdbcTemplate.queryForObject(
+                "SELECT comment_count FROM posts WHERE id = ?", Integer.class, loaded.getId());
+        assertEquals(1, commentCount);
     }
 
 }
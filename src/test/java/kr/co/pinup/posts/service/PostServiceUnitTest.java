@@ -2,6 +2,8 @@ package kr.co.pinup.posts.service;
 
 import kr.co.pinup.comments.repository.CommentRepository;
 import kr.co.pinup.custom.logging.AppLogger;
+import kr.co.pinup.custom.pagination.CursorPageResponse;
+import kr.co.pinup.custom.version.AggregateVersionRegistry;
 import kr.co.pinup.locations.Location;
 import kr.co.pinup.members.Member;
 import kr.co.pinup.members.exception.MemberNotFoundException;
@@ -14,13 +16,21 @@ import kr.co.pinup.postImages.exception.postimage.PostImageUpdateCountException;
 import kr.co.pinup.postImages.model.dto.CreatePostImageRequest;
 import kr.co.pinup.postImages.model.dto.PostImageResponse;
 import kr.co.pinup.postImages.service.PostImageService;
+import kr.co.pinup.postLikes.cache.LikedPostCache;
+import kr.co.pinup.postLikes.counter.PostLikeCounter;
 import kr.co.pinup.postLikes.repository.PostLikeRepository;
 import kr.co.pinup.posts.Post;
+import kr.co.pinup.posts.cache.PostFeedCache;
 import kr.co.pinup.posts.exception.post.PostDeleteFailedException;
 import kr.co.pinup.posts.exception.post.PostNotFoundException;
 import kr.co.pinup.posts.model.dto.CreatePostRequest;
+import kr.co.pinup.posts.model.dto.PostCursor;
+import kr.co.pinup.posts.model.dto.PostDetailResponse;
+import kr.co.pinup.posts.model.dto.PostDetailRow;
 import kr.co.pinup.posts.model.dto.PostResponse;
 import kr.co.pinup.posts.model.dto.UpdatePostRequest;
+import kr.co.pinup.posts.ranking.HotPostRanking;
+import kr.co.pinup.posts.ranking.HotPostScore;
 import kr.co.pinup.posts.repository.PostRepository;
 import kr.co.pinup.storecategories.StoreCategory;
 import kr.co.pinup.stores.Store;
@@ -35,6 +45,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.multipart.MultipartFile;
@@ -43,6 +54,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -68,7 +80,17 @@ PostServiceUnitTest {
     @Mock
     private PostLikeRepository postLikeRepository;
     @Mock
+    private LikedPostCache likedPostCache;
+    @Mock
+    private PostLikeCounter postLikeCounter;
+    @Mock
+    private PostFeedCache postFeedCache;
+    @Mock
+    private HotPostRanking hotPostRanking;
+    @Mock
     private AppLogger appLogger;
+    @Mock
+    private AggregateVersionRegistry versionRegistry;
 
     @InjectMocks
     private PostService postService;
@@ -575,6 +597,7 @@ PostServiceUnitTest {
 
             verify(postImageService).deleteAllByPost(1L);
             verify(postRepository).delete(post);
+            verify(hotPostRanking).remove(1L);
         }
 
         @Test
@@ -621,6 +644,33 @@ PostServiceUnitTest {
             assertThrows(PostNotFoundException.class, () -> postService.getPostById(1L, false));
         }
 
+        @Test
+        @DisplayName("게시물 상세 조회 - 이미지 행을 모으고 대기 중인 좋아요 수를 더한다")
+        void getPostDetail_whenPostExists_thenAssemblesRows() {
+            LocalDateTime now = LocalDateTime.of(2025, 8, 13, 12, 0);
+            when(postRepository.findDetailRows(1L, null)).thenReturn(List.of(
+                    new PostDetailRow(1L, 1L, member, "제목", "내용", "a.jpg", now, now, 2, 3, false, 10L, "a.jpg"),
+                    new PostDetailRow(1L, 1L, member, "제목", "내용", "a.jpg", now, now, 2, 3, false, 11L, "b.jpg")));
+            when(commentRepository.findItemsByPostId(eq(1L), eq(0L), any(PageRequest.class))).thenReturn(List.of());
+            when(postLikeCounter.isWriteBehind()).thenReturn(true);
+            when(postLikeCounter.pending(1L)).thenReturn(1L);
+
+            PostDetailResponse result = postService.getPostDetail(1L, null);
+
+            assertEquals(4, result.post().likeCount());
+            assertEquals(2, result.post().commentCount());
+            assertThat(result.postImages()).extracting(PostImageResponse::getS3Url).containsExactly("a.jpg", "b.jpg");
+        }
+
+        @Test
+        @DisplayName("게시물 상세 조회 - 존재하지 않으면 댓글을 읽지 않고 예외")
+        void getPostDetail_whenPostNotExists_thenThrowsException() {
+            when(postRepository.findDetailRows(1L, null)).thenReturn(List.of());
+
+            assertThrows(PostNotFoundException.class, () -> postService.getPostDetail(1L, null));
+            verify(commentRepository, never()).findItemsByPostId(any(), anyLong(), any());
+        }
+
         @Test
         @DisplayName("Store ID에 대한 게시물 목록 조회")
         void findByStoreId_whenPostsExist_thenReturnsPostList() {
@@ -653,30 +703,81 @@ PostServiceUnitTest {
         }
 
         @Test
-        @DisplayName("로그인 사용자 - likedByCurrentUser=true 반환")
-        void findByStoreIdWithLikes_loggedInUser_likesPost() {
+        @DisplayName("게시글 페이지 - size 보다 하나 더 읽어 다음 페이지 커서를 만든다")
+        void getPostPage_whenMorePostsExist_thenReturnsNextCursor() {
             // given
             Long storeId = 1L;
-            MemberInfo memberInfo = new MemberInfo("닉네임",OAuthProvider.NAVER,MemberRole.ROLE_USER);
             LocalDateTime now = LocalDateTime.of(2025, 8, 13, 12, 0);
+            PostResponse newest = new PostResponse(3L, "닉네임", "제목3", "thumb3.jpg", now, 2L, 0, false);
+            PostResponse middle = new PostResponse(2L, "닉네임", "제목2", "thumb2.jpg", now.minusHours(1), 0L, 1, false);
+            PostResponse oldest = new PostResponse(1L, "닉네임", "제목1", "thumb1.jpg", now.minusHours(2), 1L, 0, false);
 
-            given(memberRepository.findByNickname(eq("닉네임")))
-                    .willReturn(Optional.of(member));
+            given(postRepository.findPostListPage(eq(storeId),
+                    eq(PostCursor.FIRST.createdAt()), eq(PostCursor.FIRST.id()), eq(PageRequest.ofSize(3))))
+                    .willReturn(List.of(newest, middle, oldest));
 
-            given(postRepository.findPostListItems(eq(storeId), eq(false), eq(member.getId())))
-                    .willReturn(List.of(
-                            new PostResponse(1L, "닉네임", "제목1", "thumb1.jpg", now , 5L, 3, true)
-                    ));
+            // when
+            CursorPageResponse<PostResponse> page = postService.getPostPage(storeId, null, 2, null);
+
+            // then
+            assertThat(page.items()).containsExactly(newest, middle);
+            assertThat(page.hasNext()).isTrue();
+            assertThat(PostCursor.decode(page.nextCursor())).isEqualTo(new PostCursor(middle.createdAt(), 2L));
+        }
+
+        @Test
+        @DisplayName("인기 게시글 - 순위 순서대로 PK 로 읽고 삭제되어 읽히지 않은 게시글은 건너뛴다")
+        void getHotPosts_whenRanked_thenKeepsRankingOrder() {
+            // given
+            LocalDateTime now = LocalDateTime.of(2025, 8, 13, 12, 0);
+            PostResponse first = new PostResponse(3L, "닉네임", "제목3", "thumb3.jpg", now, 2L, 5, false);
+            PostResponse second = new PostResponse(1L, "닉네임", "제목1", "thumb1.jpg", now.minusDays(1), 1L, 9, false);
+
+            given(hotPostRanking.top(null, 3)).willReturn(List.of(
+                    new HotPostScore(3L, 1L, 7.5), new HotPostScore(2L, 1L, 4.0), new HotPostScore(1L, 2L, 3.0)));
+            given(postRepository.findPostListItemsByIds(List.of(3L, 2L, 1L))).willReturn(List.of(second, first));
 
             // when
-            List<PostResponse> result = postService.findByStoreIdWithCommentsAndLikes(storeId, false, memberInfo);
+            List<PostResponse> hotPosts = postService.getHotPosts(null, 3, null);
 
             // then
-            assertThat(result).hasSize(1);
-            assertThat(result.get(0).likedByCurrentUser()).isTrue();
+            assertThat(hotPosts).containsExactly(first, second);
+        }
+
+        @Test
+        @DisplayName("인기 게시글 - 순위가 비어 있으면 게시글을 읽지 않는다")
+        void getHotPosts_whenEmpty_thenSkipsQuery() {
+            given(hotPostRanking.top(1L, 10)).willReturn(List.of());
+
+            assertThat(postService.getHotPosts(1L, 10, null)).isEmpty();
+            then(postRepository).shouldHaveNoInteractions();
+        }
 
-            then(postRepository).should().findPostListItems(storeId, false, member.getId());
-            then(postRepository).shouldHaveNoMoreInteractions();
+        @Test
+        @DisplayName("피드 페이지 - 캐시에 없으면 전체 게시글을 읽고, 좋아요 여부는 조회자마다 채운다")
+        void getFeedPage_whenSignedIn_thenMarksLikedOnCachedPage() {
+            // given
+            ReflectionTestUtils.setField(member, "id", 10L);
+            MemberInfo memberInfo = new MemberInfo("행복한돼지", OAuthProvider.NAVER, MemberRole.ROLE_USER);
+            LocalDateTime now = LocalDateTime.of(2025, 8, 13, 12, 0);
+            PostResponse newest = new PostResponse(3L, "닉네임", "제목3", "thumb3.jpg", now, 2L, 0, false);
+            PostResponse oldest = new PostResponse(1L, "닉네임", "제목1", "thumb1.jpg", now.minusHours(2), 1L, 0, false);
+
+            given(postFeedCache.get(eq(null), eq(2), any())).willAnswer(invocation ->
+                    invocation.<Supplier<CursorPageResponse<PostResponse>>>getArgument(2).get());
+            given(postRepository.findFeedPage(
+                    eq(PostCursor.FIRST.createdAt()), eq(PostCursor.FIRST.id()), eq(PageRequest.ofSize(3))))
+                    .willReturn(List.of(newest, oldest));
+            given(memberRepository.findByNickname("행복한돼지")).willReturn(Optional.of(member));
+            given(likedPostCache.isLiked(10L, 3L)).willReturn(true);
+            given(likedPostCache.isLiked(10L, 1L)).willReturn(false);
+
+            // when
+            CursorPageResponse<PostResponse> page = postService.getFeedPage(null, 2, memberInfo);
+
+            // then
+            assertThat(page.items()).extracting(PostResponse::likedByCurrentUser).containsExactly(true, false);
+            assertThat(page.hasNext()).isFalse();
         }
 
     }
@@ -9,6 +9,7 @@ import kr.co.pinup.storeimages.exception.StoreThumbnaiImagelNotFoundException;
 import kr.co.pinup.storeimages.model.dto.StoreImageResponse;
 import kr.co.pinup.storeimages.repository.StoreImageRepository;
 import kr.co.pinup.stores.Store;
+import kr.co.pinup.stores.cache.StoreDetailCache;
 import kr.co.pinup.stores.model.enums.StoreStatus;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,8 +25,6 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
@@ -40,6 +39,9 @@ class StoreImageServiceTest {
     @Mock
     private StoreImageRepository storeImageRepository;
 
+    @Mock
+    private StoreDetailCache storeDetailCache;
+
     @InjectMocks
     private StoreImageService storeImageService;
 
@@ -123,7 +125,7 @@ class StoreImageServiceTest {
         final List<MultipartFile> images = List.of(mock(MultipartFile.class));
         final String uploadUrl = "http://127.0.0.1:4566/pinup/store/image.png";
 
-        given(s3Service.uploadFile(any(MultipartFile.class), anyString())).willReturn(uploadUrl);
+        given(s3Service.uploadFiles(images, "store")).willReturn(List.of(uploadUrl));
 
         // Act
         final List<StoreImage> result = storeImageService.createUploadImages(store, images, 0L);
@@ -0,0 +1,32 @@
+package kr.co.pinup.storeoperatinghour;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StoreOperatingDaysTest {
+
+    @DisplayName("운영 요일 문자열을 요일 비트마스크로 바꾼다")
+    @ParameterizedTest(name = "\"{0}\" → {1}")
+    @CsvSource(delimiter = '|', value = {
+            "월~금|0011111",
+            "월요일 ~ 목요일|0001111",
+            "월, 수, 금|0010101",
+            "토일|1100000",
+            "금~월|1110001",
+            "매일|1111111",
+            "평일|0011111",
+            "주말|1100000",
+            "월/주말|1100001",
+            "연중무휴|0000000",
+    })
+    void parse(final String days, final String expectedMask) {
+        // Act
+        final int mask = StoreOperatingDays.parse(days);
+
+        // Assert
+        assertThat(mask).isEqualTo(Integer.parseInt(expectedMask, 2));
+    }
+}
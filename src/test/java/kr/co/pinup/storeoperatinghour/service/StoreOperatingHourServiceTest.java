@@ -2,6 +2,7 @@ package kr.co.pinup.storeoperatinghour.service;
 
 import kr.co.pinup.locations.Location;
 import kr.co.pinup.storecategories.StoreCategory;
+import kr.co.pinup.storeoperatinghour.StoreOperatingDays;
 import kr.co.pinup.storeoperatinghour.StoreOperatingHour;
 import kr.co.pinup.storeoperatinghour.model.dto.StoreOperatingHourRequest;
 import kr.co.pinup.stores.Store;
@@ -47,9 +48,9 @@ class StoreOperatingHourServiceTest {
 
         // Assert
         assertThat(result).hasSize(1)
-                .extracting("days", "startTime", "endTime")
+                .extracting("days", "startTime", "endTime", "dayMask")
                 .contains(
-                        tuple(day, startTime, endTime)
+                        tuple(day, startTime, endTime, StoreOperatingDays.WEEKDAYS)
                 );
     }
 
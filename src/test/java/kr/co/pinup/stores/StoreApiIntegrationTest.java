@@ -15,8 +15,11 @@ import kr.co.pinup.storeimages.repository.StoreImageRepository;
 import kr.co.pinup.storeoperatinghour.model.dto.StoreOperatingHourRequest;
 import kr.co.pinup.storeoperatinghour.model.dto.StoreOperatingHourResponse;
 import kr.co.pinup.storeoperatinghour.repository.StoreOperatingHourRepository;
+import kr.co.pinup.stores.catalog.StoreCatalog;
+import kr.co.pinup.stores.catalog.StoreCatalogEntry;
 import kr.co.pinup.stores.model.dto.StoreRequest;
 import kr.co.pinup.stores.model.dto.StoreResponse;
+import kr.co.pinup.stores.model.dto.StoreThumbnailResponse;
 import kr.co.pinup.stores.model.enums.StoreStatus;
 import kr.co.pinup.stores.repository.StoreRepository;
 import org.junit.jupiter.api.DisplayName;
@@ -63,6 +66,9 @@ public class StoreApiIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private StoreCatalog storeCatalog;
+
     @MockitoBean
     private StoreRepository storeRepository;
 
@@ -188,7 +194,11 @@ public class StoreApiIntegrationTest {
         final Store store2 = getStoreWithThumbnail("store2", "description2", RESOLVED);
         final Store store3 = getStoreWithThumbnail("store2", "description2", DISMISSED);
 
-        given(storeRepository.findAllByIsDeletedFalse()).willReturn(List.of(store1, store2, store3));
+        given(storeRepository.findAllCatalogEntries()).willReturn(List.of(
+                createCatalogEntry(store1),
+                createCatalogEntry(store2),
+                createCatalogEntry(store3)));
+        storeCatalog.rebuild();
 
         // Act & Assert
         mockMvc.perform(get("/api/stores/summary")
@@ -213,7 +223,7 @@ public class StoreApiIntegrationTest {
 
         final Store store1 = getStore("store", "description", RESOLVED);
 
-        given(storeRepository.findById(id)).willReturn(Optional.of(store1));
+        given(storeRepository.findDetailById(id)).willReturn(Optional.of(store1));
 
         // Act & Assert
         mockMvc.perform(get("/api/stores/{id}", id))
@@ -232,6 +242,12 @@ public class StoreApiIntegrationTest {
                 .andExpect(jsonPath("$.storeImages").exists());
     }
 
+    private StoreCatalogEntry createCatalogEntry(final Store store) {
+        final Location location = store.getLocation();
+        return new StoreCatalogEntry(StoreThumbnailResponse.from(store), null, location.getId(),
+                location.getSido(), location.getLatitude(), location.getLongitude(), store.getViewCount());
+    }
+
     private StoreCategory createCategory() {
         return StoreCategory.builder()
                 .name("뷰티")
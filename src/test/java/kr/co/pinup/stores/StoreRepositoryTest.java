@@ -0,0 +1,296 @@
+package kr.co.pinup.stores;
+
+import kr.co.pinup.locations.Location;
+import kr.co.pinup.locations.reposiotry.LocationRepository;
+import kr.co.pinup.storecategories.StoreCategory;
+import kr.co.pinup.storecategories.repository.StoreCategoryRepository;
+import kr.co.pinup.storeimages.StoreImage;
+import kr.co.pinup.storeoperatinghour.StoreOperatingHour;
+import kr.co.pinup.stores.catalog.StoreCatalogEntry;
+import kr.co.pinup.stores.model.dto.StoreCursor;
+import kr.co.pinup.stores.model.dto.StoreResponse;
+import kr.co.pinup.stores.model.dto.StoreStatusChange;
+import kr.co.pinup.stores.model.enums.StoreStatus;
+import kr.co.pinup.stores.repository.StoreRepository;
+import kr.co.pinup.stores.search.StoreSearchDocument;
+import kr.co.pinup.support.QueryCountSupport;
+import kr.co.pinup.support.QueryCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static kr.co.pinup.stores.model.enums.StoreStatus.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(QueryCountSupport.class)
+class StoreRepositoryTest {
+
+    @Autowired private StoreRepository storeRepository;
+    @Autowired private StoreCategoryRepository storeCategoryRepository;
+    @Autowired private LocationRepository locationRepository;
+    @Autowired private TestEntityManager entityManager;
+    @Autowired private QueryCounter queryCounter;
+
+    StoreCategory beauty;
+    StoreCategory fashion;
+    Location songpa;
+    Location gangnam;
+
+    @BeforeEach
+    void setUp() {
+        beauty = storeCategoryRepository.save(new StoreCategory("뷰티"));
+        fashion = storeCategoryRepository.save(new StoreCategory("패션"));
+        songpa = locationRepository.save(new Location("송파 지역", "05551", "서울", "송파구", 37.5137, 127.1043, "서울 송파구 올림픽로 300", ""));
+        gangnam = locationRepository.save(new Location("강남 지역", "12345", "서울", "강남구", 37.1234, 127.5678, "서울 강남구 도산대로 123", ""));
+    }
+
+    @Test
+    @DisplayName("진행 상태 우선순위와 아이디 순으로 키셋 페이지를 조회한다")
+    void findPageByStatusPriority() {
+        // given
+        final Store dismissed = save("종료", DISMISSED, beauty, songpa);
+        final Store resolved1 = save("진행1", RESOLVED, beauty, songpa);
+        final Store pending = save("예정", PENDING, beauty, songpa);
+        final Store resolved2 = save("진행2", RESOLVED, beauty, songpa);
+
+        // when
+        final List<Store> firstPage = findPage(null, null, null, StoreCursor.FIRST, 2);
+        final List<Store> secondPage = findPage(null, null, null, StoreCursor.from(firstPage.get(1)), 2);
+
+        // then
+        assertThat(firstPage).containsExactly(resolved1, resolved2);
+        assertThat(secondPage).containsExactly(pending, dismissed);
+    }
+
+    @Test
+    @DisplayName("상태, 자치구, 카테고리 조건과 삭제 여부로 필터링한다")
+    void findPageByStatusPriorityWithCondition() {
+        // given
+        final Store matched = save("조건 일치", PENDING, fashion, gangnam);
+        save("다른 카테고리", PENDING, beauty, gangnam);
+        save("다른 자치구", PENDING, fashion, songpa);
+        save("다른 상태", RESOLVED, fashion, gangnam);
+        final Store deleted = save("삭제됨", PENDING, fashion, gangnam);
+        deleted.deleteStore(true);
+
+        // when
+        final List<Store> result = findPage(PENDING, "강남구", fashion.getId(), StoreCursor.FIRST, 10);
+
+        // then
+        assertThat(result).containsExactly(matched);
+    }
+
+    @Test
+    @DisplayName("카탈로그 항목은 스토어 수와 관계없이 한 번의 쿼리로 조회한다")
+    void findAllCatalogEntriesWithSingleStatement() {
+        // given
+        saveStoresWithDetails(5);
+
+        // when
+        final List<StoreCatalogEntry> result = storeRepository.findAllCatalogEntries();
+
+        // then
+        assertThat(queryCounter.count()).isEqualTo(1);
+        assertThat(result).hasSize(5)
+                .allSatisfy(entry -> {
+                    assertThat(entry.thumbnail().categoryName()).isEqualTo("뷰티");
+                    assertThat(entry.sigungu()).isEqualTo("송파구");
+                    assertThat(entry.thumbnail().thumbnailImage()).endsWith("thumbnail.png");
+                    assertThat(entry.locationId()).isEqualTo(songpa.getId());
+                    assertThat(entry.latitude()).isEqualTo(songpa.getLatitude());
+                });
+    }
+
+    @Test
+    @DisplayName("팝업스토어 상세 페이지 목록은 스토어 수와 관계없이 세 번의 쿼리로 조회한다")
+    void findPageByStatusPriorityWithBoundedStatements() {
+        // given
+        saveStoresWithDetails(5);
+
+        // when
+        final List<StoreResponse> result = findPage(null, null, null, StoreCursor.FIRST, 10).stream()
+                .map(StoreResponse::from)
+                .toList();
+
+        // then
+        assertThat(queryCounter.count()).isEqualTo(3);
+        assertThat(result).hasSize(5)
+                .allSatisfy(store -> {
+                    assertThat(store.operatingHours()).hasSize(1);
+                    assertThat(store.storeImages()).hasSize(2);
+                });
+    }
+
+    @Test
+    @DisplayName("팝업스토어 단건 상세 정보는 세 번의 쿼리로 조회한다")
+    void findDetailByIdWithBoundedStatements() {
+        // given
+        final Long storeId = saveStoresWithDetails(1).get(0).getId();
+
+        // when
+        final StoreResponse result = storeRepository.findDetailById(storeId)
+                .map(StoreResponse::from)
+                .orElseThrow();
+
+        // then
+        assertThat(queryCounter.count()).isEqualTo(3);
+        assertThat(result.category().name()).isEqualTo("뷰티");
+        assertThat(result.location().sigungu()).isEqualTo("송파구");
+    }
+
+    @Test
+    @DisplayName("시작일, 종료일 기준으로 상태가 바뀌어야 하는 삭제되지 않은 스토어만 조회하고 갱신한다")
+    void findStatusChangesAndUpdateStatus() {
+        // given
+        final LocalDate today = LocalDate.now();
+        final Store started = save("시작됨", PENDING, today.minusDays(1), today.plusDays(1));
+        final Store ended = save("종료됨", RESOLVED, today.minusDays(3), today.minusDays(1));
+        save("그대로", RESOLVED, today, today.plusDays(1));
+        save("예정 그대로", PENDING, today.plusDays(1), today.plusDays(2));
+        final Store deleted = save("삭제됨", PENDING, today.minusDays(1), today.plusDays(1));
+        deleted.deleteStore(true);
+
+        // when
+        final List<StoreStatusChange> changes = storeRepository.findStatusChanges(today, 0L, PageRequest.ofSize(10));
+        final int updated = storeRepository.updateStatus(List.of(started.getId()), RESOLVED, LocalDateTime.now())
+                + storeRepository.updateStatus(List.of(ended.getId()), DISMISSED, LocalDateTime.now());
+
+        // then
+        assertThat(changes).containsExactly(
+                new StoreStatusChange(started.getId(), PENDING, RESOLVED),
+                new StoreStatusChange(ended.getId(), RESOLVED, DISMISSED));
+        assertThat(updated).isEqualTo(2);
+        assertThat(storeRepository.findStatusChanges(today, 0L, PageRequest.ofSize(10))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("스토어를 읽은 뒤 반영된 조회수는 엔티티를 저장해도 덮어쓰지 않는다")
+    void saveDoesNotOverwriteViewCount() {
+        // given
+        final Store store = save("조회수", RESOLVED, beauty, songpa);
+        entityManager.flush();
+        // 조회수 반영이 다른 트랜잭션에서 커밋된 것처럼 영속성 컨텍스트를 거치지 않고 올린다.
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE stores SET view_count = view_count + 3 WHERE id = :id")
+                .setParameter("id", store.getId())
+                .executeUpdate();
+
+        // when
+        store.deleteStore(true);
+        entityManager.flush();
+
+        // then
+        final Number viewCount = (Number) entityManager.getEntityManager()
+                .createNativeQuery("SELECT view_count FROM stores WHERE id = :id")
+                .setParameter("id", store.getId())
+                .getSingleResult();
+        assertThat(viewCount.longValue()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("검색 문서는 이름, 설명, 카테고리명, 주소를 함께 읽고 삭제된 스토어는 제외한다")
+    void findAllSearchDocuments() {
+        // given
+        final Store store = save("향수 공방", RESOLVED, beauty, songpa);
+        final Store deleted = save("삭제된 스토어", RESOLVED, beauty, songpa);
+        deleted.deleteStore(true);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        final List<StoreSearchDocument> result = storeRepository.findAllSearchDocuments();
+
+        // then
+        assertThat(result).containsExactly(
+                new StoreSearchDocument(store.getId(), "향수 공방", "설명", "뷰티", songpa.getAddress()));
+    }
+
+    @Test
+    @DisplayName("키워드 부분 일치 검색은 이름, 카테고리명, 주소로 찾는다")
+    void findIdsByKeyword() {
+        // given
+        final Store perfume = save("향수 공방", RESOLVED, beauty, songpa);
+        final Store clothes = save("빈티지 의류", RESOLVED, fashion, gangnam);
+
+        // when & then
+        assertThat(storeRepository.findIdsByKeyword("향수", PageRequest.ofSize(10)))
+                .containsExactly(perfume.getId());
+        assertThat(storeRepository.findIdsByKeyword("강남구 도산대로", PageRequest.ofSize(10)))
+                .containsExactly(clothes.getId());
+    }
+
+    private Store save(final String name, final StoreStatus status, final LocalDate startDate, final LocalDate endDate) {
+        return storeRepository.save(Store.builder()
+                .name(name)
+                .description("설명")
+                .startDate(startDate)
+                .endDate(endDate)
+                .storeStatus(status)
+                .category(beauty)
+                .location(songpa)
+                .build());
+    }
+
+    private List<Store> saveStoresWithDetails(final int count) {
+        final List<Store> stores = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            final Store store = Store.builder()
+                    .name("스토어" + i)
+                    .description("설명")
+                    .startDate(LocalDate.now())
+                    .endDate(LocalDate.now().plusDays(1))
+                    .storeStatus(RESOLVED)
+                    .category(beauty)
+                    .location(songpa)
+                    .build();
+            store.addImages(List.of(
+                    StoreImage.builder().imageUrl("http://127.0.0.1:4566/pinup/store/" + i + "/thumbnail.png").isThumbnail(true).build(),
+                    StoreImage.builder().imageUrl("http://127.0.0.1:4566/pinup/store/" + i + "/image.png").isThumbnail(false).build()
+            ));
+            store.addOperatingHours(List.of(StoreOperatingHour.builder()
+                    .days("월~금")
+                    .startTime(LocalTime.of(10, 0))
+                    .endTime(LocalTime.of(20, 0))
+                    .build()));
+            stores.add(storeRepository.save(store));
+        }
+
+        // 영속성 컨텍스트를 비워 조회 시 실제로 실행되는 쿼리만 센다.
+        entityManager.flush();
+        entityManager.clear();
+        queryCounter.reset();
+
+        return stores;
+    }
+
+    private List<Store> findPage(
+            final StoreStatus status, final String sigungu, final Long categoryId,
+            final StoreCursor cursor, final int size) {
+        return storeRepository.findPageByStatusPriority(
+                status, sigungu, categoryId, cursor.statusOrder(), cursor.id(), PageRequest.ofSize(size));
+    }
+
+    private Store save(final String name, final StoreStatus status, final StoreCategory category, final Location location) {
+        return storeRepository.save(Store.builder()
+                .name(name)
+                .description("설명")
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusDays(1))
+                .storeStatus(status)
+                .category(category)
+                .location(location)
+                .build());
+    }
+}
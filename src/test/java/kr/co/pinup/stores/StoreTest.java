@@ -30,6 +30,7 @@ class StoreTest {
 
         // Assert
         assertThat(store.getStoreStatus()).isEqualTo(newStatus);
+        assertThat(store.getStatusRank()).isEqualTo(newStatus.getOrder());
     }
 
     @DisplayName("팝업스토어 수정시 필드를 전체 수정한다")
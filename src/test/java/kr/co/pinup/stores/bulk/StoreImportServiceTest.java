@@ -0,0 +1,194 @@
+package kr.co.pinup.stores.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import kr.co.pinup.api.kakao.KakaoApiService;
+import kr.co.pinup.api.kakao.exception.KakaoApiException;
+import kr.co.pinup.api.kakao.model.dto.KakaoAddressDocument;
+import kr.co.pinup.custom.s3.S3Service;
+import kr.co.pinup.storecategories.StoreCategory;
+import kr.co.pinup.storecategories.repository.StoreCategoryRepository;
+import kr.co.pinup.stores.event.StoreChangedEvent;
+import kr.co.pinup.stores.model.dto.StoreImportResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class StoreImportServiceTest {
+
+    @Mock
+    private KakaoApiService kakaoApiService;
+
+    @Mock
+    private S3Service s3Service;
+
+    @Mock
+    private StoreCategoryRepository storeCategoryRepository;
+
+    @Mock
+    private StoreImportWriter storeImportWriter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ThreadPoolTaskExecutor importExecutor;
+
+    private StoreImportService storeImportService;
+
+    @BeforeEach
+    void setUp() {
+        importExecutor = new ThreadPoolTaskExecutor();
+        importExecutor.setCorePoolSize(2);
+        importExecutor.initialize();
+
+        storeImportService = new StoreImportService(
+                new ObjectMapper().findAndRegisterModules(),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                kakaoApiService, s3Service, storeCategoryRepository, storeImportWriter, eventPublisher,
+                transactionManager, importExecutor, 2);
+
+        final StoreCategory category = StoreCategory.builder().name("뷰티").build();
+        ReflectionTestUtils.setField(category, "id", 1L);
+        given(storeCategoryRepository.findAll()).willReturn(List.of(category));
+    }
+
+    @AfterEach
+    void tearDown() {
+        importExecutor.shutdown();
+    }
+
+    @DisplayName("올바른 줄은 묶음 단위로 저장하고, 잘못된 줄은 줄 번호와 사유를 알린다")
+    @Test
+    void importStores() throws IOException {
+        // Arrange
+        final String rows = String.join("\n",
+                row("성수 팝업", 1L, "a.jpg"),
+                "{잘못된 JSON",
+                row("강남 팝업", 99L, "a.jpg"),
+                row("홍대 팝업", 1L, "없는파일.jpg"),
+                row("잠실 팝업", 1L, "b.png"),
+                row("연남 팝업", 1L, "a.jpg"));
+
+        given(kakaoApiService.searchAddress(anyString()))
+                .willReturn(new KakaoAddressDocument("서울 성동구 연무장길 1", 127.05, 37.54));
+        given(s3Service.uploadFile(any(InputStream.class), anyLong(), anyString(), anyString(), eq("store")))
+                .willReturn("https://s3.test/store/image.jpg");
+        given(storeImportWriter.write(anyList(), any()))
+                .willReturn(List.of(10L, 11L))
+                .willReturn(List.of(12L));
+
+        final List<StoreImportResult> results = new ArrayList<>();
+
+        // Act
+        storeImportService.importStores(new ByteArrayInputStream(rows.getBytes(UTF_8)), archive(), results::add);
+
+        // Assert
+        assertThat(results).extracting(StoreImportResult::line)
+                .containsExactly(2L, 3L, 4L, 1L, 5L, 6L);
+        assertThat(results).filteredOn(StoreImportResult::success)
+                .extracting(StoreImportResult::storeId)
+                .containsExactly(10L, 11L, 12L);
+        assertThat(results.get(1).message()).contains("categoryId=99");
+        assertThat(results.get(2).message()).contains("없는파일.jpg");
+
+        then(storeImportWriter).should(times(2)).write(anyList(), any());
+        then(eventPublisher).should(times(2)).publishEvent(any(StoreChangedEvent.class));
+    }
+
+    @DisplayName("데이터 디스크립터로 쓴 zip 항목도 중앙 디렉터리의 실제 크기로 업로드한다")
+    @Test
+    void importStoresUploadsStreamedEntryWithKnownSize() throws IOException {
+        // Arrange
+        final String rows = row("성수 팝업", 1L, "a.jpg");
+
+        given(kakaoApiService.searchAddress(anyString()))
+                .willReturn(new KakaoAddressDocument("서울 성동구 연무장길 1", 127.05, 37.54));
+        given(s3Service.uploadFile(any(InputStream.class), anyLong(), anyString(), anyString(), eq("store")))
+                .willReturn("https://s3.test/store/image.jpg");
+        given(storeImportWriter.write(anyList(), any())).willReturn(List.of(10L));
+
+        // Act
+        storeImportService.importStores(new ByteArrayInputStream(rows.getBytes(UTF_8)), archive(), result -> {
+        });
+
+        // Assert
+        then(s3Service).should().uploadFile(
+                any(InputStream.class), eq((long) "a.jpg".getBytes(UTF_8).length), eq("image/jpeg"), eq("a.jpg"), eq("store"));
+    }
+
+    @DisplayName("주소 좌표를 찾지 못하면 해당 줄만 실패시키고 올린 이미지를 지운다")
+    @Test
+    void importStoresWithGeocodingFailure() throws IOException {
+        // Arrange
+        final String rows = row("성수 팝업", 1L, "a.jpg");
+
+        given(kakaoApiService.searchAddress(anyString())).willThrow(new KakaoApiException("주소 없음"));
+        given(s3Service.uploadFile(any(InputStream.class), anyLong(), anyString(), anyString(), eq("store")))
+                .willReturn("https://s3.test/store/image.jpg");
+        given(s3Service.extractFileName("https://s3.test/store/image.jpg")).willReturn("image.jpg");
+
+        final List<StoreImportResult> results = new ArrayList<>();
+
+        // Act
+        storeImportService.importStores(new ByteArrayInputStream(rows.getBytes(UTF_8)), archive(), results::add);
+
+        // Assert
+        assertThat(results).containsExactly(StoreImportResult.failure(1, "주소 좌표 조회 실패"));
+        then(s3Service).should(times(1)).deleteFromS3("store/image.jpg");
+        then(storeImportWriter).should(never()).write(anyList(), any());
+    }
+
+    private String row(final String name, final Long categoryId, final String image) {
+        return """
+                {"name":"%s","description":"팝업스토어 설명","startDate":"2025-03-01","endDate":"2025-03-31",\
+                "categoryId":%d,"zonecode":"04782","sido":"서울","sigungu":"성동구","address":"서울 성동구 연무장길 1",\
+                "operatingHours":[{"days":"월~금","startTime":"10:00","endTime":"20:00"}],"images":["%s"]}\
+                """.formatted(name, categoryId, image).strip();
+    }
+
+    private MockMultipartFile archive() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            for (String name : List.of("a.jpg", "b.png")) {
+                zip.putNextEntry(new ZipEntry(name));
+                zip.write(name.getBytes(UTF_8));
+                zip.closeEntry();
+            }
+        }
+        return new MockMultipartFile("images", "images.zip", "application/zip", bytes.toByteArray());
+    }
+}
@@ -0,0 +1,99 @@
+package kr.co.pinup.stores.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.co.pinup.stores.event.StoreChangedEvent;
+import kr.co.pinup.stores.model.dto.StoreResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static kr.co.pinup.stores.model.enums.StoreStatus.RESOLVED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StoreDetailCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @DisplayName("같은 버전이면 직렬화한 바이트를 재사용한다")
+    @Test
+    void getSameVersion() {
+        // Arrange
+        final StoreDetailCache cache = new StoreDetailCache(objectMapper, 1024 * 1024, 60_000);
+        final AtomicInteger loads = new AtomicInteger();
+        final Supplier<StoreResponse> loader = () -> {
+            loads.incrementAndGet();
+            return getStoreResponse(1L, "성수 팝업");
+        };
+
+        // Act
+        final StoreDetailCache.Entry first = cache.get(1L, 0L, loader);
+        final StoreDetailCache.Entry second = cache.get(1L, 0L, loader);
+
+        // Assert
+        assertThat(loads).hasValue(1);
+        assertThat(second.json()).isSameAs(first.json());
+        assertThat(new String(second.json(), UTF_8)).contains("\"name\":\"성수 팝업\"");
+        assertThat(cache.hitRatio()).isEqualTo(0.5);
+        assertThat(cache.usedBytes()).isGreaterThan(first.json().length);
+    }
+
+    @DisplayName("버전이 바뀌면 다시 만들고, 변경 이벤트를 받으면 항목을 버린다")
+    @Test
+    void invalidate() {
+        // Arrange
+        final StoreDetailCache cache = new StoreDetailCache(objectMapper, 1024 * 1024, 60_000);
+        cache.get(1L, 0L, () -> getStoreResponse(1L, "변경 전"));
+
+        // Act
+        final StoreDetailCache.Entry updated = cache.get(1L, 1L, () -> getStoreResponse(1L, "변경 후"));
+        cache.onStoreChanged(StoreChangedEvent.of(1L));
+
+        // Assert
+        assertThat(new String(updated.json(), UTF_8)).contains("변경 후");
+        assertThat(cache.size()).isZero();
+        assertThat(cache.usedBytes()).isZero();
+    }
+
+    @DisplayName("바이트 합계가 상한을 넘으면 가장 오래 쓰이지 않은 항목부터 버린다")
+    @Test
+    void evictLeastRecentlyUsed() {
+        // Arrange
+        final long entryBytes = cacheSizeOf(getStoreResponse(1L, "팝업"));
+        final StoreDetailCache cache = new StoreDetailCache(objectMapper, entryBytes * 2, 60_000);
+        cache.get(1L, 0L, () -> getStoreResponse(1L, "팝업"));
+        cache.get(2L, 0L, () -> getStoreResponse(2L, "팝업"));
+        cache.get(1L, 0L, () -> getStoreResponse(1L, "팝업"));
+
+        // Act
+        cache.get(3L, 0L, () -> getStoreResponse(3L, "팝업"));
+
+        // Assert
+        final AtomicInteger loads = new AtomicInteger();
+        cache.get(1L, 0L, () -> {
+            loads.incrementAndGet();
+            return getStoreResponse(1L, "팝업");
+        });
+        assertThat(loads).hasValue(0);
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.usedBytes()).isLessThanOrEqualTo(entryBytes * 2);
+    }
+
+    private long cacheSizeOf(final StoreResponse response) {
+        final StoreDetailCache probe = new StoreDetailCache(objectMapper, Long.MAX_VALUE, 60_000);
+        probe.get(response.id(), 0L, () -> response);
+        return probe.usedBytes();
+    }
+
+    private StoreResponse getStoreResponse(final Long id, final String name) {
+        return new StoreResponse(id, name, "팝업스토어 설명", RESOLVED,
+                LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31),
+                null, null, 0L, null, null, List.of(), List.of(),
+                LocalDateTime.of(2025, 2, 1, 10, 0), LocalDateTime.of(2025, 2, 2, 10, 0));
+    }
+}
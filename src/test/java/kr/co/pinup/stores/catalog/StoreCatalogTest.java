@@ -0,0 +1,445 @@
+package kr.co.pinup.stores.catalog;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.pinup.locations.event.LocationChangedEvent;
+import kr.co.pinup.storeoperatinghour.StoreOperatingDays;
+import kr.co.pinup.stores.event.StoreChangedEvent;
+import kr.co.pinup.stores.model.dto.StoreClusterResponse;
+import kr.co.pinup.stores.model.dto.StoreFacetCount;
+import kr.co.pinup.stores.model.dto.StoreFacetResponse;
+import kr.co.pinup.stores.model.dto.StoreSearchCondition;
+import kr.co.pinup.stores.model.dto.StoreSuggestionResponse;
+import kr.co.pinup.stores.model.dto.StoreThumbnailResponse;
+import kr.co.pinup.stores.model.enums.StoreStatus;
+import kr.co.pinup.stores.repository.StoreRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+import static kr.co.pinup.stores.model.enums.StoreStatus.*;
+import static kr.co.pinup.stores.model.enums.StoreSuggestionType.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class StoreCatalogTest {
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MeterRegistry meterRegistry;
+
+    private StoreCatalog storeCatalog;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        storeCatalog = new StoreCatalog(storeRepository, transactionManager, meterRegistry);
+    }
+
+    @DisplayName("전체 재구성 시 진행 상태 우선순위로 정렬된 스냅샷을 만든다")
+    @Test
+    void rebuild() {
+        // Arrange
+        final StoreCatalogEntry store1 = createEntry(1L, "store1", DISMISSED, "송파구");
+        final StoreCatalogEntry store2 = createEntry(2L, "store2", PENDING, "강남구");
+        final StoreCatalogEntry store3 = createEntry(3L, "store3", RESOLVED, "송파구");
+
+        given(storeRepository.findAllCatalogEntries()).willReturn(List.of(store1, store2, store3));
+
+        // Act
+        storeCatalog.rebuild();
+        final StoreCatalogSnapshot snapshot = storeCatalog.snapshot();
+
+        // Assert
+        assertThat(snapshot.getStores())
+                .extracting(StoreThumbnailResponse::id)
+                .containsExactly(3L, 2L, 1L);
+    }
+
+    @DisplayName("스냅샷이 없으면 첫 조회 시 한 번만 구성한다")
+    @Test
+    void snapshotLoadsLazily() {
+        // Arrange
+        given(storeRepository.findAllCatalogEntries()).willReturn(List.of(createEntry(1L, "store1", RESOLVED, "송파구")));
+
+        // Act
+        storeCatalog.snapshot();
+        final StoreCatalogSnapshot snapshot = storeCatalog.snapshot();
+
+        // Assert
+        assertThat(snapshot.size()).isEqualTo(1);
+        then(storeRepository).should(times(1))
+                .findAllCatalogEntries();
+        assertThat(meterRegistry.get("pinup.store.catalog.hits").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("pinup.store.catalog.rebuilds").tag("type", "full").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @DisplayName("스토어 변경 이벤트를 받으면 변경된 스토어만 다시 읽어 스냅샷을 교체한다")
+    @Test
+    void onStoreChanged() {
+        // Arrange
+        final StoreCatalogEntry store1 = createEntry(1L, "store1", PENDING, "송파구");
+        final StoreCatalogEntry store2 = createEntry(2L, "store2", PENDING, "송파구");
+        final StoreCatalogEntry updatedStore1 = createEntry(1L, "updated", RESOLVED, "강남구");
+
+        given(storeRepository.findAllCatalogEntries()).willReturn(List.of(store1, store2));
+        given(storeRepository.findCatalogEntriesByIdIn(List.of(1L, 2L))).willReturn(List.of(updatedStore1));
+        storeCatalog.rebuild();
+
+        // Act
+        storeCatalog.onStoreChanged(new StoreChangedEvent(List.of(1L, 2L)));
+
+        // Assert
+        final StoreCatalogSnapshot snapshot = storeCatalog.snapshot();
+        assertThat(snapshot.getStores())
+                .extracting(StoreThumbnailResponse::id, StoreThumbnailResponse::name, StoreThumbnailResponse::sigungu)
+                .containsExactly(tuple(1L, "updated", "강남구"));
+        assertThat(meterRegistry.get("pinup.store.catalog.rebuilds").tag("type", "incremental").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @DisplayName("부분 갱신에 실패하면 다음 조회 시 전체 재구성한다")
+    @Test
+    void refreshFailureFallsBackToRebuild() {
+        // Arrange
+        given(storeRepository.findAllCatalogEntries()).willReturn(List.of(createEntry(1L, "store1", RESOLVED, "송파구")));
+        given(storeRepository.findCatalogEntriesByIdIn(List.of(1L))).willThrow(new IllegalStateException("db down"));
+        storeCatalog.rebuild();
+
+        // Act
+        storeCatalog.refresh(List.of(1L));
+        storeCatalog.snapshot();
+
+        // Assert
+        then(storeRepository).should(times(2))
+                .findAllCatalogEntries();
+    }
+
+    @DisplayName("위치 변경 이벤트를 받으면 해당 위치를 쓰는 스토어만 다시 읽는다")
+    @Test
+    void onLocationChanged() {
+        // Arrange
+        final StoreCatalogEntry store1 = createEntry(1L, "store1", RESOLVED, "송파구", 10L);
+        final StoreCatalogEntry store2 = createEntry(2L, "store2", RESOLVED, "송파구", 20L);
+        final StoreCatalogEntry movedStore1 = createEntry(1L, "store1", RESOLVED, "강남구", 10L);
+
+        given(storeRepository.findAllCatalogEntries()).willReturn(List.of(store1, store2));
+        given(storeRepository.findCatalogEntriesByIdIn(List.of(1L))).willReturn(List.of(movedStore1));
+        storeCatalog.rebuild();
+
+        // Act
+        storeCatalog.onLocationChanged(new LocationChangedEvent(10L));
+
+        // Assert
+        assertThat(storeCatalog.snapshot().getStores())
+                .extracting(StoreThumbnailResponse::id, StoreThumbnailResponse::sigungu)
+                .containsExactly(tuple(1L, "강남구"), tuple(2L, "송파구"));
+        then(storeRepository).should(times(1))
+                .findCatalogEntriesByIdIn(List.of(1L));
+    }
+
+    @DisplayName("기준 좌표 반경 안의 스토어를 가까운 순으로 반환한다")
+    @Test
+    void getStoresNearby() {
+        // Arrange
+        final StoreCatalogEntry near = createEntry(1L, "near", RESOLVED, "송파구", 10L, 37.5140, 127.1040);
+        final StoreCatalogEntry nearer = createEntry(2L, "nearer", PENDING, "송파구", 11L, 37.5138, 127.1043);
+        final StoreCatalogEntry far = createEntry(3L, "far", RESOLVED, "중구", 12L, 37.5665, 126.9780);
+
+        given(storeRepository.findAllCatalogEntries()).willReturn(List.of(near, nearer, far));
+        storeCatalog.rebuild();
+
+        // Act
+        final StoreCatalogSnapshot snapshot = storeCatalog.snapshot();
+
+        // Assert
+        assertThat(snapshot.getStoresNearby(37.5137, 127.1043, 1000, null, 10))
+                .extracting(StoreThumbnailResponse::id)
+                .containsExactly(2L, 1L);
+        assertThat(snapshot.getStoresNearby(37.5137, 127.1043, 1000, RESOLVED, 10))
+                .extracting(StoreThumbnailResponse::id)
+                .containsExactly(1L);
+        assertThat(snapshot.getStoresNearby(37.5137, 127.1043, 20000, null, 2))
+                .extracting(StoreThumbnailResponse::id)
+                .containsExactly(2L, 1L);
+    }
+
+    @DisplayName("지도 레벨별 격자로 묶은 마커 클러스터를 스토어 수가 많은 순으로 반환한다")
+    @Test
+    void getClusters() {
+        // Arrange
+        final StoreCatalogEntry store1 = createEntry(1L, "store1", RESOLVED, "송파구", 10L, 37.51370, 127.10430);
+        final StoreCatalogEntry store2 = createEntry(2L, "store2", PENDING, "송파구", 11L, 37.51372, 127.10432);
+        final StoreCatalogEntry store3 = createEntry(3L, "store3", RESOLVED, "중구", 12L, 37.5665, 126.9780);
+
+        given(storeRepository.findAllCatalogEntries()).willReturn(List.of(store1, store2, store3));
+        storeCatalog.rebuild();
+
+        // Act
+        final StoreCatalogSnapshot snapshot = storeCatalog.snapshot();
+
+        // Assert
+        assertThat(snapshot.getClusters(37.5, 126.9, 37.6, 127.2, 1))
+                .extracting(StoreClusterResponse::count, StoreClusterResponse::sampleStoreId)
+                .containsExactly(tuple(2, 1L), tuple(1, 3L));
+        assertThat(snapshot.getClusters(37.50, 127.0, 37.52, 127.2, 1))
+                .extracting(StoreClusterResponse::sampleStoreId)
+                .containsExactly(1L);
+        assertThat(snapshot.getClusters(37.0, 126.0, 38.0, 128.0, 14))
+                .extracting(StoreClusterResponse::count, StoreClusterResponse::sampleStoreId)
+                .containsExactly(tuple(3, 1L));
+    }
+
+    @DisplayName("스냅샷이 교체되면 클러스터도 새 스냅샷 기준으로 계산한다")
+    @Test
+    void clustersFollowSnapshot() {
+        // Arrange
+        final StoreCatalogEntry store1 = createEntry(1L, "store1", RESOLVED, "송파구", 10L, 37.5137, 127.1043);
+        final StoreCatalogEntry movedStore1 = createEntry(1L, "store1", RESOLVED, "중구", 10L, 37.5665, 126.9780);
+
+        given(storeRepository.findAllCatalogEntries()).willReturn(List.of(store1));
+        given(storeRepository.findCatalogEntriesByIdIn(List.of(1L))).willReturn(List.of(movedStore1));
+        storeCatalog.rebuild();
+        storeCatalog.snapshot().getClusters(37.5, 127.0, 37.52, 127.2, 3);
+
+        // Act
+        storeCatalog.onLocationChanged(new LocationChangedEvent(10L));
+
+        // Assert
+        assertThat(storeCatalog.snapshot().getClusters(37.5, 127.0, 37.52, 127.2, 3)).isEmpty();
+        assertThat(storeCatalog.snapshot().getClusters(37.56, 126.9, 37.57, 127.0, 3))
+                .extracting(StoreClusterResponse::sampleStoreId)
+                .containsExactly(1L);
+    }
+
+    @DisplayName("접두어로 시작하는 스토어와 지역을 진행 상태 우선순위, 조회수 순으로 추천한다")
+    @Test
+    void getSuggestions() {
+        // Arrange
+        given(storeRepository.findAllCatalogEntries()).willReturn(List.of(
+                withViewCount(createEntry(1L, "성수 향수 공방", RESOLVED, "성동구"), 10L),
+                withViewCount(createEntry(2L, "성수 굿즈", PENDING, "성동구"), 100L),
+                withViewCount(createEntry(3L, "성수 빈티지", RESOLVED, "성동구"), 50L),
+                withViewCount(createEntry(4L, "송파 캔들", DISMISSED, "송파구"), 999L)));
+        storeCatalog.rebuild();
+
+        // Act
+        final StoreCatalogSnapshot snapshot = storeCatalog.snapshot();
+
+        // Assert
+        assertThat(snapshot.getSuggestions("성수", 10))
+                .extracting(StoreSuggestionResponse::text, StoreSuggestionResponse::storeId)
+                .containsExactly(tuple("성수 빈티지", 3L), tuple("성수 향수 공방", 1L), tuple("성수 굿즈", 2L));
+        assertThat(snapshot.getSuggestions("성", 2))
+                .extracting(StoreSuggestionResponse::text, StoreSuggestionResponse::type)
+                .containsExactly(tuple("성동구", SIGUNGU), tuple("성수 빈티지", STORE));
+        assertThat(snapshot.getSuggestions("서", 10))
+                .extracting(StoreSuggestionResponse::text, StoreSuggestionResponse::type)
+                .containsExactly(tuple("서울", SIDO));
+        assertThat(snapshot.getSuggestions("성수향", 10))
+                .extracting(StoreSuggestionResponse::storeId)
+                .containsExactly(1L);
+        assertThat(snapshot.getSuggestions("없는", 10)).isEmpty();
+    }
+
+    @DisplayName("진행 상태, 자치구, 카테고리별 개수를 나머지 필터를 적용해 집계한다")
+    @Test
+    void getFacets() {
+        // Arrange
+        given(storeRepository.findAllCatalogEntries()).willReturn(List.of(
+                withCategory(createEntry(1L, "store1", RESOLVED, "송파구"), 1L, "뷰티"),
+                withCategory(createEntry(2L, "store2", RESOLVED, "강남구"), 2L, "패션"),
+                withCategory(createEntry(3L, "store3", PENDING, "송파구"), 1L, "뷰티"),
+                withCategory(createEntry(4L, "store4", DISMISSED, "송파구"), 2L, "패션")));
+        storeCatalog.rebuild();
+
+        // Act
+        final StoreCatalogSnapshot snapshot = storeCatalog.snapshot();
+        final StoreFacetResponse all = snapshot.getFacets(new StoreSearchCondition(null, null, null));
+        final StoreFacetResponse filtered = snapshot.getFacets(new StoreSearchCondition(RESOLVED, "송파구", null));
+
+        // Assert
+        assertThat(all.total()).isEqualTo(4);
+        assertThat(all.statuses())
+                .extracting(StoreFacetCount::key, StoreFacetCount::count)
+                .containsExactly(tuple("RESOLVED", 2L), tuple("PENDING", 1L), tuple("DISMISSED", 1L));
+        assertThat(all.sigungus())
+                .extracting(StoreFacetCount::key, StoreFacetCount::count)
+                .containsExactly(tuple("송파구", 3L), tuple("강남구", 1L));
+
+        assertThat(filtered.total()).isEqualTo(1);
+        assertThat(filtered.statuses())
+                .extracting(StoreFacetCount::key, StoreFacetCount::count)
+                .containsExactly(tuple("RESOLVED", 1L), tuple("PENDING", 1L), tuple("DISMISSED", 1L));
+        assertThat(filtered.sigungus())
+                .extracting(StoreFacetCount::key, StoreFacetCount::count)
+                .containsExactly(tuple("강남구", 1L), tuple("송파구", 1L));
+        assertThat(filtered.categories())
+                .extracting(StoreFacetCount::label, StoreFacetCount::count)
+                .containsExactly(tuple("뷰티", 1L));
+    }
+
+    @DisplayName("스토어 상태가 바뀌면 새 스냅샷의 집계에 반영된다")
+    @Test
+    void facetsFollowStatusChange() {
+        // Arrange
+        final StoreCatalogEntry pending = createEntry(1L, "store1", PENDING, "송파구");
+        final StoreCatalogEntry resolved = createEntry(1L, "store1", RESOLVED, "송파구");
+
+        given(storeRepository.findAllCatalogEntries()).willReturn(List.of(pending));
+        given(storeRepository.findCatalogEntriesByIdIn(List.of(1L))).willReturn(List.of(resolved));
+        storeCatalog.rebuild();
+
+        // Act
+        storeCatalog.onStoreChanged(new StoreChangedEvent(List.of(1L)));
+
+        // Assert
+        assertThat(storeCatalog.snapshot().getFacets(new StoreSearchCondition(null, null, null)).statuses())
+                .extracting(StoreFacetCount::key, StoreFacetCount::count)
+                .containsExactly(tuple("RESOLVED", 1L), tuple("PENDING", 0L), tuple("DISMISSED", 0L));
+    }
+
+    @DisplayName("운영 요일과 시간으로 해당 시각에 운영 중인 스토어만 반환한다")
+    @Test
+    void getStoresOpenAt() {
+        // Arrange
+        final StoreCatalogEntry weekday = createEntry(1L, "평일 스토어", RESOLVED, "송파구");
+        final StoreCatalogEntry night = createEntry(2L, "심야 스토어", RESOLVED, "송파구");
+
+        given(storeRepository.findAllCatalogEntries()).willReturn(List.of(weekday, night));
+        given(storeRepository.findAllOperatingWindows()).willReturn(List.of(
+                new StoreOperatingWindow(1L, StoreOperatingDays.WEEKDAYS, "월~금", LocalTime.of(10, 0), LocalTime.of(20, 0)),
+                // day_mask 가 비어 있는 기존 운영 시간은 days 를 해석해서 쓴다.
+                new StoreOperatingWindow(2L, 0, "금, 토", LocalTime.of(22, 0), LocalTime.of(2, 0))));
+        storeCatalog.rebuild();
+
+        final LocalDate monday = LocalDate.now().with(TemporalAdjusters.nextOrSame(DayOfWeek.MONDAY));
+        final LocalDate saturday = LocalDate.now().with(TemporalAdjusters.nextOrSame(DayOfWeek.SATURDAY));
+        final StoreCatalogSnapshot snapshot = storeCatalog.snapshot();
+
+        // Act & Assert
+        assertThat(snapshot.getStoresOpenAt(monday.atTime(12, 0)))
+                .extracting(StoreThumbnailResponse::id)
+                .containsExactly(1L);
+        assertThat(snapshot.getStoresOpenAt(monday.atTime(20, 0))).isEmpty();
+        assertThat(snapshot.getStoresOpenAt(saturday.atTime(1, 30)))
+                .extracting(StoreThumbnailResponse::id)
+                .containsExactly(2L);
+        assertThat(snapshot.getStoresOpenAt(saturday.atTime(12, 0))).isEmpty();
+    }
+
+    @DisplayName("자정을 넘기는 운영 시간은 운영을 시작한 날짜로 운영 기간을 확인한다")
+    @Test
+    void openAtOvernightUsesOpeningDate() {
+        // Arrange
+        final StoreCatalogEntry night = createEntry(1L, "심야 스토어", RESOLVED, "송파구");
+        final LocalDate startDate = night.thumbnail().startDate();
+        final LocalDate endDate = night.thumbnail().endDate();
+
+        given(storeRepository.findAllCatalogEntries()).willReturn(List.of(night));
+        given(storeRepository.findAllOperatingWindows()).willReturn(List.of(
+                new StoreOperatingWindow(1L, StoreOperatingDays.EVERY_DAY, "매일", LocalTime.of(22, 0), LocalTime.of(2, 0))));
+        storeCatalog.rebuild();
+        final StoreCatalogSnapshot snapshot = storeCatalog.snapshot();
+
+        // Act & Assert
+        // 종료일 밤에 시작한 운영은 다음 날 새벽까지 이어진다.
+        assertThat(snapshot.getStoresOpenAt(endDate.plusDays(1).atTime(1, 0)))
+                .extracting(StoreThumbnailResponse::id)
+                .containsExactly(1L);
+        assertThat(snapshot.getStoresOpenAt(endDate.plusDays(1).atTime(23, 0))).isEmpty();
+        // 시작일 새벽은 시작일 전날 밤에 시작한 운영이므로 포함하지 않는다.
+        assertThat(snapshot.getStoresOpenAt(startDate.atTime(1, 0))).isEmpty();
+        assertThat(snapshot.getStoresOpenAt(startDate.atTime(23, 0)))
+                .extracting(StoreThumbnailResponse::id)
+                .containsExactly(1L);
+    }
+
+    @DisplayName("스토어가 바뀌면 운영 시간도 새로 읽어 운영 중 여부에 반영한다")
+    @Test
+    void openAtFollowsOperatingHourChange() {
+        // Arrange
+        final StoreCatalogEntry store = createEntry(1L, "store1", RESOLVED, "송파구");
+        final LocalDate monday = LocalDate.now().with(TemporalAdjusters.nextOrSame(DayOfWeek.MONDAY));
+
+        given(storeRepository.findAllCatalogEntries()).willReturn(List.of(store));
+        given(storeRepository.findAllOperatingWindows()).willReturn(List.of(
+                new StoreOperatingWindow(1L, StoreOperatingDays.WEEKEND, "주말", LocalTime.of(10, 0), LocalTime.of(20, 0))));
+        given(storeRepository.findCatalogEntriesByIdIn(List.of(1L))).willReturn(List.of(store));
+        given(storeRepository.findOperatingWindowsByStoreIdIn(List.of(1L))).willReturn(List.of(
+                new StoreOperatingWindow(1L, StoreOperatingDays.EVERY_DAY, "매일", LocalTime.of(10, 0), LocalTime.of(20, 0))));
+        storeCatalog.rebuild();
+        assertThat(storeCatalog.snapshot().getStoresOpenAt(monday.atTime(12, 0))).isEmpty();
+
+        // Act
+        storeCatalog.onStoreChanged(new StoreChangedEvent(List.of(1L)));
+
+        // Assert
+        assertThat(storeCatalog.snapshot().getStoresOpenAt(monday.atTime(12, 0)))
+                .extracting(StoreThumbnailResponse::id)
+                .containsExactly(1L);
+    }
+
+    private StoreCatalogEntry withCategory(final StoreCatalogEntry entry, final Long categoryId, final String categoryName) {
+        final StoreThumbnailResponse thumbnail = entry.thumbnail();
+        return new StoreCatalogEntry(
+                new StoreThumbnailResponse(thumbnail.id(), thumbnail.name(), thumbnail.status(), thumbnail.startDate(),
+                        thumbnail.endDate(), categoryName, thumbnail.sigungu(), thumbnail.thumbnailImage()),
+                categoryId, entry.locationId(), entry.sido(), entry.latitude(), entry.longitude(), entry.viewCount());
+    }
+
+    private StoreCatalogEntry withViewCount(final StoreCatalogEntry entry, final long viewCount) {
+        return new StoreCatalogEntry(entry.thumbnail(), entry.categoryId(), entry.locationId(),
+                entry.sido(), entry.latitude(), entry.longitude(), viewCount);
+    }
+
+    private StoreCatalogEntry createEntry(
+            final Long id, final String name, final StoreStatus status, final String sigungu) {
+        return createEntry(id, name, status, sigungu, 1L);
+    }
+
+    private StoreCatalogEntry createEntry(
+            final Long id, final String name, final StoreStatus status, final String sigungu, final Long locationId) {
+        return createEntry(id, name, status, sigungu, locationId, 37.5137, 127.1043);
+    }
+
+    private StoreCatalogEntry createEntry(
+            final Long id, final String name, final StoreStatus status, final String sigungu,
+            final Long locationId, final double latitude, final double longitude) {
+        return new StoreCatalogEntry(
+                id,
+                name,
+                status,
+                LocalDate.now(),
+                LocalDate.now().plusDays(10),
+                1L,
+                "뷰티",
+                locationId,
+                "서울",
+                sigungu,
+                latitude,
+                longitude,
+                0L,
+                "http://127.0.0.1:4566/pinup/store/image" + id + ".png"
+        );
+    }
+}
@@ -1,19 +1,32 @@
 package kr.co.pinup.stores.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import kr.co.pinup.config.ExceptionHandlerConfig;
 import kr.co.pinup.config.LoggerConfig;
+import kr.co.pinup.custom.pagination.CursorPageResponse;
+import kr.co.pinup.custom.version.AggregateVersionRegistry;
 import kr.co.pinup.locations.model.dto.LocationResponse;
 import kr.co.pinup.notices.model.dto.NoticeCreateRequest;
 import kr.co.pinup.storecategories.model.dto.StoreCategoryResponse;
 import kr.co.pinup.storeimages.model.dto.StoreImageResponse;
 import kr.co.pinup.storeoperatinghour.model.dto.StoreOperatingHourRequest;
 import kr.co.pinup.storeoperatinghour.model.dto.StoreOperatingHourResponse;
+import kr.co.pinup.stores.bulk.StoreImportService;
+import kr.co.pinup.stores.cache.StoreDetailCache;
+import kr.co.pinup.stores.counter.StoreViewCounter;
 import kr.co.pinup.stores.exception.StoreNotFoundException;
+import kr.co.pinup.stores.model.dto.StoreClusterResponse;
+import kr.co.pinup.stores.model.dto.StoreFacetCount;
+import kr.co.pinup.stores.model.dto.StoreFacetResponse;
+import kr.co.pinup.stores.model.dto.StoreImportResult;
 import kr.co.pinup.stores.model.dto.StoreRequest;
 import kr.co.pinup.stores.model.dto.StoreResponse;
+import kr.co.pinup.stores.model.dto.StoreSearchCondition;
+import kr.co.pinup.stores.model.dto.StoreSuggestionResponse;
 import kr.co.pinup.stores.model.dto.StoreThumbnailResponse;
 import kr.co.pinup.stores.model.dto.StoreUpdateRequest;
+import kr.co.pinup.stores.model.enums.StoreSuggestionType;
 import kr.co.pinup.stores.service.StoreService;
 import kr.co.pinup.support.RestDocsSupport;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,6 +39,7 @@ import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfi
 import org.springframework.boot.autoconfigure.thymeleaf.ThymeleafAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.restdocs.RestDocumentationContextProvider;
 import org.springframework.restdocs.RestDocumentationExtension;
@@ -33,24 +47,29 @@ import org.springframework.restdocs.constraints.ConstraintDescriptions;
 import org.springframework.restdocs.mockmvc.RestDocumentationResultHandler;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 import wiremock.com.jayway.jsonpath.JsonPath;
 
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static kr.co.pinup.stores.model.enums.StoreStatus.RESOLVED;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.not;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.*;
 import static org.mockito.Mockito.times;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON;
 import static org.springframework.http.MediaType.IMAGE_JPEG_VALUE;
 import static org.springframework.http.MediaType.MULTIPART_FORM_DATA;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.documentationConfiguration;
@@ -59,6 +78,7 @@ import static org.springframework.restdocs.payload.JsonFieldType.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
 import static org.springframework.restdocs.request.RequestDocumentation.*;
 import static org.springframework.restdocs.snippet.Attributes.key;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -69,7 +89,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
                 OAuth2ClientAutoConfiguration.class
         })
 @ExtendWith(RestDocumentationExtension.class)
-@Import({RestDocsSupport.class, LoggerConfig.class, ExceptionHandlerConfig.class})
+@Import({RestDocsSupport.class, LoggerConfig.class, ExceptionHandlerConfig.class, AggregateVersionRegistry.class, StoreDetailCache.class})
 public class StoreApiControllerTest {
 
     @Autowired
@@ -81,9 +101,15 @@ public class StoreApiControllerTest {
     @Autowired
     private RestDocumentationResultHandler restDocs;
 
+    @Autowired
+    private AggregateVersionRegistry versionRegistry;
+
     @MockitoBean
     private StoreService storeService;
 
+    @MockitoBean
+    private StoreImportService storeImportService;
+
     @BeforeEach
     void setUp(final WebApplicationContext context,
                final RestDocumentationContextProvider provider) {
@@ -206,6 +232,396 @@ public class StoreApiControllerTest {
         ));
     }
 
+    @DisplayName("커서 기반으로 팝업스토어 요약 정보 페이지를 반환한다")
+    @Test
+    void getStoreThumbnailPage() throws Exception {
+        // Arrange
+        final int size = 2;
+        final StoreSearchCondition condition = new StoreSearchCondition(RESOLVED, "송파구", 1L);
+        final CursorPageResponse<StoreThumbnailResponse> response = new CursorPageResponse<>(
+                List.of(getStoreThumbnailResponse(), getStoreThumbnailResponse()), "MDoy", true);
+
+        given(storeService.getStoreThumbnailPage(condition, null, size)).willReturn(response);
+
+        // Act & Assert
+        final ResultActions result = mockMvc.perform(get("/api/stores/summary")
+                        .param("status", "resolved")
+                        .param("sigungu", "송파구")
+                        .param("categoryId", "1")
+                        .param("size", String.valueOf(size)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(size))
+                .andExpect(jsonPath("$.nextCursor").value("MDoy"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+
+        then(storeService).should(times(1))
+                .getStoreThumbnailPage(condition, null, size);
+
+        result.andDo(restDocs.document(
+                queryParameters(
+                        parameterWithName("status").optional().description("진행 상태 필터 (resolved, pending, dismissed, all)"),
+                        parameterWithName("sigungu").optional().description("자치구 필터 (all 이면 전체)"),
+                        parameterWithName("categoryId").optional().description("카테고리 아이디 필터"),
+                        parameterWithName("cursor").optional().description("이전 페이지 응답의 nextCursor"),
+                        parameterWithName("size").description("페이지 크기 (1 ~ 100)")
+                ),
+                responseFields(
+                        fieldWithPath("items[].id").type(NUMBER).description("팝업스토어 아이디"),
+                        fieldWithPath("items[].name").type(STRING).description("팝업스토어명"),
+                        fieldWithPath("items[].status").type(STRING).description("팝업스토어 상태"),
+                        fieldWithPath("items[].startDate").type(STRING).description("팝업스토어 시작날짜"),
+                        fieldWithPath("items[].endDate").type(STRING).description("팝업스토어 종료날짜"),
+                        fieldWithPath("items[].categoryName").type(STRING).description("팝업스토어 카테고리명"),
+                        fieldWithPath("items[].sigungu").type(STRING).description("팝업스토어 위치 시/군/구"),
+                        fieldWithPath("items[].thumbnailImage").type(STRING).description("팝업스토어 썸네일 이미지 URL"),
+                        fieldWithPath("nextCursor").type(STRING).optional().description("다음 페이지 커서"),
+                        fieldWithPath("hasNext").type(BOOLEAN).description("다음 페이지 존재 여부")
+                )
+        ));
+    }
+
+    @DisplayName("커서 기반으로 팝업스토어 페이지를 반환한다")
+    @Test
+    void getStorePage() throws Exception {
+        // Arrange
+        final int size = 1;
+        final String cursor = "MDox";
+        final StoreSearchCondition condition = new StoreSearchCondition(null, null, null);
+        final CursorPageResponse<StoreResponse> response =
+                new CursorPageResponse<>(List.of(getStoreResponse()), null, false);
+
+        given(storeService.getStorePage(condition, cursor, size)).willReturn(response);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/stores")
+                        .param("cursor", cursor)
+                        .param("size", String.valueOf(size)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(size))
+                .andExpect(jsonPath("$.items[0].name").exists())
+                .andExpect(jsonPath("$.hasNext").value(false));
+
+        then(storeService).should(times(1))
+                .getStorePage(condition, cursor, size);
+        then(storeService).should(never())
+                .getStores();
+    }
+
+    @DisplayName("페이지 크기가 범위를 벗어나면 400을 반환한다")
+    @Test
+    void getStorePageWithInvalidSize() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/stores")
+                        .param("size", "101"))
+                .andExpect(status().isBadRequest());
+
+        then(storeService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("기준 좌표 반경 안의 팝업스토어를 가까운 순으로 반환한다")
+    @Test
+    void getStoresNearby() throws Exception {
+        // Arrange
+        final double lat = 37.5137;
+        final double lng = 127.1043;
+
+        given(storeService.getStoresNearby(lat, lng, 500, RESOLVED, 10))
+                .willReturn(List.of(getStoreThumbnailResponse()));
+
+        // Act & Assert
+        final ResultActions result = mockMvc.perform(get("/api/stores/nearby")
+                        .param("lat", String.valueOf(lat))
+                        .param("lng", String.valueOf(lng))
+                        .param("radius", "500")
+                        .param("status", "resolved")
+                        .param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].name").exists());
+
+        then(storeService).should(times(1))
+                .getStoresNearby(lat, lng, 500, RESOLVED, 10);
+
+        result.andDo(restDocs.document(
+                queryParameters(
+                        parameterWithName("lat").description("기준 위도 (-90 ~ 90)"),
+                        parameterWithName("lng").description("기준 경도 (-180 ~ 180)"),
+                        parameterWithName("radius").optional().description("검색 반경 미터 (1 ~ 20000, 기본 1000)"),
+                        parameterWithName("status").optional().description("진행 상태 필터 (resolved, pending, dismissed, all)"),
+                        parameterWithName("limit").optional().description("최대 개수 (1 ~ 100, 기본 50)")
+                ),
+                responseFields(
+                        fieldWithPath("[].id").type(NUMBER).description("팝업스토어 아이디"),
+                        fieldWithPath("[].name").type(STRING).description("팝업스토어명"),
+                        fieldWithPath("[].status").type(STRING).description("팝업스토어 상태"),
+                        fieldWithPath("[].startDate").type(STRING).description("팝업스토어 시작날짜"),
+                        fieldWithPath("[].endDate").type(STRING).description("팝업스토어 종료날짜"),
+                        fieldWithPath("[].categoryName").type(STRING).description("팝업스토어 카테고리명"),
+                        fieldWithPath("[].sigungu").type(STRING).description("팝업스토어 위치 시/군/구"),
+                        fieldWithPath("[].thumbnailImage").type(STRING).description("팝업스토어 썸네일 이미지 URL")
+                )
+        ));
+    }
+
+    @DisplayName("지정한 시각에 운영 중인 팝업스토어 요약 정보를 반환한다")
+    @Test
+    void getStoresOpenAt() throws Exception {
+        // Arrange
+        final LocalDateTime openAt = LocalDateTime.of(2025, 7, 7, 12, 0);
+
+        given(storeService.getStoresOpenAt(openAt))
+                .willReturn(List.of(getStoreThumbnailResponse()));
+
+        // Act & Assert
+        final ResultActions result = mockMvc.perform(get("/api/stores")
+                        .param("openAt", "2025-07-07T12:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].name").exists());
+
+        then(storeService).should(times(1))
+                .getStoresOpenAt(openAt);
+
+        result.andDo(restDocs.document(
+                queryParameters(
+                        parameterWithName("openAt").description("운영 여부를 확인할 시각 (ISO-8601, 예: 2025-07-07T12:00:00)")
+                ),
+                responseFields(
+                        fieldWithPath("[].id").type(NUMBER).description("팝업스토어 아이디"),
+                        fieldWithPath("[].name").type(STRING).description("팝업스토어명"),
+                        fieldWithPath("[].status").type(STRING).description("팝업스토어 상태"),
+                        fieldWithPath("[].startDate").type(STRING).description("팝업스토어 시작날짜"),
+                        fieldWithPath("[].endDate").type(STRING).description("팝업스토어 종료날짜"),
+                        fieldWithPath("[].categoryName").type(STRING).description("팝업스토어 카테고리명"),
+                        fieldWithPath("[].sigungu").type(STRING).description("팝업스토어 위치 시/군/구"),
+                        fieldWithPath("[].thumbnailImage").type(STRING).description("팝업스토어 썸네일 이미지 URL")
+                )
+        ));
+    }
+
+    @DisplayName("운영 시각과 페이지 크기를 함께 보내면 페이지 조회로 처리한다")
+    @Test
+    void getStorePageWithOpenAt() throws Exception {
+        // Arrange
+        final int size = 1;
+        final StoreSearchCondition condition = new StoreSearchCondition(null, null, null);
+        final CursorPageResponse<StoreResponse> response =
+                new CursorPageResponse<>(List.of(getStoreResponse()), null, false);
+
+        given(storeService.getStorePage(condition, null, size)).willReturn(response);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/stores")
+                        .param("openAt", "2025-07-07T12:00:00")
+                        .param("size", String.valueOf(size)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(size));
+
+        then(storeService).should(times(1))
+                .getStorePage(condition, null, size);
+        then(storeService).should(never())
+                .getStoresOpenAt(any());
+    }
+
+    @DisplayName("검색어와 관련도가 높은 순으로 팝업스토어를 반환한다")
+    @Test
+    void searchStores() throws Exception {
+        // Arrange
+        given(storeService.searchStores("향수", 10)).willReturn(List.of(getStoreThumbnailResponse()));
+
+        // Act & Assert
+        final ResultActions result = mockMvc.perform(get("/api/stores/search")
+                        .param("q", "향수")
+                        .param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].name").exists());
+
+        then(storeService).should(times(1))
+                .searchStores("향수", 10);
+
+        result.andDo(restDocs.document(
+                queryParameters(
+                        parameterWithName("q").description("검색어 (이름, 설명, 카테고리명, 주소, 최대 50자)"),
+                        parameterWithName("limit").optional().description("최대 개수 (1 ~ 100, 기본 20)")
+                ),
+                responseFields(
+                        fieldWithPath("[].id").type(NUMBER).description("팝업스토어 아이디"),
+                        fieldWithPath("[].name").type(STRING).description("팝업스토어명"),
+                        fieldWithPath("[].status").type(STRING).description("팝업스토어 상태"),
+                        fieldWithPath("[].startDate").type(STRING).description("팝업스토어 시작날짜"),
+                        fieldWithPath("[].endDate").type(STRING).description("팝업스토어 종료날짜"),
+                        fieldWithPath("[].categoryName").type(STRING).description("팝업스토어 카테고리명"),
+                        fieldWithPath("[].sigungu").type(STRING).description("팝업스토어 위치 시/군/구"),
+                        fieldWithPath("[].thumbnailImage").type(STRING).description("팝업스토어 썸네일 이미지 URL")
+                )
+        ));
+    }
+
+    @DisplayName("검색어가 비어 있으면 400을 반환한다")
+    @Test
+    void searchStoresWithBlankQuery() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/stores/search")
+                        .param("q", " "))
+                .andExpect(status().isBadRequest());
+
+        then(storeService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("필터 조건에 따른 진행 상태, 자치구, 카테고리별 개수를 반환한다")
+    @Test
+    void getFacets() throws Exception {
+        // Arrange
+        final StoreSearchCondition condition = new StoreSearchCondition(RESOLVED, null, null);
+        final StoreFacetResponse response = new StoreFacetResponse(3,
+                List.of(new StoreFacetCount("RESOLVED", "진행 중", 3),
+                        new StoreFacetCount("PENDING", "진행 예정", 1),
+                        new StoreFacetCount("DISMISSED", "종료됨", 0)),
+                List.of(new StoreFacetCount("송파구", "송파구", 2),
+                        new StoreFacetCount("강남구", "강남구", 1)),
+                List.of(new StoreFacetCount("1", "뷰티", 3)));
+
+        given(storeService.getFacets(condition)).willReturn(response);
+
+        // Act & Assert
+        final ResultActions result = mockMvc.perform(get("/api/stores/facets")
+                        .param("status", "resolved")
+                        .param("sigungu", "all"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.statuses.length()").value(3))
+                .andExpect(jsonPath("$.sigungus[0].key").value("송파구"));
+
+        then(storeService).should(times(1))
+                .getFacets(condition);
+
+        result.andDo(restDocs.document(
+                queryParameters(
+                        parameterWithName("status").optional().description("진행 상태 필터 (resolved, pending, dismissed, all)"),
+                        parameterWithName("sigungu").optional().description("자치구 필터 (all 이면 전체)"),
+                        parameterWithName("categoryId").optional().description("카테고리 아이디 필터")
+                ),
+                responseFields(
+                        fieldWithPath("total").type(NUMBER).description("모든 필터를 적용한 팝업스토어 수"),
+                        fieldWithPath("statuses[].key").type(STRING).description("진행 상태"),
+                        fieldWithPath("statuses[].label").type(STRING).description("진행 상태 이름"),
+                        fieldWithPath("statuses[].count").type(NUMBER).description("자치구, 카테고리 필터를 적용한 개수"),
+                        fieldWithPath("sigungus[].key").type(STRING).description("자치구"),
+                        fieldWithPath("sigungus[].label").type(STRING).description("자치구 이름"),
+                        fieldWithPath("sigungus[].count").type(NUMBER).description("진행 상태, 카테고리 필터를 적용한 개수"),
+                        fieldWithPath("categories[].key").type(STRING).description("카테고리 아이디"),
+                        fieldWithPath("categories[].label").type(STRING).description("카테고리명"),
+                        fieldWithPath("categories[].count").type(NUMBER).description("진행 상태, 자치구 필터를 적용한 개수")
+                )
+        ));
+    }
+
+    @DisplayName("접두어로 시작하는 스토어와 지역 추천 목록을 반환한다")
+    @Test
+    void getSuggestions() throws Exception {
+        // Arrange
+        final List<StoreSuggestionResponse> response = List.of(
+                new StoreSuggestionResponse("송파구", StoreSuggestionType.SIGUNGU, null),
+                new StoreSuggestionResponse("송파 캔들 팝업", StoreSuggestionType.STORE, 1L));
+
+        given(storeService.getSuggestions("송파", 5)).willReturn(response);
+
+        // Act & Assert
+        final ResultActions result = mockMvc.perform(get("/api/stores/autocomplete")
+                        .param("prefix", "송파")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].type").value("SIGUNGU"))
+                .andExpect(jsonPath("$[1].storeId").value(1));
+
+        then(storeService).should(times(1))
+                .getSuggestions("송파", 5);
+
+        result.andDo(restDocs.document(
+                queryParameters(
+                        parameterWithName("prefix").description("입력 중인 검색어 (최대 30자)"),
+                        parameterWithName("limit").optional().description("최대 개수 (1 ~ 20, 기본 10)")
+                ),
+                responseFields(
+                        fieldWithPath("[].text").type(STRING).description("추천 문구"),
+                        fieldWithPath("[].type").type(STRING).description("추천 종류 (STORE, SIDO, SIGUNGU)"),
+                        fieldWithPath("[].storeId").type(NUMBER).optional().description("팝업스토어 아이디 (STORE 인 경우)")
+                )
+        ));
+    }
+
+    @DisplayName("지도 영역과 레벨로 마커 클러스터를 반환한다")
+    @Test
+    void getStoreClusters() throws Exception {
+        // Arrange
+        final List<StoreClusterResponse> response = List.of(
+                new StoreClusterResponse(37.5137, 127.1043, 3, 1L),
+                new StoreClusterResponse(37.5665, 126.978, 1, 4L));
+
+        given(storeService.getStoreClusters(37.4, 126.8, 37.7, 127.2, 7)).willReturn(response);
+
+        // Act & Assert
+        final ResultActions result = mockMvc.perform(get("/api/stores/clusters")
+                        .param("swLat", "37.4")
+                        .param("swLng", "126.8")
+                        .param("neLat", "37.7")
+                        .param("neLng", "127.2")
+                        .param("level", "7"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].count").value(3))
+                .andExpect(jsonPath("$[0].sampleStoreId").value(1));
+
+        then(storeService).should(times(1))
+                .getStoreClusters(37.4, 126.8, 37.7, 127.2, 7);
+
+        result.andDo(restDocs.document(
+                queryParameters(
+                        parameterWithName("swLat").description("지도 영역 남서쪽 위도"),
+                        parameterWithName("swLng").description("지도 영역 남서쪽 경도"),
+                        parameterWithName("neLat").description("지도 영역 북동쪽 위도"),
+                        parameterWithName("neLng").description("지도 영역 북동쪽 경도"),
+                        parameterWithName("level").description("카카오 지도 레벨 (1 ~ 14)")
+                ),
+                responseFields(
+                        fieldWithPath("[].latitude").type(NUMBER).description("클러스터 중심 위도"),
+                        fieldWithPath("[].longitude").type(NUMBER).description("클러스터 중심 경도"),
+                        fieldWithPath("[].count").type(NUMBER).description("클러스터에 포함된 팝업스토어 수"),
+                        fieldWithPath("[].sampleStoreId").type(NUMBER).description("대표 팝업스토어 아이디")
+                )
+        ));
+    }
+
+    @DisplayName("지도 레벨이 범위를 벗어나면 400을 반환한다")
+    @Test
+    void getStoreClustersWithInvalidLevel() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/stores/clusters")
+                        .param("swLat", "37.4")
+                        .param("swLng", "126.8")
+                        .param("neLat", "37.7")
+                        .param("neLng", "127.2")
+                        .param("level", "15"))
+                .andExpect(status().isBadRequest());
+
+        then(storeService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("반경이 범위를 벗어나면 400을 반환한다")
+    @Test
+    void getStoresNearbyWithInvalidRadius() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/stores/nearby")
+                        .param("lat", "37.5137")
+                        .param("lng", "127.1043")
+                        .param("radius", "50000"))
+                .andExpect(status().isBadRequest());
+
+        then(storeService).shouldHaveNoInteractions();
+    }
+
     @DisplayName("팝업스토어 ID로 조회")
     @Test
     void getStoreById() throws Exception {
@@ -234,6 +650,8 @@ public class StoreApiControllerTest {
 
         then(storeService).should(times(1))
                 .getStoreById(id);
+        then(storeService).should(times(1))
+                .recordView(id);
 
         result.andDo(restDocs.document(
                 pathParameters(
@@ -275,6 +693,60 @@ public class StoreApiControllerTest {
         ));
     }
 
+    @DisplayName("If-None-Match 가 마지막 ETag 와 같으면 조회 없이 304 NOT_MODIFIED를 반환한다")
+    @Test
+    void getStoreByIdWithMatchedETagReturnNotModified() throws Exception {
+        // Arrange
+        final long id = 2L;
+
+        given(storeService.getStoreById(id)).willReturn(getStoreResponse());
+
+        final String eTag = mockMvc.perform(get("/api/stores/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        // Act & Assert
+        mockMvc.perform(get("/api/stores/{id}", id)
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        then(storeService).should(times(1))
+                .getStoreById(id);
+        then(storeService).should(times(2))
+                .recordView(id);
+    }
+
+    @DisplayName("조회수가 반영되면 이전 ETag 로 재검증해도 200 OK와 새 조회수를 반환한다")
+    @Test
+    void getStoreByIdAfterViewCountFlushReturnsNewViewCount() throws Exception {
+        // Arrange
+        final long id = 3L;
+        final StoreViewCounter storeViewCounter =
+                new StoreViewCounter(mock(JdbcTemplate.class), new SimpleMeterRegistry(), versionRegistry);
+
+        given(storeService.getStoreById(id)).willReturn(getStoreResponse(0));
+        final String eTag = mockMvc.perform(get("/api/stores/{id}", id))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        storeViewCounter.record(id);
+        storeViewCounter.flush();
+        given(storeService.getStoreById(id)).willReturn(getStoreResponse(1));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/stores/{id}", id)
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(eTag)))
+                .andExpect(jsonPath("$.viewCount").value(1));
+    }
+
     @DisplayName("존재하지 않는 ID로 팝업스토어 조회시에 404 NOT_FOUND와 error 페이지를 반환한다.")
     @Test
     void getStoreByIdWithNonExistIdReturnNotFoundAndErrorView() throws Exception {
@@ -294,6 +766,42 @@ public class StoreApiControllerTest {
                 .getStoreById(id);
     }
 
+    @DisplayName("팝업스토어 일괄 등록 결과를 줄마다 NDJSON 으로 반환한다")
+    @Test
+    void importStores() throws Exception {
+        // Arrange
+        final MockMultipartFile file = new MockMultipartFile(
+                "file", "stores.jsonl", "application/x-ndjson", "{}\n{}\n".getBytes(UTF_8));
+
+        willAnswer(invocation -> {
+            final Consumer<StoreImportResult> listener = invocation.getArgument(2);
+            listener.accept(StoreImportResult.success(1, 10L));
+            listener.accept(StoreImportResult.failure(2, "주소 좌표 조회 실패"));
+            return null;
+        }).given(storeImportService).importStores(any(InputStream.class), any(), any());
+
+        // Act
+        final MvcResult mvcResult = mockMvc.perform(multipart("/api/stores/import")
+                        .file(file)
+                        .contentType(MULTIPART_FORM_DATA))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        final String content = mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(UTF_8);
+
+        final String[] lines = content.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(JsonPath.<Integer>read(lines[0], "$.storeId")).isEqualTo(10);
+        assertThat(JsonPath.<Boolean>read(lines[1], "$.success")).isFalse();
+        assertThat(JsonPath.<String>read(lines[1], "$.message")).isEqualTo("주소 좌표 조회 실패");
+    }
+
     @DisplayName("팝업스토어를 정상적으로 저장한다")
     @Test
     void createStore() throws Exception {
@@ -1475,6 +1983,10 @@ public class StoreApiControllerTest {
     }
 
     private StoreResponse getStoreResponse() {
+        return getStoreResponse(0);
+    }
+
+    private StoreResponse getStoreResponse(final long viewCount) {
         return new StoreResponse(
                 1L,
                 "store",
@@ -1484,7 +1996,7 @@ public class StoreApiControllerTest {
                 LocalDate.now().plusDays(10),
                 "",
                 "https://instgram.com/test",
-                0,
+                viewCount,
                 getStoreCategoryResponse(),
                 getLocationResponse(),
                 List.of(getStoreOperatingHourResponse()),
@@ -1,13 +1,14 @@
 package kr.co.pinup.stores.controller;
 
 import kr.co.pinup.custom.logging.AppLogger;
+import kr.co.pinup.custom.pagination.CursorPageResponse;
 import kr.co.pinup.locations.model.dto.LocationResponse;
 import kr.co.pinup.storecategories.model.dto.StoreCategoryResponse;
 import kr.co.pinup.storecategories.service.StoreCategoryService;
 import kr.co.pinup.stores.exception.StoreNotFoundException;
 import kr.co.pinup.stores.model.dto.StoreResponse;
+import kr.co.pinup.stores.model.dto.StoreSearchCondition;
 import kr.co.pinup.stores.model.dto.StoreThumbnailResponse;
-import kr.co.pinup.stores.model.enums.StoreStatus;
 import kr.co.pinup.stores.service.StoreService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -57,11 +58,12 @@ public class StoreControllerTest {
     @Test
     void listStores() throws Exception {
         // Arrange
-        final StoreStatus status = RESOLVED;
         final String sigungu = "all";
-        final List<StoreThumbnailResponse> stores = List.of();
+        final StoreSearchCondition condition = new StoreSearchCondition(RESOLVED, null, null);
+        final CursorPageResponse<StoreThumbnailResponse> page =
+                new CursorPageResponse<>(List.of(), "next-cursor", true);
 
-        given(storeService.getStoresByStatus(status)).willReturn(stores);
+        given(storeService.getStoreThumbnailPage(condition, null, 20)).willReturn(page);
 
         // Act & Assert
         mockMvc.perform(get("/stores")
@@ -71,10 +73,40 @@ public class StoreControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(view().name(VIEW_PATH + "/list"))
                 .andExpect(model().attributeExists("selectedStatus"))
-                .andExpect(model().attributeExists("stores"));
+                .andExpect(model().attributeExists("stores"))
+                .andExpect(model().attributeExists("categories"))
+                .andExpect(model().attribute("nextCursor", "next-cursor"));
 
         then(storeService).should(times(1))
-                .findAll(status, sigungu);
+                .getStoreThumbnailPage(condition, null, 20);
+    }
+
+    @DisplayName("커서와 카테고리 필터로 팝업스토어 list 다음 페이지를 반환한다")
+    @Test
+    void listStoresWithCursorAndCategory() throws Exception {
+        // Arrange
+        final String cursor = "cursor";
+        final StoreSearchCondition condition = new StoreSearchCondition(null, "송파구", 1L);
+        final CursorPageResponse<StoreThumbnailResponse> page =
+                new CursorPageResponse<>(List.of(), null, false);
+
+        given(storeService.getStoreThumbnailPage(condition, cursor, 20)).willReturn(page);
+
+        // Act & Assert
+        mockMvc.perform(get("/stores")
+                        .param("status", "all")
+                        .param("sigungu", "송파구")
+                        .param("categoryId", "1")
+                        .param("cursor", cursor))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(view().name(VIEW_PATH + "/list"))
+                .andExpect(model().attribute("selectedSigungu", "송파구"))
+                .andExpect(model().attribute("selectedCategoryId", 1L))
+                .andExpect(model().attributeDoesNotExist("nextCursor"));
+
+        then(storeService).should(times(1))
+                .getStoreThumbnailPage(condition, cursor, 20);
     }
 
     @DisplayName("팝업스토어 detail 페이지 뷰를 반환한다")
@@ -98,6 +130,8 @@ public class StoreControllerTest {
 
         then(storeService).should(times(1))
                 .getStoreById(id);
+        then(storeService).should(times(1))
+                .recordView(id);
     }
 
     @DisplayName("존재하지 않는 ID로 detail 페이지를 요청시에 404 NOT_FOUND와 error 페이지를 반환한다.")
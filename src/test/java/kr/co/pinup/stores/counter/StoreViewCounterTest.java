@@ -0,0 +1,127 @@
+package kr.co.pinup.stores.counter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.pinup.custom.version.AggregateVersionRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static kr.co.pinup.custom.version.AggregateType.STORE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class StoreViewCounterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private MeterRegistry meterRegistry;
+
+    private AggregateVersionRegistry versionRegistry;
+
+    private StoreViewCounter storeViewCounter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        versionRegistry = new AggregateVersionRegistry();
+        storeViewCounter = new StoreViewCounter(jdbcTemplate, meterRegistry, versionRegistry);
+    }
+
+    @DisplayName("누적된 조회수를 스토어별 증가량으로 묶어 한 번의 배치 UPDATE 로 반영한다")
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush() {
+        // Arrange
+        storeViewCounter.record(1L);
+        storeViewCounter.record(1L);
+        storeViewCounter.record(2L);
+
+        // Act
+        storeViewCounter.flush();
+
+        // Assert
+        final ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        then(jdbcTemplate).should(times(1))
+                .batchUpdate(anyString(), captor.capture());
+        assertThat(captor.getValue())
+                .extracting(args -> args[1], args -> args[0])
+                .containsExactlyInAnyOrder(
+                        tuple(1L, 2L),
+                        tuple(2L, 1L));
+        assertThat(storeViewCounter.pending(1L)).isZero();
+        assertThat(meterRegistry.get("pinup.store.view.flush.size").summary().totalAmount()).isEqualTo(2.0);
+    }
+
+    @DisplayName("조회수를 반영한 스토어만 버전을 올린다")
+    @Test
+    void flushBumpsStoreVersion() {
+        // Arrange
+        storeViewCounter.record(1L);
+        final String collectionETag = versionRegistry.collectionETag(STORE);
+
+        // Act
+        storeViewCounter.flush();
+
+        // Assert
+        assertThat(versionRegistry.version(STORE, 1L)).isEqualTo(1L);
+        assertThat(versionRegistry.version(STORE, 2L)).isZero();
+        assertThat(versionRegistry.collectionETag(STORE)).isNotEqualTo(collectionETag);
+    }
+
+    @DisplayName("반영할 조회수가 없으면 UPDATE 하지 않는다")
+    @Test
+    void flushWithNoViews() {
+        // Act
+        storeViewCounter.flush();
+
+        // Assert
+        then(jdbcTemplate).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("반영에 실패하면 조회수를 되돌려 다음 주기에 다시 반영한다")
+    @Test
+    void flushFailureKeepsViews() {
+        // Arrange
+        storeViewCounter.record(1L);
+        given(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .willThrow(new DataAccessResourceFailureException("db down"));
+
+        // Act
+        storeViewCounter.flush();
+
+        // Assert
+        assertThat(storeViewCounter.pending(1L)).isEqualTo(1L);
+        assertThat(meterRegistry.get("pinup.store.view.flush.failures").counter().count()).isEqualTo(1.0);
+        assertThat(versionRegistry.version(STORE, 1L)).isZero();
+    }
+
+    @DisplayName("종료 시 남은 조회수를 반영한다")
+    @Test
+    void flushOnShutdown() {
+        // Arrange
+        storeViewCounter.record(1L);
+
+        // Act
+        storeViewCounter.flushOnShutdown();
+
+        // Assert
+        then(jdbcTemplate).should(times(1))
+                .batchUpdate(anyString(), anyList());
+    }
+}
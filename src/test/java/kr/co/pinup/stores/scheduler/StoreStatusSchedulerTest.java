@@ -0,0 +1,114 @@
+package kr.co.pinup.stores.scheduler;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.pinup.custom.logging.AppLogger;
+import kr.co.pinup.stores.event.StoreChangedEvent;
+import kr.co.pinup.stores.model.dto.StoreStatusChange;
+import kr.co.pinup.stores.repository.StoreRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static kr.co.pinup.stores.model.enums.StoreStatus.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class StoreStatusSchedulerTest {
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private AppLogger appLogger;
+
+    private MeterRegistry meterRegistry;
+
+    private StoreStatusScheduler storeStatusScheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        storeStatusScheduler = new StoreStatusScheduler(
+                storeRepository, transactionTemplate, eventPublisher, meterRegistry, appLogger);
+        ReflectionTestUtils.setField(storeStatusScheduler, "chunkSize", 2);
+
+        given(transactionTemplate.execute(any()))
+                .willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @DisplayName("상태가 바뀌어야 하는 스토어만 chunk 단위로 갱신하고 전환별 건수를 집계한다")
+    @Test
+    void updateStoreStatuses() {
+        // Arrange
+        given(storeRepository.findStatusChanges(any(), eq(0L), eq(PageRequest.ofSize(2))))
+                .willReturn(List.of(
+                        new StoreStatusChange(1L, PENDING, RESOLVED),
+                        new StoreStatusChange(3L, RESOLVED, DISMISSED)));
+        given(storeRepository.findStatusChanges(any(), eq(3L), eq(PageRequest.ofSize(2))))
+                .willReturn(List.of(new StoreStatusChange(7L, PENDING, RESOLVED)));
+
+        // Act
+        storeStatusScheduler.updateStoreStatuses();
+
+        // Assert
+        then(storeRepository).should(times(1))
+                .updateStatus(eq(List.of(1L)), eq(RESOLVED), any());
+        then(storeRepository).should(times(1))
+                .updateStatus(eq(List.of(3L)), eq(DISMISSED), any());
+        then(storeRepository).should(times(1))
+                .updateStatus(eq(List.of(7L)), eq(RESOLVED), any());
+
+        final ArgumentCaptor<StoreChangedEvent> eventCaptor = ArgumentCaptor.forClass(StoreChangedEvent.class);
+        then(eventPublisher).should(times(2))
+                .publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getAllValues())
+                .extracting(StoreChangedEvent::storeIds)
+                .containsExactly(List.of(1L, 3L), List.of(7L));
+
+        assertThat(meterRegistry.get("pinup.store.status.transitions")
+                .tags("from", "PENDING", "to", "RESOLVED").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("pinup.store.status.transitions")
+                .tags("from", "RESOLVED", "to", "DISMISSED").counter().count()).isEqualTo(1.0);
+        then(appLogger).should(times(1))
+                .info(any());
+    }
+
+    @DisplayName("바뀔 스토어가 없으면 갱신하지 않고 이벤트도 발행하지 않는다")
+    @Test
+    void updateStoreStatusesWithNoChanges() {
+        // Arrange
+        given(storeRepository.findStatusChanges(any(), anyLong(), any())).willReturn(List.of());
+
+        // Act
+        storeStatusScheduler.updateStoreStatuses();
+
+        // Assert
+        then(storeRepository).should(never())
+                .updateStatus(anyCollection(), any(), any());
+        then(eventPublisher).shouldHaveNoInteractions();
+        assertThat(meterRegistry.get("pinup.store.status.update.duration").timer().count()).isEqualTo(1L);
+    }
+}
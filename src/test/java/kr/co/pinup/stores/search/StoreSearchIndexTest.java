@@ -0,0 +1,139 @@
+package kr.co.pinup.stores.search;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.pinup.locations.event.LocationChangedEvent;
+import kr.co.pinup.stores.event.StoreChangedEvent;
+import kr.co.pinup.stores.repository.StoreRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class StoreSearchIndexTest {
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StoreSearchIndex storeSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        storeSearchIndex = new StoreSearchIndex(storeRepository, transactionManager, new SimpleMeterRegistry());
+    }
+
+    @DisplayName("전체 색인 전에는 준비되지 않은 상태이다")
+    @Test
+    void notReadyBeforeRebuild() {
+        // Act & Assert
+        assertThat(storeSearchIndex.isReady()).isFalse();
+        assertThat(storeSearchIndex.search("팝업", 10)).isEmpty();
+    }
+
+    @DisplayName("이름에 검색어가 있는 스토어를 설명에만 있는 스토어보다 먼저 반환한다")
+    @Test
+    void searchRanksNameAboveDescription() {
+        // Arrange
+        given(storeRepository.findAllSearchDocuments()).willReturn(List.of(
+                new StoreSearchDocument(1L, "성수 향수 공방", "향기로운 원데이 클래스", "뷰티", "서울 성동구 연무장길 1"),
+                new StoreSearchDocument(2L, "캐릭터 굿즈 마켓", "향수 샘플도 함께 증정합니다", "굿즈", "서울 송파구 올림픽로 300"),
+                new StoreSearchDocument(3L, "빈티지 의류", "봄 시즌 컬렉션", "패션", "서울 마포구 와우산로 10")));
+
+        // Act
+        storeSearchIndex.rebuild();
+
+        // Assert
+        assertThat(storeSearchIndex.isReady()).isTrue();
+        assertThat(storeSearchIndex.search("향수", 10)).containsExactly(1L, 2L);
+        assertThat(storeSearchIndex.search("송파구", 10)).containsExactly(2L);
+        assertThat(storeSearchIndex.search("패션", 10)).containsExactly(3L);
+        assertThat(storeSearchIndex.search("향수", 1)).containsExactly(1L);
+    }
+
+    @DisplayName("띄어쓰기, 대소문자와 관계없이 부분 단어로 검색한다")
+    @Test
+    void searchIgnoresSpacingAndCase() {
+        // Arrange
+        given(storeRepository.findAllSearchDocuments()).willReturn(List.of(
+                new StoreSearchDocument(1L, "POP-UP 팝업스토어", null, "뷰티", "서울 송파구")));
+        storeSearchIndex.rebuild();
+
+        // Act & Assert
+        assertThat(storeSearchIndex.search("pop up", 10)).containsExactly(1L);
+        assertThat(storeSearchIndex.search("업스토", 10)).containsExactly(1L);
+        assertThat(storeSearchIndex.search("팝", 10)).containsExactly(1L);
+        assertThat(storeSearchIndex.search("가나다", 10)).isEmpty();
+    }
+
+    @DisplayName("스토어 변경 이벤트를 받으면 변경된 스토어만 다시 색인한다")
+    @Test
+    void onStoreChanged() {
+        // Arrange
+        given(storeRepository.findAllSearchDocuments()).willReturn(List.of(
+                new StoreSearchDocument(1L, "향수 공방", null, "뷰티", "서울 성동구"),
+                new StoreSearchDocument(2L, "굿즈 마켓", null, "굿즈", "서울 송파구")));
+        given(storeRepository.findSearchDocumentsByIdIn(List.of(1L, 2L))).willReturn(List.of(
+                new StoreSearchDocument(1L, "캔들 공방", null, "뷰티", "서울 성동구")));
+        storeSearchIndex.rebuild();
+
+        // Act
+        storeSearchIndex.onStoreChanged(new StoreChangedEvent(List.of(1L, 2L)));
+
+        // Assert
+        assertThat(storeSearchIndex.search("향수", 10)).isEmpty();
+        assertThat(storeSearchIndex.search("캔들", 10)).containsExactly(1L);
+        assertThat(storeSearchIndex.search("굿즈", 10)).isEmpty();
+        assertThat(storeSearchIndex.size()).isEqualTo(1);
+    }
+
+    @DisplayName("위치 변경 이벤트를 받으면 해당 위치의 스토어 주소를 다시 색인한다")
+    @Test
+    void onLocationChanged() {
+        // Arrange
+        given(storeRepository.findAllSearchDocuments()).willReturn(List.of(
+                new StoreSearchDocument(1L, "향수 공방", null, "뷰티", "서울 성동구")));
+        given(storeRepository.findSearchDocumentsByLocationId(10L)).willReturn(List.of(
+                new StoreSearchDocument(1L, "향수 공방", null, "뷰티", "서울 강남구")));
+        storeSearchIndex.rebuild();
+
+        // Act
+        storeSearchIndex.onLocationChanged(new LocationChangedEvent(10L));
+
+        // Assert
+        assertThat(storeSearchIndex.search("성동구", 10)).isEmpty();
+        assertThat(storeSearchIndex.search("강남구", 10)).containsExactly(1L);
+    }
+
+    @DisplayName("전체 색인 중에 위치가 바뀌면 해당 스토어를 모아 두었다가 색인 교체 후 다시 색인한다")
+    @Test
+    void onLocationChangedWhileRebuilding() {
+        // Arrange
+        given(storeRepository.findAllSearchDocuments()).willAnswer(invocation -> {
+            // 전체 색인이 옛 주소를 읽은 뒤에 위치 변경이 커밋된다.
+            storeSearchIndex.onLocationChanged(new LocationChangedEvent(10L));
+            return List.of(new StoreSearchDocument(1L, "향수 공방", null, "뷰티", "서울 성동구"));
+        });
+        given(storeRepository.findSearchDocumentsByLocationId(10L)).willReturn(List.of(
+                new StoreSearchDocument(1L, "향수 공방", null, "뷰티", "서울 강남구")));
+        given(storeRepository.findSearchDocumentsByIdIn(List.of(1L))).willReturn(List.of(
+                new StoreSearchDocument(1L, "향수 공방", null, "뷰티", "서울 강남구")));
+
+        // Act
+        storeSearchIndex.rebuild();
+
+        // Assert
+        assertThat(storeSearchIndex.search("성동구", 10)).isEmpty();
+        assertThat(storeSearchIndex.search("강남구", 10)).containsExactly(1L);
+    }
+}
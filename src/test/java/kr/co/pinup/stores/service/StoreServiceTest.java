@@ -1,5 +1,6 @@
 package kr.co.pinup.stores.service;
 
+import kr.co.pinup.custom.pagination.CursorPageResponse;
 import kr.co.pinup.locations.Location;
 import kr.co.pinup.locations.service.LocationService;
 import kr.co.pinup.storecategories.StoreCategory;
@@ -10,13 +11,22 @@ import kr.co.pinup.storeoperatinghour.StoreOperatingHour;
 import kr.co.pinup.storeoperatinghour.model.dto.StoreOperatingHourRequest;
 import kr.co.pinup.storeoperatinghour.service.StoreOperatingHourService;
 import kr.co.pinup.stores.Store;
+import kr.co.pinup.stores.catalog.StoreCatalog;
+import kr.co.pinup.stores.catalog.StoreCatalogEntry;
+import kr.co.pinup.stores.catalog.StoreCatalogSnapshot;
+import kr.co.pinup.stores.counter.StoreViewCounter;
+import kr.co.pinup.stores.event.StoreChangedEvent;
+import kr.co.pinup.stores.exception.InvalidStoreCursorException;
 import kr.co.pinup.stores.exception.StoreNotFoundException;
+import kr.co.pinup.stores.model.dto.StoreCursor;
 import kr.co.pinup.stores.model.dto.StoreRequest;
 import kr.co.pinup.stores.model.dto.StoreResponse;
+import kr.co.pinup.stores.model.dto.StoreSearchCondition;
 import kr.co.pinup.stores.model.dto.StoreThumbnailResponse;
 import kr.co.pinup.stores.model.dto.StoreUpdateRequest;
 import kr.co.pinup.stores.model.enums.StoreStatus;
 import kr.co.pinup.stores.repository.StoreRepository;
+import kr.co.pinup.stores.search.StoreSearchIndex;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,6 +34,9 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDate;
@@ -58,6 +71,18 @@ public class StoreServiceTest {
     @Mock
     private StoreOperatingHourService operatingHourService;
 
+    @Mock
+    private StoreCatalog storeCatalog;
+
+    @Mock
+    private StoreViewCounter storeViewCounter;
+
+    @Mock
+    private StoreSearchIndex storeSearchIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private StoreService storeService;
 
@@ -87,143 +112,75 @@ public class StoreServiceTest {
                 .findAllByIsDeletedFalse();
     }
 
-    @DisplayName("진행상태, 자치구 필터로 팝업스토어 리스트 전체 조회")
+    @DisplayName("기준 좌표 반경 안의 팝업스토어를 스냅샷에서 가까운 순으로 조회")
     @Test
-    void findAllWithStoreStatusNotAllAndSigunguNotAll() {
+    void getStoresNearby() {
         // Arrange
-        final StoreStatus storeStatus = RESOLVED;
-        final String sigungu = "송파구";
-
-        final Store store1 = createStore("Store 1", "Store description 1", RESOLVED);
-        final Store store2 = createStore("Store 2", "Store description 2", PENDING);
-        final Store store3 = createStore("Store 3", "Store description 3", RESOLVED);
+        final StoreThumbnailResponse store1 = createThumbnail(1L, "Store 1", RESOLVED, "송파구");
+        final StoreThumbnailResponse store2 = createThumbnail(2L, "Store 2", PENDING, "송파구");
 
-        given(storeRepository.findAllByLocation_SigunguAndStoreStatusAndIsDeletedFalse(sigungu, storeStatus))
-                .willReturn(List.of(store1, store3));
+        given(storeCatalog.snapshot()).willReturn(snapshotOf(List.of(store1, store2)));
 
         // Act
-        final List<StoreThumbnailResponse> result = storeService.findAll(storeStatus, sigungu);
+        final List<StoreThumbnailResponse> result =
+                storeService.getStoresNearby(37.513713, 127.104302, 1000, RESOLVED, 10);
 
         // Assert
-        assertThat(result).hasSize(2);
+        assertThat(result).containsExactly(store1);
 
-        then(storeRepository).should(times(1))
-                .findAllByLocation_SigunguAndStoreStatusAndIsDeletedFalse(sigungu, storeStatus);
-        then(storeRepository).should(times(0))
-                .findAllByStoreStatusAndIsDeletedFalse(storeStatus);
-        then(storeRepository).should(times(0))
-                .findAllByLocation_SigunguAndIsDeletedFalse(sigungu);
-        then(storeRepository).should(times(0))
-                .findAllByIsDeletedFalse();
+        then(storeRepository).shouldHaveNoInteractions();
     }
 
-    @DisplayName("진행상태 필터로 팝업스토어 리스트 전체 조회")
+    @DisplayName("검색 색인이 준비되면 색인 순위대로 팝업스토어를 반환한다")
     @Test
-    void findAllWithStoreStatusNotAllAndSigunguAll() {
+    void searchStores() {
         // Arrange
-        final StoreStatus storeStatus = RESOLVED;
-        final String sigungu = "all";
-
-        final Store store1 = createStore("Store 1", "Store description 1", RESOLVED);
-        final Store store2 = createStore("Store 2", "Store description 2", PENDING);
-        final Store store3 = createStore("Store 3", "Store description 3", RESOLVED);
+        final StoreThumbnailResponse store1 = createThumbnail(1L, "Store 1", RESOLVED, "송파구");
+        final StoreThumbnailResponse store2 = createThumbnail(2L, "Store 2", PENDING, "송파구");
 
-        given(storeRepository.findAllByStoreStatusAndIsDeletedFalse(storeStatus)).willReturn(List.of(store1, store3));
+        given(storeSearchIndex.isReady()).willReturn(true);
+        given(storeSearchIndex.search("향수", 10)).willReturn(List.of(2L, 3L, 1L));
+        given(storeCatalog.snapshot()).willReturn(snapshotOf(List.of(store1, store2)));
 
         // Act
-        final List<StoreThumbnailResponse> result = storeService.findAll(storeStatus, sigungu);
+        final List<StoreThumbnailResponse> result = storeService.searchStores("향수", 10);
 
         // Assert
-        assertThat(result).hasSize(2);
+        assertThat(result).containsExactly(store2, store1);
 
-        then(storeRepository).should(times(0))
-                .findAllByLocation_SigunguAndStoreStatusAndIsDeletedFalse(sigungu, storeStatus);
-        then(storeRepository).should(times(1))
-                .findAllByStoreStatusAndIsDeletedFalse(storeStatus);
-        then(storeRepository).should(times(0))
-                .findAllByLocation_SigunguAndIsDeletedFalse(sigungu);
-        then(storeRepository).should(times(0))
-                .findAllByIsDeletedFalse();
+        then(storeRepository).shouldHaveNoInteractions();
     }
 
-    @DisplayName("자치구 필터로 팝업스토어 리스트 전체 조회")
+    @DisplayName("검색 색인이 준비되기 전에는 DB 부분 일치 검색으로 응답한다")
     @Test
-    void findAllWithStoreStatusAllAndSigunguNotAll() {
+    void searchStoresBeforeIndexReady() {
         // Arrange
-        final StoreStatus storeStatus = null;
-        final String sigungu = "송파구";
-
-        final Store store1 = createStore("Store 1", "Store description 1", RESOLVED);
-        final Store store2 = createStore("Store 2", "Store description 2", PENDING);
-        final Store store3 = createStore("Store 3", "Store description 3", RESOLVED);
+        final StoreThumbnailResponse store1 = createThumbnail(1L, "Store 1", RESOLVED, "송파구");
 
-        given(storeRepository.findAllByLocation_SigunguAndIsDeletedFalse(sigungu))
-                .willReturn(List.of(store1, store2, store3));
+        given(storeSearchIndex.isReady()).willReturn(false);
+        given(storeRepository.findIdsByKeyword(eq("향수"), any(PageRequest.class))).willReturn(List.of(1L));
+        given(storeCatalog.snapshot()).willReturn(snapshotOf(List.of(store1)));
 
         // Act
-        final List<StoreThumbnailResponse> result = storeService.findAll(storeStatus, sigungu);
+        final List<StoreThumbnailResponse> result = storeService.searchStores(" 향수 ", 10);
 
         // Assert
-        assertThat(result).hasSize(3);
+        assertThat(result).containsExactly(store1);
 
-        then(storeRepository).should(times(0))
-                .findAllByLocation_SigunguAndStoreStatusAndIsDeletedFalse(sigungu, storeStatus);
-        then(storeRepository).should(times(0))
-                .findAllByStoreStatusAndIsDeletedFalse(storeStatus);
-        then(storeRepository).should(times(1))
-                .findAllByLocation_SigunguAndIsDeletedFalse(sigungu);
-        then(storeRepository).should(times(0))
-                .findAllByIsDeletedFalse();
-    }
-
-    @DisplayName("필터 없이 팝업스토어 리스트 전체 조회")
-    @Test
-    void findAllWithStoreStatusAllAndSigunguAll() {
-        // Arrange
-        final StoreStatus storeStatus = null;
-        final String sigungu = "all";
-
-        final Store store1 = createStore("Store 1", "Store description 1", RESOLVED);
-        final Store store2 = createStore("Store 2", "Store description 2", PENDING);
-        final Store store3 = createStore("Store 3", "Store description 3", RESOLVED);
-
-        given(storeRepository.findAllByIsDeletedFalse()).willReturn(List.of(store1, store2, store3));
-
-        // Act
-        final List<StoreThumbnailResponse> result = storeService.findAll(storeStatus, sigungu);
-
-        // Assert
-        assertThat(result).hasSize(3);
-
-        then(storeRepository).should(times(0))
-                .findAllByLocation_SigunguAndStoreStatusAndIsDeletedFalse(sigungu, storeStatus);
-        then(storeRepository).should(times(0))
-                .findAllByStoreStatusAndIsDeletedFalse(storeStatus);
-        then(storeRepository).should(times(0))
-                .findAllByLocation_SigunguAndIsDeletedFalse(sigungu);
-        then(storeRepository).should(times(1))
-                .findAllByIsDeletedFalse();
+        then(storeSearchIndex).should(never())
+                .search(anyString(), anyInt());
     }
 
     @DisplayName("팝업스토어 상태를 정렬해서 limit 수만큼 조회한다")
     @Test
     void getStoresThumbnailWithLimit() {
         // Arrange
-        final Store store1 = createStore("Store 1", "Store description 1", RESOLVED);
-        final Store store2 = createStore("Store 2", "Store description 2", PENDING);
-        final Store store3 = createStore("Store 3", "Store description 3", RESOLVED);
-        final Store store4 = createStore("Store 4", "Store description 4", RESOLVED);
-
-        store1.addImages(List.of(
-                createStoreImage("http://127.0.0.1:4566/pinup/store/image1.png")));
-        store2.addImages(List.of(
-                createStoreImage("http://127.0.0.1:4566/pinup/store/image2.png")));
-        store3.addImages(List.of(
-                createStoreImage("http://127.0.0.1:4566/pinup/store/image3.png")));
-        store4.addImages(List.of(
-                createStoreImage("http://127.0.0.1:4566/pinup/store/image4.png")));
-
-        given(storeRepository.findAllByIsDeletedFalse()).willReturn(List.of(store1, store2, store3, store4));
+        final StoreThumbnailResponse store1 = createThumbnail(1L, "Store 1", RESOLVED, "송파구");
+        final StoreThumbnailResponse store2 = createThumbnail(2L, "Store 2", PENDING, "송파구");
+        final StoreThumbnailResponse store3 = createThumbnail(3L, "Store 3", RESOLVED, "송파구");
+        final StoreThumbnailResponse store4 = createThumbnail(4L, "Store 4", RESOLVED, "송파구");
+
+        given(storeCatalog.snapshot()).willReturn(snapshotOf(List.of(store1, store2, store3, store4)));
 
         // Act
         final List<StoreThumbnailResponse> result = storeService.getStoresThumbnailWithLimit(3);
@@ -232,66 +189,12 @@ public class StoreServiceTest {
         assertThat(result).hasSize(3)
                 .extracting("name", "status", "thumbnailImage")
                 .containsExactly(
-                        tuple(store1.getName(), store1.getStoreStatus(), store1.getStoreImages().get(0).getImageUrl()),
-                        tuple(store3.getName(), store3.getStoreStatus(), store3.getStoreImages().get(0).getImageUrl()),
-                        tuple(store4.getName(), store4.getStoreStatus(), store4.getStoreImages().get(0).getImageUrl())
-                );
-
-        then(storeRepository).should(times(1))
-                .findAllByIsDeletedFalse();
-    }
-
-    @DisplayName("팝업스토어 상태를 우선순위로 정렬해서 조회한다")
-    @Test
-    void getStoresSortedByStatusPriority() {
-        // Arrange
-        final Store store1 = createStore("Store 1", "Store description 1", DISMISSED);
-        final Store store2 = createStore("Store 2", "Store description 2", PENDING);
-        final Store store3 = createStore("Store 3", "Store description 3", RESOLVED);
-
-        given(storeRepository.findAllByIsDeletedFalse()).willReturn(List.of(store1, store2, store3));
-
-        // Act
-        final List<StoreThumbnailResponse> result = storeService.getStoresSortedByStatusPriority();
-
-        // Assert
-        assertThat(result).hasSize(3)
-                .extracting("name", "status")
-                .containsExactly(
-                        tuple(store3.getName(), store3.getStoreStatus()),
-                        tuple(store2.getName(), store2.getStoreStatus()),
-                        tuple(store1.getName(), store1.getStoreStatus())
-                );
-
-        then(storeRepository).should(times(1))
-                .findAllByIsDeletedFalse();
-    }
-
-    @DisplayName("스토어 상태로 팝업스토어를 조회한다")
-    @Test
-    void getStoresByStatus() {
-        // Arrange
-        final StoreStatus storeStatus = PENDING;
-
-        final Store store1 = createStore("Store 1", "Store description 1", PENDING);
-        final Store store2 = createStore("Store 2", "Store description 2", PENDING);
-
-        given(storeRepository.findAllByStoreStatusAndIsDeletedFalse(storeStatus))
-                .willReturn(List.of(store1, store2));
-
-        // Act
-        final List<StoreThumbnailResponse> result = storeService.getStoresByStatus(storeStatus);
-
-        // Assert
-        assertThat(result).hasSize(2)
-                .extracting("name", "status")
-                .containsExactly(
-                        tuple(store1.getName(), store1.getStoreStatus()),
-                        tuple(store2.getName(), store2.getStoreStatus())
+                        tuple(store1.name(), store1.status(), store1.thumbnailImage()),
+                        tuple(store3.name(), store3.status(), store3.thumbnailImage()),
+                        tuple(store4.name(), store4.status(), store4.thumbnailImage())
                 );
 
-        then(storeRepository).should(times(1))
-                .findAllByStoreStatusAndIsDeletedFalse(storeStatus);
+        then(storeRepository).shouldHaveNoInteractions();
     }
 
     @DisplayName("스토어 ID로 해당 팝업스토어를 조회한다")
@@ -302,7 +205,7 @@ public class StoreServiceTest {
 
         final Store store = createStore("store 1", "description 1", PENDING);
 
-        given(storeRepository.findById(storeId)).willReturn(Optional.ofNullable(store));
+        given(storeRepository.findDetailById(storeId)).willReturn(Optional.ofNullable(store));
 
         // Act
         final StoreResponse result = storeService.getStoreById(storeId);
@@ -314,7 +217,7 @@ public class StoreServiceTest {
         assertThat(result.status()).isEqualTo(store.getStoreStatus());
 
         then(storeRepository).should(times(1))
-                .findById(storeId);
+                .findDetailById(storeId);
     }
 
     @DisplayName("존재하지 않는 스토어 ID로 해당 팝업스토어를 조회하면 에외가 발생한다")
@@ -323,7 +226,7 @@ public class StoreServiceTest {
         // Arrange
         final long storeId = Long.MAX_VALUE;
 
-        given(storeRepository.findById(storeId)).willThrow(new StoreNotFoundException());
+        given(storeRepository.findDetailById(storeId)).willThrow(new StoreNotFoundException());
 
         // Act Assert
         assertThatThrownBy(() -> storeService.getStoreById(storeId))
@@ -331,54 +234,84 @@ public class StoreServiceTest {
                 .hasMessage("해당 스토어가 존재하지 않습니다.");
 
         then(storeRepository).should(times(1))
-                .findById(storeId);
+                .findDetailById(storeId);
     }
 
-    @DisplayName("진행상태, 자치구 필터로 팝업스토어를 조회한다")
+    @DisplayName("팝업스토어 조회수를 기록한다")
     @Test
-    void getStoresByStatusAndLocationBySigungu() {
+    void recordView() {
         // Arrange
-        final StoreStatus storeStatus = PENDING;
-        final String sigungu = "송파구";
+        final long storeId = 1L;
 
-        final Store store1 = createStore("Store 1", "Store description 1", RESOLVED);
-        final Store store2 = createStore("Store 2", "Store description 2", PENDING);
-        final Store store3 = createStore("Store 3", "Store description 3", RESOLVED);
+        // Act
+        storeService.recordView(storeId);
 
-        given(storeRepository.findAllByLocation_SigunguAndStoreStatusAndIsDeletedFalse(sigungu, storeStatus))
-                .willReturn(List.of(store2));
+        // Assert
+        then(storeViewCounter).should(times(1))
+                .record(storeId);
+        then(storeRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("size + 1 개를 조회해 다음 페이지가 있으면 마지막 항목으로 커서를 만든다")
+    @Test
+    void getStoreThumbnailPageWithNext() {
+        // Arrange
+        final int size = 2;
+        final StoreSearchCondition condition = new StoreSearchCondition(null, "송파구", 1L);
+
+        final StoreThumbnailResponse store1 = createThumbnail(1L, "Store 1", RESOLVED, "송파구");
+        final StoreThumbnailResponse store2 = createThumbnail(2L, "Store 2", PENDING, "송파구");
+        final StoreThumbnailResponse store3 = createThumbnail(3L, "Store 3", PENDING, "송파구");
+
+        given(storeRepository.findThumbnailPageByStatusPriority(null, "송파구", 1L, -1, 0L, PageRequest.ofSize(size + 1)))
+                .willReturn(List.of(store1, store2, store3));
 
         // Act
-        final List<StoreThumbnailResponse> result = storeService.getStoresByStatusAndLocationBySigungu(storeStatus, sigungu);
+        final CursorPageResponse<StoreThumbnailResponse> result =
+                storeService.getStoreThumbnailPage(condition, null, size);
 
         // Assert
-        assertThat(result).hasSize(1);
-
-        then(storeRepository).should(times(1))
-                .findAllByLocation_SigunguAndStoreStatusAndIsDeletedFalse(sigungu, storeStatus);
+        assertThat(result.items()).containsExactly(store1, store2);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(StoreCursor.decode(result.nextCursor())).isEqualTo(new StoreCursor(PENDING.getOrder(), 2L));
     }
 
-    @DisplayName("자치구 필터로 팝업스토어를 조회한다")
+    @DisplayName("커서 이후의 팝업스토어를 조회하고 마지막 페이지면 커서를 만들지 않는다")
     @Test
-    void getStoresByLocationBySigungu() {
+    void getStorePageWithCursor() {
         // Arrange
-        final String sigungu = "송파구";
+        final int size = 2;
+        final String cursor = new StoreCursor(RESOLVED.getOrder(), 1L).encode();
+        final StoreSearchCondition condition = new StoreSearchCondition(null, null, null);
 
-        final Store store1 = createStore("Store 1", "Store description 1", RESOLVED);
-        final Store store2 = createStore("Store 2", "Store description 2", PENDING);
-        final Store store3 = createStore("Store 3", "Store description 3", RESOLVED);
+        final Store store = createStore("store 2", "description 2", PENDING);
+        ReflectionTestUtils.setField(store, "id", 2L);
 
-        given(storeRepository.findAllByLocation_SigunguAndIsDeletedFalse(sigungu))
-                .willReturn(List.of(store1, store2, store3));
+        given(storeRepository.findPageByStatusPriority(null, null, null, RESOLVED.getOrder(), 1L,
+                PageRequest.ofSize(size + 1)))
+                .willReturn(List.of(store));
 
         // Act
-        final List<StoreThumbnailResponse> result = storeService.getStoresByLocationBySigungu(sigungu);
+        final CursorPageResponse<StoreResponse> result = storeService.getStorePage(condition, cursor, size);
 
         // Assert
-        assertThat(result).hasSize(3);
+        assertThat(result.items()).hasSize(1);
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.nextCursor()).isNull();
+    }
 
-        then(storeRepository).should(times(1))
-                .findAllByLocation_SigunguAndIsDeletedFalse(sigungu);
+    @DisplayName("잘못된 커서로 조회하면 예외가 발생한다")
+    @Test
+    void getStorePageWithInvalidCursor() {
+        // Arrange
+        final StoreSearchCondition condition = new StoreSearchCondition(null, null, null);
+
+        // Act Assert
+        assertThatThrownBy(() -> storeService.getStorePage(condition, "invalid-cursor", 10))
+                .isInstanceOf(InvalidStoreCursorException.class)
+                .hasMessage("잘못된 페이지 커서입니다.");
+
+        then(storeRepository).shouldHaveNoInteractions();
     }
 
     @DisplayName("팝업스토어 정보를 저장한다")
@@ -420,6 +353,9 @@ public class StoreServiceTest {
         then(imageService).should(times(1))
                 .createUploadImages(any(), any(), eq(0L));
 
+        then(eventPublisher).should(times(1))
+                .publishEvent(any(StoreChangedEvent.class));
+
         final Store saved = storeCaptor.getValue();
         assertThat(saved.getName()).isEqualTo(request.name());
         assertThat(saved.getDescription()).isEqualTo(request.description());
@@ -468,6 +404,8 @@ public class StoreServiceTest {
                 .updateUploadImages(any(), any(), anyLong(), anyLong());
         then(mockStore).should(times(1))
                 .addImages(mockImages);
+        then(eventPublisher).should(times(1))
+                .publishEvent(StoreChangedEvent.of(storeId));
     }
 
     @DisplayName("존재하지 않는 팝업스토어 ID로 팝업스토어 수정 시 예외가 발생한다")
@@ -507,6 +445,8 @@ public class StoreServiceTest {
                 .findById(storeId);
         then(mockStore).should(times(1))
                 .deleteStore(true);
+        then(eventPublisher).should(times(1))
+                .publishEvent(StoreChangedEvent.of(storeId));
     }
 
     @DisplayName("존재하지 않는 팝업스토어 ID로 팝업스토어 삭제 시 예외가 발생한다")
@@ -526,6 +466,26 @@ public class StoreServiceTest {
                 .findById(storeId);
     }
 
+    private StoreCatalogSnapshot snapshotOf(final List<StoreThumbnailResponse> stores) {
+        return StoreCatalogSnapshot.of(stores.stream()
+                .map(store -> new StoreCatalogEntry(store, 1L, 1L, "서울", 37.513713, 127.104302, 0L))
+                .toList());
+    }
+
+    private StoreThumbnailResponse createThumbnail(
+            final Long id, final String name, final StoreStatus status, final String sigungu) {
+        return new StoreThumbnailResponse(
+                id,
+                name,
+                status,
+                LocalDate.now(),
+                LocalDate.now().plusDays(10),
+                "뷰티",
+                sigungu,
+                "http://127.0.0.1:4566/pinup/store/image" + id + ".png"
+        );
+    }
+
     private StoreCategory createCategory() {
         return StoreCategory.builder()
                 .name("뷰티")
@@ -544,13 +504,6 @@ public class StoreServiceTest {
                 .build();
     }
 
-    private StoreImage createStoreImage(final String url) {
-        return StoreImage.builder()
-                .imageUrl(url)
-                .isThumbnail(true)
-                .build();
-    }
-
     private StoreOperatingHourRequest createOperatingHourRequest() {
         return StoreOperatingHourRequest.builder()
                 .days("월~금")
@@ -0,0 +1,14 @@
+package kr.co.pinup.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+@TestConfiguration
+public class QueryCountSupport {
+
+    @Bean
+    public QueryCounter queryCounter(final EntityManagerFactory entityManagerFactory) {
+        return new QueryCounter(entityManagerFactory);
+    }
+}
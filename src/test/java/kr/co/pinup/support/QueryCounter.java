@@ -0,0 +1,26 @@
+package kr.co.pinup.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+/**
+ * Hibernate 통계로 실행된 SQL 문 수를 센다.
+ */
+public class QueryCounter {
+
+    private final Statistics statistics;
+
+    public QueryCounter(final EntityManagerFactory entityManagerFactory) {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    public void reset() {
+        statistics.clear();
+    }
+
+    public long count() {
+        return statistics.getPrepareStatementCount();
+    }
+}